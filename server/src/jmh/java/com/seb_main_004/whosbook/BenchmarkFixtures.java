@@ -0,0 +1,84 @@
+package com.seb_main_004.whosbook;
+
+import com.seb_main_004.whosbook.book.entity.Book;
+import com.seb_main_004.whosbook.book.entity.BookCuration;
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.dto.CurationListQueryDto;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.entity.CurationImage;
+import com.seb_main_004.whosbook.curation.entity.CurationSaveImage;
+import com.seb_main_004.whosbook.member.entity.Member;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+//벤치마크 공통 데이터 : 실제 응답과 비슷한 크기의 회원/큐레이션
+public final class BenchmarkFixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 7, 1, 12, 0);
+
+    private static final String CONTENT = "<p>" + "이 책은 올해 읽은 책 중 가장 오래 기억에 남을 것 같습니다. ".repeat(20) + "</p>";
+
+    private BenchmarkFixtures() { }
+
+    public static Member member(long memberId) {
+        Member member = new Member("curator" + memberId + "@email.com", "curator" + memberId,
+                "https://whosbook.s3.ap-northeast-2.amazonaws.com/memberImages/" + memberId + ".png");
+        member.setMemberId(memberId);
+        member.setPassword("password");
+        member.setIntroduction("책을 소개하는 큐레이터 " + memberId + " 입니다.");
+        member.setRoles(List.of("USER"));
+        return member;
+    }
+
+    public static Curation curation(long curationId, Member member) {
+        Category category = new Category("소설");
+        category.setCategoryId(curationId % 10 + 1);
+
+        Curation curation = new Curation();
+        curation.setCurationId(curationId);
+        curation.setEmoji("📚");
+        curation.setTitle("큐레이션 제목 " + curationId);
+        curation.setContent(CONTENT);
+        curation.setMember(member);
+        curation.setCategory(category);
+        curation.setCurationLikeCount((int) (curationId * 7 % 500));
+        curation.setCreatedAt(NOW.minusHours(curationId));
+        curation.setUpdatedAt(NOW.minusHours(curationId));
+
+        Book book = new Book("책 제목 " + curationId, "저자", "출판사",
+                "https://search1.kakaocdn.net/thumb/" + curationId, "https://search.daum.net/search?q=" + curationId,
+                String.valueOf(9788937460000L + curationId));
+        curation.setBookCurations(new ArrayList<>(List.of(new BookCuration(book, curation))));
+
+        List<CurationSaveImage> images = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            CurationImage image = new CurationImage("curationImages/" + curationId + "-" + i + ".png", "curationImages");
+            image.setCurationImageId(curationId * 10 + i);
+            images.add(new CurationSaveImage(curation, image));
+        }
+        curation.setCurationSaveImages(images);
+        return curation;
+    }
+
+    public static List<Curation> curations(int size) {
+        List<Curation> curations = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            curations.add(curation(id, member(id % 5 + 1)));
+        }
+        return curations;
+    }
+
+    public static List<CurationListQueryDto> curationListItems(int size) {
+        List<CurationListQueryDto> curations = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            Member member = member(id % 5 + 1);
+            curations.add(new CurationListQueryDto(id, "📚", "큐레이션 제목 " + id, CONTENT, (int) (id * 7 % 500),
+                    (int) (id % 30), NOW.minusHours(id), NOW.minusHours(id),
+                    member.getMemberId(), member.getEmail(), member.getNickname(), member.getIntroduction(),
+                    member.getImageUrl(), member.isImageVariantsStored(), id % 10 + 1, "소설"));
+        }
+        return curations;
+    }
+}
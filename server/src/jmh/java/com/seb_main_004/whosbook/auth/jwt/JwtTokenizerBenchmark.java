@@ -0,0 +1,53 @@
+package com.seb_main_004.whosbook.auth.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//로그인 시 토큰 발급, 요청마다 토큰 검증 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenizerBenchmark {
+
+    private static final String SECRET_KEY = "whosbook-benchmark-secret-key-which-is-long-enough-for-hs256";
+
+    private JwtTokenizer jwtTokenizer;
+    private Map<String, Object> claims;
+    private Date expiration;
+    private String base64EncodedSecretKey;
+    private String jws;
+
+    @Setup
+    public void setUp() {
+        jwtTokenizer = new JwtTokenizer(SECRET_KEY, 30, 420, 10000, 300);
+        claims = Map.of("username", "curator@email.com", "roles", List.of("USER"));
+        expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes());
+        base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
+        jws = jwtTokenizer.generateAccessToken(claims, "curator@email.com", expiration, base64EncodedSecretKey);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtTokenizer.generateAccessToken(claims, "curator@email.com", expiration, base64EncodedSecretKey);
+    }
+
+    @Benchmark
+    public Object getClaims() {
+        return jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();
+    }
+
+    @Benchmark
+    public Object getVerifiedClaims() {
+        return jwtTokenizer.getVerifiedClaims(jws);
+    }
+}
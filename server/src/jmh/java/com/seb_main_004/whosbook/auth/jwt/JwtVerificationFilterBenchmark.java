@@ -0,0 +1,123 @@
+package com.seb_main_004.whosbook.auth.jwt;
+
+import com.seb_main_004.whosbook.auth.filter.JwtVerificationFilter;
+import com.seb_main_004.whosbook.auth.utils.CustomAuthorityUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//JwtVerificationFilter 요청 1건당 비용 비교
+//perRequestKeyAndParser : 요청마다 Base64 인코딩/디코딩, HMAC 키, 파서 생성 (변경 전)
+//sharedParser           : 시작 시 만든 키/파서로 서명 검증 (토큰 캐시 미사용)
+//verifiedTokenCache     : 최근에 검증한 토큰은 서명 검증 생략
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationFilterBenchmark {
+
+    private static final String SECRET_KEY = "whosbook-benchmark-secret-key-which-is-long-enough-for-hs256";
+
+    private String authorization;
+    private JwtTokenizer jwtTokenizer;
+    private JwtTokenizer noCacheJwtTokenizer;
+    private OncePerRequestFilter legacyFilter;
+    private JwtVerificationFilter sharedParserFilter;
+    private JwtVerificationFilter cachedFilter;
+
+    @Setup
+    public void setUp() {
+        jwtTokenizer = new JwtTokenizer(SECRET_KEY, 30, 420, 10000, 300);
+        noCacheJwtTokenizer = new JwtTokenizer(SECRET_KEY, 30, 420, 0, 300);
+
+        String jws = jwtTokenizer.generateAccessToken(
+                Map.of("username", "curator@email.com", "roles", List.of("USER")),
+                "curator@email.com",
+                jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMinutes()),
+                jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey()));
+        authorization = "Bearer " + jws;
+
+        CustomAuthorityUtils authorityUtils = new CustomAuthorityUtils();
+        legacyFilter = new LegacyJwtVerificationFilter(authorityUtils);
+        sharedParserFilter = new JwtVerificationFilter(noCacheJwtTokenizer, authorityUtils);
+        cachedFilter = new JwtVerificationFilter(jwtTokenizer, authorityUtils);
+    }
+
+    @Benchmark
+    public Object perRequestKeyAndParser() throws ServletException, IOException {
+        return doFilter(legacyFilter);
+    }
+
+    @Benchmark
+    public Object sharedParser() throws ServletException, IOException {
+        return doFilter(sharedParserFilter);
+    }
+
+    @Benchmark
+    public Object verifiedTokenCache() throws ServletException, IOException {
+        return doFilter(cachedFilter);
+    }
+
+    private Object doFilter(OncePerRequestFilter filter) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", authorization);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    //변경 전 JwtVerificationFilter 의 검증 과정
+    private static class LegacyJwtVerificationFilter extends OncePerRequestFilter {
+
+        private final CustomAuthorityUtils authorityUtils;
+
+        LegacyJwtVerificationFilter(CustomAuthorityUtils authorityUtils) {
+            this.authorityUtils = authorityUtils;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            String jws = request.getHeader("Authorization").replace("Bearer ", "");
+            String base64EncodedSecretKey = Encoders.BASE64.encode(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+            Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64EncodedSecretKey));
+
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build()
+                    .parseClaimsJws(jws)
+                    .getBody();
+
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    claims.get("username"), null, authorityUtils.createAuthorities((List) claims.get("roles"))));
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.seb_main_004.whosbook.curation.mapper;
+
+import com.seb_main_004.whosbook.BenchmarkFixtures;
+import com.seb_main_004.whosbook.curation.dto.CurationListQueryDto;
+import com.seb_main_004.whosbook.curation.dto.CurationListResponseDto;
+import com.seb_main_004.whosbook.curation.dto.CurationMultiResponseDto;
+import com.seb_main_004.whosbook.curation.dto.CurationSingleDetailResponseDto;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//큐레이션 목록(페이지 크기별) / 상세 응답 매핑 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CurationMapperBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private CurationMapper curationMapper;
+    private List<Curation> curations;
+    private List<CurationListQueryDto> curationListItems;
+    private Curation curation;
+
+    @Setup
+    public void setUp() {
+        curationMapper = new CurationMapperImpl();
+        curations = BenchmarkFixtures.curations(pageSize);
+        curationListItems = BenchmarkFixtures.curationListItems(pageSize);
+        curation = curations.get(0);
+    }
+
+    @Benchmark
+    public List<CurationListResponseDto> entityList() {
+        return curationMapper.curationsToCurationListResponseDtos(curations);
+    }
+
+    @Benchmark
+    public List<CurationListResponseDto> projectionList() {
+        return curationMapper.curationListQueryDtosToCurationListResponseDtos(curationListItems);
+    }
+
+    @Benchmark
+    public List<CurationMultiResponseDto> multiList() {
+        return curationMapper.curationsToCurationMultiListResponseDtos(curations);
+    }
+
+    @Benchmark
+    public CurationSingleDetailResponseDto detail() {
+        return curationMapper.curationToCurationSingleDetailResponseDto(curation);
+    }
+}
@@ -0,0 +1,112 @@
+package com.seb_main_004.whosbook.curation.search;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+//큐레이션 검색 : documentCount 건이 색인된 디스크 인덱스에서의 검색 지연 시간, 색인 처리량
+//(trial 마다 인덱스를 새로 만들므로 100만 건 기준 준비 시간이 김 : ./gradlew jmh -PjmhIncludes=CurationSearchBenchmark)
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CurationSearchBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] WORDS = {
+            "소설", "에세이", "여름", "겨울", "바다", "도시", "고양이", "여행", "추천", "인생", "철학", "역사",
+            "과학", "우주", "사랑", "이별", "성장", "가족", "친구", "기억", "시간", "마법", "모험", "경제",
+            "심리", "습관", "글쓰기", "독서", "요리", "음악", "그림", "영화", "산책", "새벽", "위로", "용기"
+    };
+
+    private static final String[] AUTHORS = {
+            "헤르만 헤세", "한강", "김영하", "백수린", "조앤 K. 롤링", "무라카미 하루키", "정세랑", "유발 하라리"
+    };
+
+    private static final String[] PUBLISHERS = {"민음사", "문학동네", "창비", "위즈덤하우스", "김영사", "문학수첩"};
+
+    private static final String[] QUERIES = {"여름", "고양이 여행", "헤세", "하루키", "철학 우주", "문학동네", "글쓰"};
+
+    @Param("1000000")
+    public int documentCount;
+
+    private Path indexPath;
+    private CurationSearchIndex index;
+    private Random random;
+    private int queryIndex;
+    private long nextUpdateId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        indexPath = Files.createTempDirectory("curation-search-benchmark");
+        index = CurationSearchIndex.open(indexPath.toString());
+        random = new Random(42);
+        for (long id = 1; id <= documentCount; id++) {
+            index.index(document(id));
+        }
+        index.commit();
+        index.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        index.close();
+        try (Stream<Path> files = Files.walk(indexPath)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+    public CurationSearchResult search() throws IOException {
+        String query = QUERIES[queryIndex++ % QUERIES.length];
+        return index.search(query, 0, 20);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public CurationSearchResult searchDeepPage() throws IOException {
+        return index.search("여름", 2000, 20);
+    }
+
+    //기존 문서를 교체하는 색인 (작성/수정 시와 같은 경로), 결과는 문서 한 건당 시간
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void indexBatch() throws IOException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            index.index(document(nextUpdateId++ % documentCount + 1));
+        }
+    }
+
+    private CurationDocument document(long curationId) {
+        CurationDocument document = new CurationDocument(curationId, words(3), "<p>" + words(40) + "</p>");
+        document.addBook(new CurationSearchBook(curationId, words(2),
+                AUTHORS[random.nextInt(AUTHORS.length)], PUBLISHERS[random.nextInt(PUBLISHERS.length)]));
+        return document;
+    }
+
+    private String words(int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) text.append(' ');
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package com.seb_main_004.whosbook.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import com.seb_main_004.whosbook.BenchmarkFixtures;
+import com.seb_main_004.whosbook.curation.dto.CurationListResponseDto;
+import com.seb_main_004.whosbook.curation.mapper.CurationMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//큐레이션 목록 페이지 응답(MultiResponseDto) 직렬화 비용 : Gson vs Jackson
+//LocalDateTime 은 두 라이브러리 모두 ISO-8601 문자열로 직렬화 (Spring MVC 의 Jackson 설정과 동일)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiResponseDtoSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    private MultiResponseDto<CurationListResponseDto> response;
+    private Gson gson;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        List<CurationListResponseDto> curations = new CurationMapperImpl()
+                .curationListQueryDtosToCurationListResponseDtos(BenchmarkFixtures.curationListItems(pageSize));
+        response = new MultiResponseDto<>(curations, new PageImpl<>(curations, PageRequest.of(0, pageSize), 1000));
+
+        gson = new GsonBuilder()
+                .registerTypeAdapter(LocalDateTime.class,
+                        (JsonSerializer<LocalDateTime>) (src, type, context) -> new JsonPrimitive(src.toString()))
+                .create();
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public String gson() {
+        return gson.toJson(response);
+    }
+
+    @Benchmark
+    public String jackson() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public byte[] jacksonBytes() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,46 @@
+package com.seb_main_004.whosbook.image.utils;
+
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.concurrent.TimeUnit;
+
+//이미지 업로드 시 확장자 검증 비용 (허용 / 거부)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ImageStorageUtilsBenchmark {
+
+    private MockMultipartFile acceptedImage;
+    private MockMultipartFile rejectedImage;
+
+    @Setup
+    public void setUp() {
+        byte[] content = new byte[64 * 1024];
+        acceptedImage = new MockMultipartFile("image", "Book Cover.JPEG", "image/jpeg", content);
+        rejectedImage = new MockMultipartFile("image", "book-cover.webp", "image/webp", content);
+    }
+
+    @Benchmark
+    public MockMultipartFile acceptedExtension() {
+        ImageStorageUtils.verifyImageExtension(acceptedImage);
+        return acceptedImage;
+    }
+
+    @Benchmark
+    public Object rejectedExtension() {
+        try {
+            ImageStorageUtils.verifyImageExtension(rejectedImage);
+            return rejectedImage;
+        } catch (BusinessLogicException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.seb_main_004.whosbook.member.mapper;
+
+import com.seb_main_004.whosbook.BenchmarkFixtures;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.member.dto.MemberCountDto;
+import com.seb_main_004.whosbook.member.dto.MemberResponseDto;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.service.MemberService;
+import com.seb_main_004.whosbook.subscribe.entity.Subscribe;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+//마이페이지 회원 응답 매핑 비용 (DB 조회는 제외하고 매퍼 자체 비용만 측정)
+//구독자 수/큐레이션 수는 member_stats 에서 읽으므로 회원 규모(size)와 관계없이 일정해야 함
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemberMapperClassBenchmark {
+
+    //구독자 수, 작성한 큐레이션 수
+    @Param({"10", "1000"})
+    private int size;
+
+    private MemberMapperClass memberMapper;
+    private Member member;
+
+    @Setup
+    public void setUp() {
+        member = BenchmarkFixtures.member(1L);
+        List<Subscribe> subscribers = new ArrayList<>(size);
+        for (long id = 2; id < size + 2; id++) {
+            Subscribe subscribe = new Subscribe();
+            subscribe.setSubscriber(BenchmarkFixtures.member(id));
+            subscribe.setSubscribedMember(member);
+            subscribers.add(subscribe);
+        }
+        member.setSubscribers(subscribers);
+
+        List<Curation> myCurations = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            myCurations.add(BenchmarkFixtures.curation(id, member));
+        }
+        member.setCurations(myCurations);
+
+        // DB 대신 미리 만든 member_stats 값으로 응답 (stubOnly : 호출 기록을 남기지 않아 측정 중 메모리가 늘지 않음)
+        MemberService memberService = mock(MemberService.class, withSettings().stubOnly());
+        given(memberService.findMemberCount(member))
+                .willReturn(new MemberCountDto(member.getMemberId(), (long) size, (long) size));
+        memberMapper = new MemberMapperClass(memberService);
+    }
+
+    @Benchmark
+    public MemberResponseDto memberToMemberResponseDto() {
+        return memberMapper.memberToMemberResponseDto(member);
+    }
+}
@@ -62,9 +62,9 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     private Map<String, Object> verifyJws(HttpServletRequest request) {
 
         String jws= request.getHeader("Authorization").replace("Bearer ", "");
-        String base64EncodedSecretKey= jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
 
-        Map<String,Object> claims= jwtTokenizer.getClaims(jws,base64EncodedSecretKey).getBody();
+        //미리 만들어 둔 서명 키/파서로 검증, 최근에 검증한 토큰은 캐시된 claims 사용
+        Map<String,Object> claims= jwtTokenizer.getVerifiedClaims(jws);
 
         return claims;
     }
@@ -2,6 +2,7 @@ package com.seb_main_004.whosbook.auth.jwt;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.io.Encoders;
@@ -10,6 +11,7 @@ import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Calendar;
@@ -30,9 +32,42 @@ public class JwtTokenizer {
     @Value("${jwt.refresh-token-expiration-minutes}")
     private int refreshTokenExpirationMinutes;
 
+    @Value("${jwt.verified-token-cache.maximum-size:10000}")
+    private long verifiedTokenCacheMaximumSize;
 
+    @Value("${jwt.verified-token-cache.max-ttl-seconds:300}")
+    private long verifiedTokenCacheMaxTtlSeconds;
+
+    //시크릿 키로 만든 서명 키와 파서는 시작 시 한 번만 생성해 재사용 (JwtParser 는 불변이라 스레드 간 공유 가능)
+    private String base64EncodedSecretKey;
+    private Key signingKey;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    public JwtTokenizer() { }
+
+    public JwtTokenizer(String secretKey, int accessTokenExpirationMinutes, int refreshTokenExpirationMinutes,
+                        long verifiedTokenCacheMaximumSize, long verifiedTokenCacheMaxTtlSeconds) {
+        this.secretKey = secretKey;
+        this.accessTokenExpirationMinutes = accessTokenExpirationMinutes;
+        this.refreshTokenExpirationMinutes = refreshTokenExpirationMinutes;
+        this.verifiedTokenCacheMaximumSize = verifiedTokenCacheMaximumSize;
+        this.verifiedTokenCacheMaxTtlSeconds = verifiedTokenCacheMaxTtlSeconds;
+        init();
+    }
+
+    @PostConstruct
+    public void init() {
+        base64EncodedSecretKey = encodeBase64SecretKey(secretKey);
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64EncodedSecretKey));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokenCache = new VerifiedTokenCache(verifiedTokenCacheMaximumSize, verifiedTokenCacheMaxTtlSeconds);
+    }
 
     public String encodeBase64SecretKey(String secretKey){
+        if (base64EncodedSecretKey != null && secretKey.equals(this.secretKey)) return base64EncodedSecretKey;
 
         return Encoders.BASE64.encode(secretKey.getBytes(StandardCharsets.UTF_8));
     }
@@ -66,22 +101,21 @@ public class JwtTokenizer {
     }
 
     public Jws<Claims> getClaims(String jws, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
+        return getParser(base64EncodedSecretKey).parseClaimsJws(jws);
+    }
 
-        Jws<Claims> claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
+    //최근에 검증한 토큰이면 서명 검증을 생략하고 캐시된 claims 반환 (만료 시각이 지나면 캐시에서 제외되어 다시 검증)
+    public Claims getVerifiedClaims(String jws) {
+        Claims claims = verifiedTokenCache.get(jws);
+        if (claims != null) return claims;
+
+        claims = jwtParser.parseClaimsJws(jws).getBody();
+        verifiedTokenCache.put(jws, claims);
         return claims;
     }
 
     public void verifySignature(String jws, String base64EncodedSecretKey) {
-        Key key = getKeyFromBase64EncodedKey(base64EncodedSecretKey);
-
-        Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(jws);
+        getParser(base64EncodedSecretKey).parseClaimsJws(jws);
     }
 
     // (5)
@@ -93,7 +127,17 @@ public class JwtTokenizer {
         return expiration;
     }
 
+    private JwtParser getParser(String base64EncodedSecretKey) {
+        if (base64EncodedSecretKey.equals(this.base64EncodedSecretKey)) return jwtParser;
+
+        return Jwts.parserBuilder()
+                .setSigningKey(getKeyFromBase64EncodedKey(base64EncodedSecretKey))
+                .build();
+    }
+
     private Key getKeyFromBase64EncodedKey(String base64EncodedSecretKey) {
+        if (base64EncodedSecretKey.equals(this.base64EncodedSecretKey)) return signingKey;
+
         byte[] keyBytes = Decoders.BASE64.decode(base64EncodedSecretKey);
         Key key = Keys.hmacShaKeyFor(keyBytes);
 
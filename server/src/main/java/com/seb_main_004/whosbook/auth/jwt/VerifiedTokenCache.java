@@ -0,0 +1,93 @@
+package com.seb_main_004.whosbook.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+//서명 검증을 마친 토큰의 claims 캐시
+//토큰 원문 대신 SHA-256 해시를 키로 사용하고, 토큰의 만료 시각(최대 maxTtl)까지만 보관
+//maximumSize 가 0 이면 캐시하지 않음
+class VerifiedTokenCache {
+
+    private final boolean enabled;
+    private final Cache<String, Claims> cache;
+    private final long maxTtlNanos;
+
+    VerifiedTokenCache(long maximumSize, long maxTtlSeconds) {
+        this.enabled = maximumSize > 0;
+        this.maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return ttlNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return ttlNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    Claims get(String jws) {
+        if (!enabled) return null;
+
+        String key = hash(jws);
+        Claims claims = cache.getIfPresent(key);
+        if (claims == null) return null;
+
+        // 캐시 만료 처리 시점과 관계없이 만료된 토큰은 사용하지 않음 (다시 파싱해 ExpiredJwtException 발생)
+        if (isExpired(claims)) {
+            cache.invalidate(key);
+            return null;
+        }
+        return claims;
+    }
+
+    void put(String jws, Claims claims) {
+        if (enabled && ttlNanos(claims) > 0) cache.put(hash(jws), claims);
+    }
+
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private long ttlNanos(Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) return maxTtlNanos;
+
+        long remaining = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+        return Math.max(0, Math.min(remaining, maxTtlNanos));
+    }
+
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+    }
+
+    private static String hash(String jws) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(jws.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,7 +1,20 @@
 package com.seb_main_004.whosbook.book.repository;
 
 import com.seb_main_004.whosbook.book.entity.BookCuration;
+import com.seb_main_004.whosbook.curation.search.CurationSearchBook;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface BookCurationRepository extends JpaRepository<BookCuration, Long> {
+
+    // 검색 재색인용 : 큐레이션 batch 에 연결된 책 정보를 한 번에 조회
+    @Query("select new com.seb_main_004.whosbook.curation.search.CurationSearchBook(" +
+            "bc.curation.curationId, b.title, b.authors, b.publisher) " +
+            "from BookCuration bc join bc.book b " +
+            "where bc.curation.curationId in :curationIds")
+    List<CurationSearchBook> findSearchBooks(@Param("curationIds") Collection<Long> curationIds);
 }
@@ -2,9 +2,13 @@ package com.seb_main_004.whosbook.book.repository;
 
 import com.seb_main_004.whosbook.book.entity.Book;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
 public interface BookRepository extends JpaRepository<Book, Long> {
+    // 큐레이션 작성마다 조회 : 쿼리 캐시 사용 (book 테이블 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Book> findBookByIsbn(String isbn);
 }
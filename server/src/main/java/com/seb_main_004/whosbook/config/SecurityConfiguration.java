@@ -79,6 +79,7 @@ public class SecurityConfiguration {
                         .antMatchers(HttpMethod.POST, "/category/**").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.DELETE, "/category/**").hasAnyRole("USER", "ADMIN")
 
+                        .antMatchers(HttpMethod.GET, "/curations/feed").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.POST, "/curations/**").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.PATCH, "/curations/**").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.DELETE, "/curations/**").hasAnyRole("USER", "ADMIN")
@@ -90,6 +91,9 @@ public class SecurityConfiguration {
                         .antMatchers(HttpMethod.POST, "/subscribes/**").hasAnyRole("USER", "ADMIN")
                         .antMatchers(HttpMethod.DELETE, "/subscribes/**").hasAnyRole("USER", "ADMIN")
 
+                        .antMatchers("/actuator/health").permitAll()
+                        .antMatchers("/actuator/**").hasRole("ADMIN")
+
                         .anyRequest().permitAll()
         )
                 .oauth2Login(oauth2-> oauth2.successHandler(new OAuth2MemberSuccessHandler(jwtTokenizer,authorityUtils,memberService, memberRepository)));
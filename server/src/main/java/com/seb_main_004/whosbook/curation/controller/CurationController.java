@@ -1,6 +1,7 @@
 package com.seb_main_004.whosbook.curation.controller;
 
 import com.seb_main_004.whosbook.curation.dto.CurationImageResponseDto;
+import com.seb_main_004.whosbook.curation.dto.CurationListQueryDto;
 import com.seb_main_004.whosbook.curation.dto.CurationPatchDto;
 import com.seb_main_004.whosbook.curation.dto.CurationPostDto;
 import com.seb_main_004.whosbook.curation.entity.Curation;
@@ -8,13 +9,14 @@ import com.seb_main_004.whosbook.curation.entity.CurationImage;
 import com.seb_main_004.whosbook.curation.mapper.CurationMapper;
 import com.seb_main_004.whosbook.curation.service.CurationImageService;
 import com.seb_main_004.whosbook.curation.service.CurationService;
+import com.seb_main_004.whosbook.dto.CursorResponseDto;
 import com.seb_main_004.whosbook.dto.MultiResponseDto;
 import com.seb_main_004.whosbook.exception.BusinessLogicException;
 import com.seb_main_004.whosbook.exception.ExceptionCode;
-import com.seb_main_004.whosbook.image.utils.ImageStorageUtils;
 import com.seb_main_004.whosbook.utils.UriCreator;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +28,7 @@ import org.springframework.web.multipart.MultipartFile;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Positive;
 import java.net.URI;
 import java.util.List;
@@ -90,35 +93,98 @@ public class CurationController {
     @GetMapping("/new")
     public ResponseEntity getNewCurationList(@RequestParam("page") int page,
                                              @RequestParam("size") int size,
-                                             @RequestParam(value = "category", required = false) Long categoryId){
+                                             @RequestParam(value = "category", required = false) Long categoryId,
+                                             @RequestParam(value = "preview", defaultValue = "true") boolean preview){
         log.info("# NEW 큐레이션 리스트 조회 호출");
-        Page<Curation> curationPage = curationService.getNewCurations(page - 1, size, categoryId);
-        List<Curation> curations = curationPage.getContent();
+        Page<CurationListQueryDto> curationPage = curationService.getNewCurations(page - 1, size, categoryId, preview);
+        List<CurationListQueryDto> curations = curationPage.getContent();
         return new ResponseEntity(new MultiResponseDto<>(
-                mapper.curationsToCurationListResponseDtos(curations), curationPage),
+                mapper.curationListQueryDtosToCurationListResponseDtos(curations), curationPage),
                 HttpStatus.OK);
     }
 
     @GetMapping("/best")
     public ResponseEntity getBestCurationList(@RequestParam("page") int page,
                                               @RequestParam("size") int size,
-                                              @RequestParam(value = "category", required = false) Long categoryId){
+                                              @RequestParam(value = "category", required = false) Long categoryId,
+                                              @RequestParam(value = "preview", defaultValue = "true") boolean preview){
         log.info("# BEST 큐레이션 리스트 조회 호출");
-        Page<Curation> curationPage = curationService.getBestCurations(page - 1, size, categoryId);
-        List<Curation> curations = curationPage.getContent();
+        Page<CurationListQueryDto> curationPage = curationService.getBestCurations(page - 1, size, categoryId, preview);
+        List<CurationListQueryDto> curations = curationPage.getContent();
         return new ResponseEntity(new MultiResponseDto<>(
-                mapper.curationsToCurationListResponseDtos(curations), curationPage),
+                mapper.curationListQueryDtosToCurationListResponseDtos(curations), curationPage),
+                HttpStatus.OK);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity searchCurationList(@RequestParam("q") @NotBlank String query,
+                                             @RequestParam("page") @Positive int page,
+                                             @RequestParam("size") @Positive int size){
+        log.info("# 큐레이션 검색 호출");
+        Page<CurationListQueryDto> curationPage = curationService.searchCurations(query, page - 1, size);
+        return new ResponseEntity(new MultiResponseDto<>(
+                mapper.curationListQueryDtosToCurationListResponseDtos(curationPage.getContent()), curationPage),
+                HttpStatus.OK);
+    }
+
+    @GetMapping("/new/cursor")
+    public ResponseEntity getNewCurationListByCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                                     @RequestParam("size") @Positive int size,
+                                                     @RequestParam(value = "category", required = false) Long categoryId,
+                                                     @RequestParam(value = "preview", defaultValue = "true") boolean preview){
+        log.info("# NEW 큐레이션 리스트 커서 조회 호출");
+        Slice<CurationListQueryDto> curationSlice = curationService.getNewCurationsByCursor(cursor, size, categoryId, preview);
+        return new ResponseEntity(new CursorResponseDto<>(
+                mapper.curationListQueryDtosToCurationListResponseDtos(curationSlice.getContent()),
+                size, curationService.getNextNewCursor(curationSlice)),
+                HttpStatus.OK);
+    }
+
+    @GetMapping("/best/cursor")
+    public ResponseEntity getBestCurationListByCursor(@RequestParam(value = "cursor", required = false) String cursor,
+                                                      @RequestParam("size") @Positive int size,
+                                                      @RequestParam(value = "category", required = false) Long categoryId,
+                                                      @RequestParam(value = "preview", defaultValue = "true") boolean preview){
+        log.info("# BEST 큐레이션 리스트 커서 조회 호출");
+        Slice<CurationListQueryDto> curationSlice = curationService.getBestCurationsByCursor(cursor, size, categoryId, preview);
+        return new ResponseEntity(new CursorResponseDto<>(
+                mapper.curationListQueryDtosToCurationListResponseDtos(curationSlice.getContent()),
+                size, curationService.getNextBestCursor(curationSlice)),
+                HttpStatus.OK);
+    }
+
+    @GetMapping("/feed")
+    public ResponseEntity getFeedCurationList(@RequestParam(value = "cursor", required = false) String cursor,
+                                              @RequestParam("size") @Positive int size){
+        log.info("# 구독 피드 큐레이션 리스트 조회 호출");
+        Slice<CurationListQueryDto> curationSlice = curationService.getFeedByCursor(cursor, size, getAuthenticatedEmail());
+        return new ResponseEntity(new CursorResponseDto<>(
+                mapper.curationListQueryDtosToCurationListResponseDtos(curationSlice.getContent()),
+                size, curationService.getNextNewCursor(curationSlice)),
+                HttpStatus.OK);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity getCategoryCurationListByCursor(@RequestParam("category") long category,
+                                                          @RequestParam(value = "cursor", required = false) String cursor,
+                                                          @RequestParam("size") @Positive int size,
+                                                          @RequestParam(value = "preview", defaultValue = "true") boolean preview){
+        Slice<CurationListQueryDto> curationSlice = curationService.getCategoryCurationsByCursor(category, cursor, size, preview);
+        return new ResponseEntity(new CursorResponseDto<>(
+                mapper.curationListQueryDtosToCurationListResponseDtos(curationSlice.getContent()),
+                size, curationService.getNextNewCursor(curationSlice)),
                 HttpStatus.OK);
     }
 
     @GetMapping
     public ResponseEntity getCategoryCurationList(@RequestParam("category") long category,
                                                   @RequestParam("page") int page,
-                                                  @RequestParam("size") int size){
-        Page<Curation> curationPage = curationService.getCategoryCurations(category, page - 1, size);
-        List<Curation> curations = curationPage.getContent();
+                                                  @RequestParam("size") int size,
+                                                  @RequestParam(value = "preview", defaultValue = "true") boolean preview){
+        Page<CurationListQueryDto> curationPage = curationService.getCategoryCurations(category, page - 1, size, preview);
+        List<CurationListQueryDto> curations = curationPage.getContent();
         return new ResponseEntity(new MultiResponseDto<>(
-                mapper.curationsToCurationListResponseDtos(curations), curationPage),
+                mapper.curationListQueryDtosToCurationListResponseDtos(curations), curationPage),
                 HttpStatus.OK);
     }
 
@@ -129,13 +195,20 @@ public class CurationController {
 
 
         log.info("# 이미지 업로드 요청 확인 이미지 제목 : {}", curationImage.getOriginalFilename());
-        log.info("# 이미지 확장자 검증 실행");
-        ImageStorageUtils.verifyImageExtension(curationImage);
 
         CurationImage savedImage = curationImageService.uploadCurationImage(curationImage, getAuthenticatedEmail());
 
         return new ResponseEntity(new CurationImageResponseDto(savedImage.getCurationImageId(),
-                savedImage.getPath()), HttpStatus.OK);
+                savedImage.getPath(), savedImage.getStatus(), savedImage.isVariantsStored()), HttpStatus.OK);
+    }
+
+    //업로드 상태 확인 : PENDING 이 끝나면 상태와 함께 크기별 이미지 URL 을 응답
+    @GetMapping("/images/{image-id}")
+    public ResponseEntity getCurationImage(@PathVariable("image-id") long imageId) {
+        CurationImage curationImage = curationImageService.findVerifiedCurationImageById(imageId);
+
+        return new ResponseEntity(new CurationImageResponseDto(curationImage.getCurationImageId(),
+                curationImage.getPath(), curationImage.getStatus(), curationImage.isVariantsStored()), HttpStatus.OK);
     }
 
     private String getAuthenticatedEmail(){
@@ -1,11 +1,25 @@
 package com.seb_main_004.whosbook.curation.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.seb_main_004.whosbook.curation.entity.CurationImage;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.util.Map;
+
 @AllArgsConstructor
 @Data
 public class CurationImageResponseDto {
     private long imageId;
     private String imageUrl;
+    //PENDING 이면 업로드 중 (imageUrl 은 업로드가 끝난 뒤 열림)
+    private CurationImage.Status status;
+    @JsonIgnore
+    private boolean variantsStored;
+
+    //본문에 넣을 때 쓸 너비별 이미지 URL (크기별 이미지까지 올라간 뒤에만 채움, 그 전에는 imageUrl 사용)
+    public Map<String, String> getImageVariants() {
+        return ImageVariants.urls(imageUrl, variantsStored);
+    }
 }
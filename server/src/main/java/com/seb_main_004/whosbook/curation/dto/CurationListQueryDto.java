@@ -0,0 +1,72 @@
+package com.seb_main_004.whosbook.curation.dto;
+
+import com.seb_main_004.whosbook.reply.dto.LatestReplyDto;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+//큐레이션 목록 조회 전용 프로젝션 DTO
+//큐레이션, 큐레이터, 카테고리 컬럼을 한 번의 조인 쿼리로 가져오기 위해 사용
+@Getter
+public class CurationListQueryDto {
+    private long curationId;
+    private String emoji;
+    private String title;
+    private String content;
+    private int curationLikeCount;
+    private int replyCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long memberId;
+    private String email;
+    private String nickname;
+    private String introduction;
+    private String imageUrl;
+    private boolean imageVariantsStored;
+    private long categoryId;
+    private String category;
+
+    //최신 댓글 미리보기 : 목록 조회 후 페이지 단위로 한 번에 채움 (댓글이 없으면 null)
+    @Setter
+    private LatestReplyDto latestReply;
+
+    public CurationListQueryDto(long curationId, String emoji, String title, String content, Integer curationLikeCount,
+                                int replyCount, LocalDateTime createdAt, LocalDateTime updatedAt,
+                                long memberId, String email, String nickname, String introduction, String imageUrl,
+                                boolean imageVariantsStored, long categoryId, String category) {
+        this.curationId = curationId;
+        this.emoji = emoji;
+        this.title = title;
+        this.content = content;
+        this.curationLikeCount = curationLikeCount == null ? 0 : curationLikeCount;
+        this.replyCount = replyCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.memberId = memberId;
+        this.email = email;
+        this.nickname = nickname;
+        this.introduction = introduction;
+        this.imageUrl = imageUrl;
+        this.imageVariantsStored = imageVariantsStored;
+        this.categoryId = categoryId;
+        this.category = category;
+    }
+
+    //미리보기가 필요 없는 목록 조회 시 TEXT 타입의 content 컬럼을 읽지 않는 생성자
+    public CurationListQueryDto(long curationId, String emoji, String title, Integer curationLikeCount,
+                                int replyCount, LocalDateTime createdAt, LocalDateTime updatedAt,
+                                long memberId, String email, String nickname, String introduction, String imageUrl,
+                                boolean imageVariantsStored, long categoryId, String category) {
+        this(curationId, emoji, title, null, curationLikeCount, replyCount, createdAt, updatedAt,
+                memberId, email, nickname, introduction, imageUrl, imageVariantsStored, categoryId, category);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt.plusHours(9);
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt.plusHours(9);
+    }
+}
@@ -2,6 +2,7 @@ package com.seb_main_004.whosbook.curation.dto;
 
 import com.seb_main_004.whosbook.curation.entity.Curation;
 import com.seb_main_004.whosbook.member.dto.CuratorResponseDto;
+import com.seb_main_004.whosbook.reply.dto.LatestReplyResponseDto;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -13,10 +14,12 @@ public class CurationListResponseDto {
     private long categoryId;
     private String category;
     private int curationLikeCount;
+    private int replyCount;
     private long curationId;
     private String emoji;
     private String title;
     private String content;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private LatestReplyResponseDto latestReply;
 }
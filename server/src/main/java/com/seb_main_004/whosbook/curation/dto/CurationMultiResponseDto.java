@@ -20,6 +20,7 @@ public class CurationMultiResponseDto {
     private long categoryId;
     private String category;
     private int curationLikeCount;
+    private int replyCount;
     private long curationId;
     private String emoji;
     private String title;
@@ -17,6 +17,7 @@ public class CurationSingleDetailResponseDto {
     private Boolean isSubscribed;
     private Boolean isLiked;
     private int curationLikeCount;
+    private int replyCount;
     private long categoryId;
     private String category;
     private long curationId;
@@ -0,0 +1,12 @@
+package com.seb_main_004.whosbook.curation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//큐레이션 상세 조회 : 조회한 회원의 좋아요 여부, 큐레이터 구독 여부를 한 번의 쿼리로 가져오기 위해 사용
+@Getter
+@AllArgsConstructor
+public class CurationViewerStateDto {
+    private boolean liked;
+    private boolean subscribed;
+}
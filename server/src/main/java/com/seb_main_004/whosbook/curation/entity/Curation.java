@@ -64,9 +64,18 @@ public class Curation {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt = LocalDateTime.now();
 
-    @Column(columnDefinition = "Integer default 0")
+    //좋아요 수는 CurationRepository 의 원자적 증감 쿼리로만 변경 (엔티티 저장 시 덮어쓰지 않음)
+    @Column(columnDefinition = "Integer default 0", updatable = false)
     private Integer curationLikeCount=0;
 
+    //댓글 수도 CurationRepository 의 원자적 증감 쿼리로만 변경
+    @Column(nullable = false, updatable = false)
+    private int replyCount = 0;
+
+    //작성 시 구독자 타임라인에 추가하지 않은 큐레이션 (FeedService 에서 CurationRepository 의 update 쿼리로만 변경)
+    @Column(nullable = false, updatable = false)
+    private boolean fanOutSkipped = false;
+
     @ManyToOne
     @JoinColumn(name = "category_id")
     private Category category;
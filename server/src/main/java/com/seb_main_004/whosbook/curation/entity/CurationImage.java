@@ -21,8 +21,28 @@ public class CurationImage {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    //업로드 상태 : 요청 시 PENDING 으로 저장하고, 스토리지 업로드가 끝나면 READY(실패 시 FAILED)
+    @Enumerated(value = EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.READY;
+
+    //크기별 이미지(ImageVariants) 업로드 여부 : 업로드 작업이 크기별 이미지까지 올린 경우에만 true
+    @Column(nullable = false)
+    private boolean variantsStored = false;
+
     public CurationImage(String imageKey, String path) {
         this.imageKey = imageKey;
         this.path = path;
     }
+
+    public CurationImage(String imageKey, String path, Status status) {
+        this(imageKey, path);
+        this.status = status;
+    }
+
+    public enum Status {
+        PENDING,
+        READY,
+        FAILED
+    }
 }
@@ -0,0 +1,44 @@
+package com.seb_main_004.whosbook.curation.feed;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+
+//구독 피드 타임라인 항목 : memberId 회원의 피드에 curatorId 가 작성한 curationId 큐레이션
+//큐레이션 작성 시 FeedService 가 구독자마다 추가하고, 회원별로 최근 timeline-max-size 건만 유지
+@Entity
+@Table(name = "feed_entry", uniqueConstraints = @UniqueConstraint(
+        name = "uk_feed_entry_member_curation", columnNames = {"member_id", "curation_id"}))
+@Getter
+@NoArgsConstructor
+public class FeedEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long feedEntryId;
+
+    @Column(name = "member_id", nullable = false)
+    private long memberId;
+
+    @Column(name = "curation_id", nullable = false)
+    private long curationId;
+
+    @Column(name = "curator_id", nullable = false)
+    private long curatorId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public FeedEntry(long memberId, long curationId, long curatorId) {
+        this.memberId = memberId;
+        this.curationId = curationId;
+        this.curatorId = curatorId;
+    }
+}
@@ -0,0 +1,61 @@
+package com.seb_main_004.whosbook.curation.feed;
+
+import com.seb_main_004.whosbook.curation.dto.CurationListQueryDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface FeedEntryRepository extends JpaRepository<FeedEntry, Long> {
+
+    // 팬아웃 : 큐레이터의 구독자마다 타임라인 항목을 한 번의 insert ... select 로 추가
+    @Modifying
+    @Query(value = "insert into feed_entry (member_id, curation_id, curator_id, created_at) " +
+            "select s.subscriber, :curationId, :curatorId, :createdAt from subscribe s " +
+            "where s.subscribed_member = :curatorId", nativeQuery = true)
+    int fanOut(@Param("curationId") long curationId,
+               @Param("curatorId") long curatorId,
+               @Param("createdAt") LocalDateTime createdAt);
+
+    // 구독 시 큐레이터의 최근 큐레이션을 구독자 타임라인에 채움 (이미 있는 항목은 건너뜀)
+    @Modifying
+    @Query(value = "insert into feed_entry (member_id, curation_id, curator_id, created_at) " +
+            "select :memberId, c.curation_id, c.member_id, c.created_at from curation c " +
+            "where c.member_id = :curatorId and c.curation_status = 'CURATION_ACTIVE' " +
+            "and not exists (select 1 from feed_entry f where f.member_id = :memberId and f.curation_id = c.curation_id) " +
+            "order by c.curation_id desc limit :limit", nativeQuery = true)
+    int backfill(@Param("memberId") long memberId, @Param("curatorId") long curatorId, @Param("limit") int limit);
+
+    // 구독 취소 시 해당 큐레이터의 항목 삭제
+    @Modifying
+    @Query("delete from FeedEntry f where f.memberId = :memberId and f.curatorId = :curatorId")
+    int deleteByMemberIdAndCuratorId(@Param("memberId") long memberId, @Param("curatorId") long curatorId);
+
+    // 회원별로 최근 maxSize 건을 넘는 오래된 항목 삭제
+    @Modifying
+    @Query(value = "delete from feed_entry where feed_entry_id in (" +
+            "select t.feed_entry_id from (" +
+            "select f.feed_entry_id, row_number() over (partition by f.member_id order by f.curation_id desc) as rn " +
+            "from feed_entry f) t " +
+            "where t.rn > :maxSize)", nativeQuery = true)
+    int trim(@Param("maxSize") int maxSize);
+
+    // 피드 조회 : 타임라인 항목을 curationId 역순으로 커서 이후부터, 공개/게시중인 큐레이션만 카드로 조회
+    @Query("select new com.seb_main_004.whosbook.curation.dto.CurationListQueryDto(" +
+            "c.curationId, c.emoji, c.title, c.content, c.curationLikeCount, c.replyCount, c.createdAt, c.updatedAt, " +
+            "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, ca.categoryId, ca.name) " +
+            "from FeedEntry f, Curation c join c.member m join c.category ca " +
+            "where f.memberId = :memberId " +
+            "and c.curationId = f.curationId " +
+            "and c.visibility = 'PUBLIC' " +
+            "and c.curationStatus = 'CURATION_ACTIVE' " +
+            "and f.curationId < :cursorId " +
+            "order by f.curationId desc")
+    Slice<CurationListQueryDto> findFeedItemsAfter(@Param("memberId") long memberId,
+                                                   @Param("cursorId") long cursorId,
+                                                   Pageable pageable);
+}
@@ -0,0 +1,119 @@
+package com.seb_main_004.whosbook.curation.feed;
+
+import com.seb_main_004.whosbook.curation.dto.CurationListQueryDto;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.repository.CurationRepository;
+import com.seb_main_004.whosbook.member.repository.MemberStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//구독 피드 : 구독한 큐레이터들의 큐레이션을 최신순으로 응답
+//큐레이션 작성 시 작성자의 구독자 타임라인(feed_entry)에 바로 추가하고 (fan-out-on-write), 조회는 자기 타임라인만 읽음
+//구독자가 max-subscribers 명을 넘는 큐레이터의 큐레이션은 작성 시 추가하지 않고 표시해 두었다가, 조회 시 따로 읽어 합침 (fan-out-on-read)
+//(표시는 작성 시점 기준이라, 이후 큐레이터의 구독자 수가 기준 아래로 내려가도 피드에서 빠지지 않음)
+@Slf4j
+@Service
+@Transactional
+public class FeedService {
+
+    private final FeedEntryRepository feedEntryRepository;
+    private final CurationRepository curationRepository;
+    private final MemberStatsRepository memberStatsRepository;
+    private final long maxFanOutSubscribers;
+    private final int timelineMaxSize;
+    private final int backfillSize;
+    private final DistributionSummary fanOutSummary;
+    private final Counter fanOutSkippedCounter;
+
+    public FeedService(FeedEntryRepository feedEntryRepository,
+                       CurationRepository curationRepository,
+                       MemberStatsRepository memberStatsRepository,
+                       MeterRegistry meterRegistry,
+                       @Value("${feed.fan-out.max-subscribers:10000}") long maxFanOutSubscribers,
+                       @Value("${feed.timeline.max-size:500}") int timelineMaxSize,
+                       @Value("${feed.timeline.backfill-size:20}") int backfillSize) {
+        this.feedEntryRepository = feedEntryRepository;
+        this.curationRepository = curationRepository;
+        this.memberStatsRepository = memberStatsRepository;
+        this.maxFanOutSubscribers = maxFanOutSubscribers;
+        this.timelineMaxSize = timelineMaxSize;
+        this.backfillSize = backfillSize;
+        this.fanOutSummary = DistributionSummary.builder("feed.fan-out.entries")
+                .description("큐레이션 작성 시 추가한 구독자 타임라인 항목 수")
+                .register(meterRegistry);
+        this.fanOutSkippedCounter = Counter.builder("feed.fan-out.skipped")
+                .description("구독자가 많아 작성 시 타임라인에 추가하지 않은 큐레이션 수")
+                .register(meterRegistry);
+    }
+
+    //큐레이션 작성 트랜잭션 안에서 구독자 타임라인에 추가 (큐레이션이 롤백되면 함께 롤백)
+    //비공개 큐레이션도 추가해 두고 조회 시 거름 : 나중에 공개로 바뀌면 바로 피드에 보임
+    public void onCurationCreated(Curation curation) {
+        long curatorId = curation.getMember().getMemberId();
+        if (isCelebrity(curatorId)) {
+            curationRepository.markFanOutSkipped(curation.getCurationId());
+            fanOutSkippedCounter.increment();
+            return;
+        }
+
+        int entries = feedEntryRepository.fanOut(curation.getCurationId(), curatorId, curation.getCreatedAt());
+        fanOutSummary.record(entries);
+    }
+
+    //구독 시 큐레이터의 최근 큐레이션을 채워 두어 구독 직후에도 피드가 비어 있지 않도록 함
+    public void onSubscribed(long memberId, long curatorId) {
+        feedEntryRepository.backfill(memberId, curatorId, backfillSize);
+    }
+
+    public void onUnsubscribed(long memberId, long curatorId) {
+        feedEntryRepository.deleteByMemberIdAndCuratorId(memberId, curatorId);
+    }
+
+    //타임라인과 작성 시 타임라인에 추가하지 않은 큐레이션을 각각 size 건씩 읽어 curationId 역순으로 합침
+    //(두 목록 모두 curationId 역순이므로 합친 뒤 앞의 size 건이 전체에서의 다음 size 건)
+    @Transactional(readOnly = true)
+    public Slice<CurationListQueryDto> getFeed(long memberId, long cursorId, int size) {
+        PageRequest pageRequest = PageRequest.of(0, size);
+        Slice<CurationListQueryDto> timeline = feedEntryRepository.findFeedItemsAfter(memberId, cursorId, pageRequest);
+        Slice<CurationListQueryDto> celebrities = curationRepository.findFanOutSkippedFeedItemsAfter(
+                memberId, cursorId, pageRequest);
+
+        // 구독 시 채운 항목(backfill)은 건너뛴 큐레이션과 겹칠 수 있어 curationId 로 중복 제거
+        Map<Long, CurationListQueryDto> merged = new TreeMap<>(Comparator.reverseOrder());
+        timeline.forEach(curation -> merged.put(curation.getCurationId(), curation));
+        celebrities.forEach(curation -> merged.put(curation.getCurationId(), curation));
+
+        List<CurationListQueryDto> content = new ArrayList<>(merged.values());
+        boolean hasNext = content.size() > size || timeline.hasNext() || celebrities.hasNext();
+        if (content.size() > size) content = content.subList(0, size);
+
+        return new SliceImpl<>(content, pageRequest, hasNext);
+    }
+
+    //회원별로 최근 max-size 건만 남기고 삭제 (그보다 오래된 피드는 조회되지 않음)
+    @Scheduled(cron = "${feed.timeline.trim-cron:0 30 4 * * *}")
+    public void trim() {
+        long start = System.currentTimeMillis();
+        int deleted = feedEntryRepository.trim(timelineMaxSize);
+        log.info("# 구독 피드 타임라인 정리 완료 : {}건 삭제, {}ms", deleted, System.currentTimeMillis() - start);
+    }
+
+    private boolean isCelebrity(long curatorId) {
+        return memberStatsRepository.findSubscriberCount(curatorId).orElse(0L) > maxFanOutSubscribers;
+    }
+}
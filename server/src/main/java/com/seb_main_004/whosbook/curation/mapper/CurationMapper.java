@@ -1,5 +1,6 @@
 package com.seb_main_004.whosbook.curation.mapper;
 
+import com.seb_main_004.whosbook.curation.dto.CurationListQueryDto;
 import com.seb_main_004.whosbook.curation.dto.CurationListResponseDto;
 import com.seb_main_004.whosbook.curation.dto.CurationMultiResponseDto;
 import com.seb_main_004.whosbook.curation.dto.CurationPostDto;
@@ -10,6 +11,8 @@ import com.seb_main_004.whosbook.curation.repository.CurationRepository;
 import com.seb_main_004.whosbook.member.dto.CuratorResponseDto;
 import com.seb_main_004.whosbook.member.dto.MemberResponseDto;
 import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.reply.dto.LatestReplyDto;
+import com.seb_main_004.whosbook.reply.dto.LatestReplyResponseDto;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -33,6 +36,7 @@ public interface CurationMapper {
                 .isLiked(curation.isLiked())
                 .isSubscribed(curation.isSubscribed())
                 .curationLikeCount(curation.getCurationLikeCount())
+                .replyCount(curation.getReplyCount())
                 .curationId(curation.getCurationId())
                 .emoji(curation.getEmoji())
                 .title(curation.getTitle())
@@ -55,6 +59,7 @@ public interface CurationMapper {
                 .nickname(member.getNickname())
                 .introduction(member.getIntroduction())
                 .image(member.getImageUrl())
+                .imageVariantsStored(member.isImageVariantsStored())
                 .build();
     }
 
@@ -76,6 +81,7 @@ public interface CurationMapper {
                 .categoryId(curation.getCategory().getCategoryId())
                 .category(curation.getCategory().getName())
                 .curationLikeCount(curation.getCurationLikeCount())
+                .replyCount(curation.getReplyCount())
                 .curationId(curation.getCurationId())
                 .emoji(curation.getEmoji())
                 .title(curation.getTitle())
@@ -85,6 +91,48 @@ public interface CurationMapper {
                 .build();
     }
 
+    default List<CurationListResponseDto> curationListQueryDtosToCurationListResponseDtos(List<CurationListQueryDto> curations){
+        return curations.stream()
+                .map(curation -> curationListQueryDtoToCurationListResponseDto(curation))
+                .collect(Collectors.toList());
+    }
+
+    default CurationListResponseDto curationListQueryDtoToCurationListResponseDto(CurationListQueryDto curation){
+        return CurationListResponseDto.builder()
+                .curator(CuratorResponseDto.builder()
+                        .memberId(curation.getMemberId())
+                        .email(curation.getEmail())
+                        .nickname(curation.getNickname())
+                        .introduction(curation.getIntroduction())
+                        .image(curation.getImageUrl())
+                        .imageVariantsStored(curation.isImageVariantsStored())
+                        .build())
+                .categoryId(curation.getCategoryId())
+                .category(curation.getCategory())
+                .curationLikeCount(curation.getCurationLikeCount())
+                .replyCount(curation.getReplyCount())
+                .curationId(curation.getCurationId())
+                .emoji(curation.getEmoji())
+                .title(curation.getTitle())
+                .content(curation.getContent())
+                .createdAt(curation.getCreatedAt())
+                .updatedAt(curation.getUpdatedAt())
+                .latestReply(latestReplyDtoToLatestReplyResponseDto(curation.getLatestReply()))
+                .build();
+    }
+
+    default LatestReplyResponseDto latestReplyDtoToLatestReplyResponseDto(LatestReplyDto latestReply){
+        if (latestReply == null) return null;
+
+        return LatestReplyResponseDto.builder()
+                .replyId(latestReply.getReplyId())
+                .memberId(latestReply.getMemberId())
+                .nickname(latestReply.getNickname())
+                .content(latestReply.getContent())
+                .createdAt(latestReply.getCreatedAt().plusHours(9))
+                .build();
+    }
+
     default CurationMultiResponseDto curationToCurationMultiResponseDto(Curation curation){
         return CurationMultiResponseDto.builder()
                 .memberId(curation.getMember().getMemberId())
@@ -93,6 +141,7 @@ public interface CurationMapper {
                 .categoryId(curation.getCategory().getCategoryId())
                 .category(curation.getCategory().getName())
                 .curationLikeCount(curation.getCurationLikeCount())
+                .replyCount(curation.getReplyCount())
                 .curationId(curation.getCurationId())
                 .emoji(curation.getEmoji())
                 .title(curation.getTitle())
@@ -0,0 +1,155 @@
+package com.seb_main_004.whosbook.curation.ranking;
+
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.repository.CurationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+//BEST 큐레이션 랭킹 : 좋아요, 댓글, 작성 시각으로 계산한 점수순 목록을 메모리에 유지
+//좋아요/댓글/큐레이션 변경 시 해당 큐레이션만 다시 계산하고, 누락된 변경은 주기적인 재계산으로 보정
+//보드 변경은 boardLock 안에서 반영 : 재계산 중에 들어온 변경은 기록해 두었다가 새 보드로 교체하기 직전에 다시 반영
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CurationRankingService {
+
+    private final CurationRepository curationRepository;
+
+    private final Object boardLock = new Object();
+    private volatile RankingBoard board = new RankingBoard();
+    private volatile boolean ready = false;
+
+    //재계산 중에 현재 보드에 반영된 변경 (재계산 중이 아니면 null, boardLock 으로 보호)
+    private List<Consumer<RankingBoard>> changesDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 랭킹이 준비되지 않으면 BEST 목록은 DB 정렬로 조회되므로 기동은 계속 진행
+            log.error("# BEST 큐레이션 랭킹 초기화 실패", e);
+        }
+    }
+
+    //DB 기준으로 보드를 새로 만든 뒤 교체 : 재계산 중에도 기존 보드로 조회 가능
+    //댓글 수, 큐레이션 변경 이벤트는 변경 후의 값을 담고 있으므로, DB 조회에 이미 포함된 변경을 다시 반영해도 결과가 같음
+    //좋아요는 증감분이므로 재계산과 겹친 좋아요(DB 조회 직전에 반영된 것, 아직 버퍼에 있는 것)는 다음 재계산 전까지 어긋날 수 있음
+    @Scheduled(fixedDelayString = "${ranking.rebuild-delay-ms:600000}",
+            initialDelayString = "${ranking.rebuild-delay-ms:600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (boardLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            RankingBoard rebuilt = new RankingBoard();
+            curationRepository.findRankedCurations().forEach(rebuilt::put);
+
+            int replayed;
+            synchronized (boardLock) {
+                replayed = changesDuringRebuild.size();
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                board = rebuilt;
+                ready = true;
+            }
+            log.info("# BEST 큐레이션 랭킹 재계산 완료 : {}건, 재계산 중 변경 {}건 반영, {}ms",
+                    rebuilt.count(null), replayed, System.currentTimeMillis() - start);
+        } finally {
+            synchronized (boardLock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    //categoryId 가 null 이면 전체 랭킹
+    public List<Long> getBestCurationIds(Long categoryId, int page, int size) {
+        return board.getCurationIds(categoryId, (long) page * size, size);
+    }
+
+    //커서 조회 : (score, curationId) 다음 순위부터 size 건, score 가 null 이면 첫 페이지
+    public List<RankedCuration> getBestCurationsAfter(Long categoryId, Double score, long curationId, int size) {
+        RankedCuration cursor = score == null ? null : RankedCuration.cursor(score, curationId);
+        return board.getCurationsAfter(categoryId, cursor, size);
+    }
+
+    public int countBestCurations(Long categoryId) {
+        return board.count(categoryId);
+    }
+
+    //다음 페이지 커서용 : 보드의 현재 점수 (보드에서 빠진 큐레이션이면 empty)
+    public Optional<Double> getScore(long curationId) {
+        return Optional.ofNullable(board.get(curationId)).map(RankedCuration::getScore);
+    }
+
+    //큐레이션 작성/수정 : 공개/게시중이 아니면 랭킹에서 제외
+    public void onCurationSaved(Curation curation) {
+        long curationId = curation.getCurationId();
+        boolean ranked = curation.getVisibility() == Curation.Visibility.PUBLIC && !curation.isDeleted();
+        if (!ranked) {
+            afterCommit(board -> board.remove(curationId));
+            return;
+        }
+
+        RankedCuration rankedCuration = RankedCuration.of(curation);
+        afterCommit(board -> board.save(rankedCuration));
+    }
+
+    public void onCurationDeleted(long curationId) {
+        afterCommit(board -> board.remove(curationId));
+    }
+
+    //delta : 좋아요 증감분, 커밋 이후 보드의 현재 값에 더함 (커밋 전에 계산한 좋아요 수로 덮어쓰면 동시에 커밋된 좋아요가 빠짐)
+    public void onLikeCountChanged(long curationId, int delta) {
+        update(curationId, curation -> curation.withLikeCount(curation.getLikeCount() + delta));
+    }
+
+    //replyCount : 댓글 작성/삭제 후의 댓글 수
+    public void onReplyCountChanged(long curationId, int replyCount) {
+        update(curationId, curation -> curation.withReplyCount(replyCount));
+    }
+
+    private void update(long curationId, UnaryOperator<RankedCuration> updater) {
+        afterCommit(board -> board.update(curationId, updater));
+    }
+
+    //롤백된 변경이 랭킹에 반영되지 않도록 커밋 이후에 보드를 갱신
+    private void afterCommit(Consumer<RankingBoard> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    //재계산 중이면 새 보드에도 반영할 수 있도록 기록
+    private void apply(Consumer<RankingBoard> change) {
+        synchronized (boardLock) {
+            change.accept(board);
+            if (changesDuringRebuild != null) changesDuringRebuild.add(change);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.seb_main_004.whosbook.curation.ranking;
+
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+
+//랭킹 보드에 올라가는 큐레이션 한 건의 점수 스냅샷 (불변 객체, 변경 시 새 객체로 교체)
+@Getter
+public class RankedCuration {
+
+    //댓글 1개는 좋아요 2개와 같은 가중치
+    static final int REPLY_WEIGHT = 2;
+
+    //작성 시각이 DECAY_SECONDS(12.5시간) 늦을수록 점수 +1 : 반응이 10배 많아야 그만큼 오래된 글이 위에 남음
+    static final double DECAY_SECONDS = 45000d;
+
+    //점수 내림차순, 같은 점수면 최신 글 먼저
+    static final Comparator<RankedCuration> ORDER = Comparator
+            .comparingDouble(RankedCuration::getScore).reversed()
+            .thenComparing(Comparator.comparingLong(RankedCuration::getCurationId).reversed());
+
+    private final long curationId;
+    private final long categoryId;
+    private final int likeCount;
+    private final int replyCount;
+    private final long createdEpochSecond;
+    private final double score;
+
+    RankedCuration(long curationId, long categoryId, int likeCount, int replyCount, long createdEpochSecond) {
+        this.curationId = curationId;
+        this.categoryId = categoryId;
+        this.likeCount = likeCount;
+        this.replyCount = replyCount;
+        this.createdEpochSecond = createdEpochSecond;
+        this.score = score(likeCount, replyCount, createdEpochSecond);
+    }
+
+    //JPQL 생성자 표현식용 : 엔티티 getter 와 같은 기준(+9시간)으로 작성 시각을 맞춤
+    public RankedCuration(Long curationId, Long categoryId, Integer likeCount, Integer replyCount,
+                          LocalDateTime createdAt) {
+        this(curationId, categoryId, likeCount == null ? 0 : likeCount, replyCount == null ? 0 : replyCount,
+                createdAt.plusHours(9).toEpochSecond(ZoneOffset.UTC));
+    }
+
+    //커서 위치 비교용 : 정렬 기준인 점수와 id 만 의미 있음
+    private RankedCuration(long curationId, double score) {
+        this.curationId = curationId;
+        this.categoryId = 0;
+        this.likeCount = 0;
+        this.replyCount = 0;
+        this.createdEpochSecond = 0;
+        this.score = score;
+    }
+
+    static RankedCuration cursor(double score, long curationId) {
+        return new RankedCuration(curationId, score);
+    }
+
+    static RankedCuration of(Curation curation) {
+        return new RankedCuration(curation.getCurationId(), curation.getCategory().getCategoryId(),
+                curation.getCurationLikeCount() == null ? 0 : curation.getCurationLikeCount(), curation.getReplyCount(),
+                curation.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+    }
+
+    //log10(반응 수) + 작성 시각 : 시간이 지나도 기존 글끼리의 순서는 바뀌지 않으므로 주기적으로 재계산할 필요가 없음
+    static double score(int likeCount, int replyCount, long createdEpochSecond) {
+        int reactions = Math.max(1, likeCount + REPLY_WEIGHT * replyCount);
+        return Math.log10(reactions) + createdEpochSecond / DECAY_SECONDS;
+    }
+
+    //목록 응답(작성 시각은 엔티티 getter 기준)으로 점수를 계산
+    public static double score(int likeCount, int replyCount, LocalDateTime createdAt) {
+        return score(likeCount, replyCount, createdAt.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    RankedCuration withLikeCount(int likeCount) {
+        return new RankedCuration(curationId, categoryId, Math.max(0, likeCount), replyCount, createdEpochSecond);
+    }
+
+    RankedCuration withReplyCount(int replyCount) {
+        return new RankedCuration(curationId, categoryId, likeCount, Math.max(0, replyCount), createdEpochSecond);
+    }
+
+    RankedCuration withCounts(RankedCuration counts) {
+        return new RankedCuration(curationId, categoryId, counts.likeCount, counts.replyCount, createdEpochSecond);
+    }
+}
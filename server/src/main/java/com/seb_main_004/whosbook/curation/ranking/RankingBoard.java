@@ -0,0 +1,115 @@
+package com.seb_main_004.whosbook.curation.ranking;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+//전체 랭킹과 카테고리별 랭킹을 점수순으로 정렬된 상태로 유지하는 인메모리 보드
+//한 큐레이션의 변경은 entries.compute 안에서 처리되어 같은 큐레이션에 대한 동시 갱신이 순서대로 반영됨
+class RankingBoard {
+
+    private final Map<Long, RankedCuration> entries = new ConcurrentHashMap<>();
+    private final Ranking global = new Ranking();
+    private final Map<Long, Ranking> categories = new ConcurrentHashMap<>();
+
+    void put(RankedCuration curation) {
+        entries.compute(curation.getCurationId(), (id, old) -> {
+            if (old != null) unindex(old);
+            index(curation);
+            return curation;
+        });
+    }
+
+    //큐레이션 수정 : 이미 있으면 좋아요/댓글 수는 보드 값(커밋 이후 이벤트로 갱신된 값)을 유지
+    void save(RankedCuration curation) {
+        entries.compute(curation.getCurationId(), (id, old) -> {
+            RankedCuration saved = curation;
+            if (old != null) {
+                saved = curation.withCounts(old);
+                unindex(old);
+            }
+            index(saved);
+            return saved;
+        });
+    }
+
+    void update(long curationId, UnaryOperator<RankedCuration> updater) {
+        entries.computeIfPresent(curationId, (id, old) -> {
+            RankedCuration updated = updater.apply(old);
+            unindex(old);
+            index(updated);
+            return updated;
+        });
+    }
+
+    void remove(long curationId) {
+        entries.computeIfPresent(curationId, (id, old) -> {
+            unindex(old);
+            return null;
+        });
+    }
+
+    RankedCuration get(long curationId) {
+        return entries.get(curationId);
+    }
+
+    //페이지 번호 조회 : 정렬된 상태에서 offset 만큼 건너뛴 뒤 읽음 (뒤 페이지일수록 offset 만큼 더 순회)
+    List<Long> getCurationIds(Long categoryId, long offset, int size) {
+        return ranking(categoryId).curations.stream()
+                .skip(offset)
+                .limit(size)
+                .map(RankedCuration::getCurationId)
+                .collect(Collectors.toList());
+    }
+
+    //커서 조회 : 커서(점수, id) 바로 다음 위치를 skip list 에서 찾아 size 건만 읽음 (앞 페이지를 순회하지 않음)
+    //cursor 가 null 이면 첫 페이지
+    List<RankedCuration> getCurationsAfter(Long categoryId, RankedCuration cursor, int size) {
+        NavigableSet<RankedCuration> curations = ranking(categoryId).curations;
+        if (cursor != null) curations = curations.tailSet(cursor, false);
+        return curations.stream()
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
+    int count(Long categoryId) {
+        return ranking(categoryId).size.get();
+    }
+
+    private Ranking ranking(Long categoryId) {
+        if (categoryId == null) return global;
+        return categories.getOrDefault(categoryId, Ranking.EMPTY);
+    }
+
+    private void index(RankedCuration curation) {
+        global.add(curation);
+        categories.computeIfAbsent(curation.getCategoryId(), id -> new Ranking()).add(curation);
+    }
+
+    private void unindex(RankedCuration curation) {
+        global.remove(curation);
+        Ranking category = categories.get(curation.getCategoryId());
+        if (category != null) category.remove(curation);
+    }
+
+    //ConcurrentSkipListSet.size() 는 전체를 순회하므로 크기를 따로 관리
+    private static class Ranking {
+        private static final Ranking EMPTY = new Ranking();
+
+        private final ConcurrentSkipListSet<RankedCuration> curations = new ConcurrentSkipListSet<>(RankedCuration.ORDER);
+        private final AtomicInteger size = new AtomicInteger();
+
+        private void add(RankedCuration curation) {
+            if (curations.add(curation)) size.incrementAndGet();
+        }
+
+        private void remove(RankedCuration curation) {
+            if (curations.remove(curation)) size.decrementAndGet();
+        }
+    }
+}
@@ -1,7 +1,61 @@
 package com.seb_main_004.whosbook.curation.repository;
 
+import com.seb_main_004.whosbook.curation.entity.Curation;
 import com.seb_main_004.whosbook.curation.entity.CurationImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface CurationImageRepository extends JpaRepository<CurationImage, Long> {
+
+    // 업로드 작업 스레드에서 호출 (요청 트랜잭션 밖이라 자체 트랜잭션으로 실행)
+    @Transactional
+    @Modifying
+    @Query("update CurationImage i set i.status = :status where i.curationImageId = :curationImageId")
+    int updateStatus(@Param("curationImageId") long curationImageId, @Param("status") CurationImage.Status status);
+
+    @Transactional
+    @Modifying
+    @Query("update CurationImage i set i.status = :status, i.variantsStored = :variantsStored " +
+            "where i.curationImageId = :curationImageId")
+    int updateStatus(@Param("curationImageId") long curationImageId, @Param("status") CurationImage.Status status,
+                     @Param("variantsStored") boolean variantsStored);
+
+    // 정리 대상 구간의 끝 : created_at 인덱스로 조회하고, 이후 조회는 이 id 까지 PK 순으로 탐색
+    @Query("select max(i.curationImageId) from CurationImage i where i.createdAt < :before")
+    Long findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    // 정리 대상 : 게시 중인 큐레이션에 연결되지 않은 이미지 (작성 중 이탈, 업로드 실패, 삭제된 큐레이션의 이미지)
+    @Query("select i.curationImageId from CurationImage i " +
+            "where i.curationImageId > :afterId and i.curationImageId <= :maxId and i.createdAt < :before " +
+            "and not exists (select s.curationSaveImageId from CurationSaveImage s " +
+            "where s.curationImage = i and s.curation.curationStatus <> :deleted) " +
+            "order by i.curationImageId")
+    List<Long> findCollectableIdsAfter(@Param("afterId") long afterId,
+                                       @Param("maxId") long maxId,
+                                       @Param("before") LocalDateTime before,
+                                       @Param("deleted") Curation.CurationStatus deleted,
+                                       Pageable pageable);
+
+    // 삭제 직전에 다시 확인하고 잠금 : 조회 이후 큐레이션에 연결된 이미지는 제외
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from CurationImage i where i.curationImageId in :ids " +
+            "and not exists (select s.curationSaveImageId from CurationSaveImage s " +
+            "where s.curationImage = i and s.curation.curationStatus <> :deleted)")
+    List<CurationImage> findCollectableForUpdate(@Param("ids") Collection<Long> ids,
+                                                 @Param("deleted") Curation.CurationStatus deleted);
+
+    // 삭제 직전에 잠금 조회로 불러온 이미지가 영속성 컨텍스트에 남지 않도록 비움
+    @Modifying(clearAutomatically = true)
+    @Query("delete from CurationImage i where i.curationImageId in :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
 }
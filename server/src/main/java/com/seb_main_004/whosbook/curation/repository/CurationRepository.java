@@ -1,25 +1,216 @@
 package com.seb_main_004.whosbook.curation.repository;
 
 import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.dto.CurationListQueryDto;
+import com.seb_main_004.whosbook.curation.dto.CurationViewerStateDto;
 import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.ranking.RankedCuration;
+import com.seb_main_004.whosbook.curation.search.CurationDocument;
 import com.seb_main_004.whosbook.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.Optional;
 
 public interface CurationRepository extends JpaRepository<Curation, Long> {
 
     Curation findByCurationId(long curationId);
 
-    // 추후 고민 필요 : select 쿼리문이 3번 나감
-    @Query("select c from Curation c where (:category is null or c.category.id = :category) " +
+    // 상세 조회 : 큐레이션, 큐레이터, 카테고리, 책을 한 번의 조인 쿼리로 조회
+    @Query("select distinct c from Curation c join fetch c.member join fetch c.category " +
+            "left join fetch c.bookCurations bc left join fetch bc.book " +
+            "where c.curationId = :curationId")
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    Optional<Curation> findDetailById(@Param("curationId") long curationId);
+
+    // 상세 조회 : 이미 조회한 큐레이션의 이미지 목록을 채움
+    // 컬렉션 두 개(bookCurations, curationSaveImages)를 한 쿼리로 fetch join 하면 행이 곱으로 늘어나므로 따로 조회
+    @Query("select distinct c from Curation c " +
+            "left join fetch c.curationSaveImages csi left join fetch csi.curationImage " +
+            "where c.curationId = :curationId")
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    Optional<Curation> findDetailImagesById(@Param("curationId") long curationId);
+
+    // 상세 조회 : 조회한 회원의 좋아요 여부와 큐레이터 구독 여부를 한 번에 조회
+    @Query("select new com.seb_main_004.whosbook.curation.dto.CurationViewerStateDto(" +
+            "case when exists (select cl.likeId from CurationLike cl " +
+            "where cl.curation.curationId = :curationId and cl.member.memberId = :viewerId) then true else false end, " +
+            "case when exists (select s.subscribeId from Subscribe s " +
+            "where s.subscriber.memberId = :viewerId and s.subscribedMember.memberId = :curatorId) then true else false end) " +
+            "from Member m where m.memberId = :viewerId")
+    Optional<CurationViewerStateDto> findViewerState(@Param("curationId") long curationId,
+                                                     @Param("viewerId") long viewerId,
+                                                     @Param("curatorId") long curatorId);
+
+    // 목록 카드용 프로젝션 : 큐레이션, 큐레이터, 카테고리 컬럼을 조인 한 번으로 조회 (count 쿼리 포함 페이지당 2번)
+    @Query(value = "select new com.seb_main_004.whosbook.curation.dto.CurationListQueryDto(" +
+            "c.curationId, c.emoji, c.title, c.content, c.curationLikeCount, c.replyCount, c.createdAt, c.updatedAt, " +
+            "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, ca.categoryId, ca.name) " +
+            "from Curation c join c.member m join c.category ca " +
+            "where (:category is null or ca.categoryId = :category) " +
+            "and c.visibility = 'PUBLIC' " +
+            "and c.curationStatus = 'CURATION_ACTIVE'",
+            countQuery = "select count(c) from Curation c where (:category is null or c.category.categoryId = :category) " +
+                    "and c.visibility = 'PUBLIC' " +
+                    "and c.curationStatus = 'CURATION_ACTIVE'")
+    Page<CurationListQueryDto> findCurationListItems(@Param("category") Long categoryId, Pageable pageable);
+
+    // 미리보기가 필요 없는 경우 TEXT 타입 content 컬럼을 제외하고 조회
+    @Query(value = "select new com.seb_main_004.whosbook.curation.dto.CurationListQueryDto(" +
+            "c.curationId, c.emoji, c.title, c.curationLikeCount, c.replyCount, c.createdAt, c.updatedAt, " +
+            "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, ca.categoryId, ca.name) " +
+            "from Curation c join c.member m join c.category ca " +
+            "where (:category is null or ca.categoryId = :category) " +
+            "and c.visibility = 'PUBLIC' " +
+            "and c.curationStatus = 'CURATION_ACTIVE'",
+            countQuery = "select count(c) from Curation c where (:category is null or c.category.categoryId = :category) " +
+                    "and c.visibility = 'PUBLIC' " +
+                    "and c.curationStatus = 'CURATION_ACTIVE'")
+    Page<CurationListQueryDto> findCurationListItemsWithoutContent(@Param("category") Long categoryId, Pageable pageable);
+
+    // 커서 페이지네이션 : curationId 기준으로 마지막으로 본 큐레이션 이후를 조회 (count 쿼리 없음)
+    @Query("select new com.seb_main_004.whosbook.curation.dto.CurationListQueryDto(" +
+            "c.curationId, c.emoji, c.title, c.content, c.curationLikeCount, c.replyCount, c.createdAt, c.updatedAt, " +
+            "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, ca.categoryId, ca.name) " +
+            "from Curation c join c.member m join c.category ca " +
+            "where (:category is null or ca.categoryId = :category) " +
+            "and c.visibility = 'PUBLIC' " +
+            "and c.curationStatus = 'CURATION_ACTIVE' " +
+            "and c.curationId < :cursorId " +
+            "order by c.curationId desc")
+    Slice<CurationListQueryDto> findCurationListItemsAfter(@Param("category") Long categoryId,
+                                                           @Param("cursorId") long cursorId,
+                                                           Pageable pageable);
+
+    @Query("select new com.seb_main_004.whosbook.curation.dto.CurationListQueryDto(" +
+            "c.curationId, c.emoji, c.title, c.curationLikeCount, c.replyCount, c.createdAt, c.updatedAt, " +
+            "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, ca.categoryId, ca.name) " +
+            "from Curation c join c.member m join c.category ca " +
+            "where (:category is null or ca.categoryId = :category) " +
+            "and c.visibility = 'PUBLIC' " +
+            "and c.curationStatus = 'CURATION_ACTIVE' " +
+            "and c.curationId < :cursorId " +
+            "order by c.curationId desc")
+    Slice<CurationListQueryDto> findCurationListItemsWithoutContentAfter(@Param("category") Long categoryId,
+                                                                         @Param("cursorId") long cursorId,
+                                                                         Pageable pageable);
+
+    // 구독 피드 : 작성 당시 구독자가 많아 타임라인에 추가하지 않은 큐레이션 중 구독 중인 큐레이터의 것을 커서 이후부터 조회
+    @Query("select new com.seb_main_004.whosbook.curation.dto.CurationListQueryDto(" +
+            "c.curationId, c.emoji, c.title, c.content, c.curationLikeCount, c.replyCount, c.createdAt, c.updatedAt, " +
+            "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, ca.categoryId, ca.name) " +
+            "from Subscribe s, Curation c join c.member m join c.category ca " +
+            "where s.subscriber.memberId = :memberId " +
+            "and m.memberId = s.subscribedMember.memberId " +
+            "and c.fanOutSkipped = true " +
+            "and c.visibility = 'PUBLIC' " +
+            "and c.curationStatus = 'CURATION_ACTIVE' " +
+            "and c.curationId < :cursorId " +
+            "order by c.curationId desc")
+    Slice<CurationListQueryDto> findFanOutSkippedFeedItemsAfter(@Param("memberId") long memberId,
+                                                                @Param("cursorId") long cursorId,
+                                                                Pageable pageable);
+
+    // 작성 시 타임라인 추가를 건너뛴 큐레이션 표시 : 이후 큐레이터의 구독자 수가 바뀌어도 조회 시 합침
+    @Modifying
+    @Query("update Curation c set c.fanOutSkipped = true where c.curationId = :curationId")
+    int markFanOutSkipped(@Param("curationId") long curationId);
+
+    // 커서 페이지네이션 : (curationLikeCount, curationId) 기준으로 마지막으로 본 큐레이션 이후를 조회
+    @Query("select new com.seb_main_004.whosbook.curation.dto.CurationListQueryDto(" +
+            "c.curationId, c.emoji, c.title, c.content, c.curationLikeCount, c.replyCount, c.createdAt, c.updatedAt, " +
+            "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, ca.categoryId, ca.name) " +
+            "from Curation c join c.member m join c.category ca " +
+            "where (:category is null or ca.categoryId = :category) " +
+            "and c.visibility = 'PUBLIC' " +
+            "and c.curationStatus = 'CURATION_ACTIVE' " +
+            "and (c.curationLikeCount < :likeCount " +
+            "or (c.curationLikeCount = :likeCount and c.curationId < :cursorId)) " +
+            "order by c.curationLikeCount desc, c.curationId desc")
+    Slice<CurationListQueryDto> findBestCurationListItemsAfter(@Param("category") Long categoryId,
+                                                               @Param("likeCount") int likeCount,
+                                                               @Param("cursorId") long cursorId,
+                                                               Pageable pageable);
+
+    @Query("select new com.seb_main_004.whosbook.curation.dto.CurationListQueryDto(" +
+            "c.curationId, c.emoji, c.title, c.curationLikeCount, c.replyCount, c.createdAt, c.updatedAt, " +
+            "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, ca.categoryId, ca.name) " +
+            "from Curation c join c.member m join c.category ca " +
+            "where (:category is null or ca.categoryId = :category) " +
             "and c.visibility = 'PUBLIC' " +
+            "and c.curationStatus = 'CURATION_ACTIVE' " +
+            "and (c.curationLikeCount < :likeCount " +
+            "or (c.curationLikeCount = :likeCount and c.curationId < :cursorId)) " +
+            "order by c.curationLikeCount desc, c.curationId desc")
+    Slice<CurationListQueryDto> findBestCurationListItemsWithoutContentAfter(@Param("category") Long categoryId,
+                                                                             @Param("likeCount") int likeCount,
+                                                                             @Param("cursorId") long cursorId,
+                                                                             Pageable pageable);
+
+    // 랭킹에서 꺼낸 id 목록으로 카드 조회 (정렬은 랭킹 순서를 따르므로 PK 조회만 함)
+    @Query("select new com.seb_main_004.whosbook.curation.dto.CurationListQueryDto(" +
+            "c.curationId, c.emoji, c.title, c.content, c.curationLikeCount, c.replyCount, c.createdAt, c.updatedAt, " +
+            "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, ca.categoryId, ca.name) " +
+            "from Curation c join c.member m join c.category ca " +
+            "where c.curationId in :curationIds")
+    List<CurationListQueryDto> findCurationListItemsByIds(@Param("curationIds") List<Long> curationIds);
+
+    @Query("select new com.seb_main_004.whosbook.curation.dto.CurationListQueryDto(" +
+            "c.curationId, c.emoji, c.title, c.curationLikeCount, c.replyCount, c.createdAt, c.updatedAt, " +
+            "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, ca.categoryId, ca.name) " +
+            "from Curation c join c.member m join c.category ca " +
+            "where c.curationId in :curationIds")
+    List<CurationListQueryDto> findCurationListItemsWithoutContentByIds(@Param("curationIds") List<Long> curationIds);
+
+    // 랭킹 재계산용 : 공개/게시중 큐레이션의 점수 계산에 필요한 컬럼만 조회
+    @Query("select new com.seb_main_004.whosbook.curation.ranking.RankedCuration(" +
+            "c.curationId, c.category.categoryId, c.curationLikeCount, c.replyCount, c.createdAt) " +
+            "from Curation c " +
+            "where c.visibility = 'PUBLIC' " +
             "and c.curationStatus = 'CURATION_ACTIVE'")
-    Page<Curation> findCurationList(@Param("category") Long categoryId, Pageable pageable);
+    List<RankedCuration> findRankedCurations();
+
+    // 검색 재색인용 : 공개/게시중 큐레이션을 curationId 순으로 batch 단위 조회 (책 정보는 BookCurationRepository 에서 조회)
+    @Query("select new com.seb_main_004.whosbook.curation.search.CurationDocument(c.curationId, c.title, c.content) " +
+            "from Curation c " +
+            "where c.visibility = 'PUBLIC' " +
+            "and c.curationStatus = 'CURATION_ACTIVE' " +
+            "and c.curationId > :lastId " +
+            "order by c.curationId")
+    List<CurationDocument> findSearchDocumentsAfter(@Param("lastId") long lastId, Pageable pageable);
+
+    // 좋아요 수 증감은 읽고-쓰기 대신 DB 에서 원자적으로 처리 (동시 요청 시 갱신 유실 방지)
+    @Modifying
+    @Query("update Curation c set c.curationLikeCount = c.curationLikeCount + 1 where c.curationId = :curationId")
+    int increaseLikeCount(@Param("curationId") long curationId);
+
+    @Modifying
+    @Query("update Curation c set c.curationLikeCount = c.curationLikeCount - 1 " +
+            "where c.curationId = :curationId and c.curationLikeCount > 0")
+    int decreaseLikeCount(@Param("curationId") long curationId);
+
+    @Modifying
+    @Query("update Curation c set c.replyCount = c.replyCount + 1 where c.curationId = :curationId")
+    int increaseReplyCount(@Param("curationId") long curationId);
+
+    @Modifying
+    @Query("update Curation c set c.replyCount = c.replyCount - 1 " +
+            "where c.curationId = :curationId and c.replyCount > 0")
+    int decreaseReplyCount(@Param("curationId") long curationId);
+
+    @Query("select c.curationLikeCount from Curation c where c.curationId = :curationId")
+    int findLikeCount(@Param("curationId") long curationId);
+
+    @Query("select c.replyCount from Curation c where c.curationId = :curationId")
+    int findReplyCount(@Param("curationId") long curationId);
 
     Page<Curation> findByMemberAndCurationStatus(Member member, Curation.CurationStatus curationStatus, Pageable pageable);
 
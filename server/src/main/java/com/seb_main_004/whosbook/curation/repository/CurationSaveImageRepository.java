@@ -3,9 +3,17 @@ package com.seb_main_004.whosbook.curation.repository;
 import com.seb_main_004.whosbook.curation.entity.CurationImage;
 import com.seb_main_004.whosbook.curation.entity.CurationSaveImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface CurationSaveImageRepository extends JpaRepository<CurationSaveImage, Long> {
     Optional<CurationSaveImage> findByCurationImage(CurationImage curationImage);
+
+    @Modifying
+    @Query("delete from CurationSaveImage s where s.curationImage.curationImageId in :curationImageIds")
+    int deleteAllByCurationImageIds(@Param("curationImageIds") Collection<Long> curationImageIds);
 }
@@ -0,0 +1,47 @@
+package com.seb_main_004.whosbook.curation.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.charfilter.HTMLStripCharFilter;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+import java.io.Reader;
+
+//검색 분석기 : HTML 태그 제거 → 단어 분리 → 소문자
+//색인할 때는 단어를 1~2글자 n-gram 으로 나눠 형태소 분석 없이 한국어 부분 일치("해리포터와" 에서 "포터")를 찾음
+//검색어는 단어 단위로만 나누고 n-gram 은 CurationSearchIndex 에서 만듦 (단어의 모든 gram 이 일치해야 검색됨)
+final class CurationAnalyzer extends Analyzer {
+
+    static final int MIN_GRAM = 1;
+    static final int MAX_GRAM = 2;
+
+    private final boolean ngram;
+
+    private CurationAnalyzer(boolean ngram) {
+        this.ngram = ngram;
+    }
+
+    static CurationAnalyzer forIndex() {
+        return new CurationAnalyzer(true);
+    }
+
+    static CurationAnalyzer forQuery() {
+        return new CurationAnalyzer(false);
+    }
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer source = new StandardTokenizer();
+        TokenStream result = new LowerCaseFilter(source);
+        if (ngram) result = new NGramTokenFilter(result, MIN_GRAM, MAX_GRAM, false);
+        return new TokenStreamComponents(source, result);
+    }
+
+    @Override
+    protected Reader initReader(String fieldName, Reader reader) {
+        return new HTMLStripCharFilter(reader);
+    }
+}
@@ -0,0 +1,34 @@
+package com.seb_main_004.whosbook.curation.search;
+
+import com.seb_main_004.whosbook.book.entity.Book;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//검색 색인 문서 한 건 : 큐레이션 제목/본문 + 연결된 책의 제목/저자/출판사
+@Getter
+public class CurationDocument {
+    private final long curationId;
+    private final String title;
+    private final String content;
+    private final List<CurationSearchBook> books = new ArrayList<>();
+
+    //JPQL 생성자 표현식용 (책 정보는 따로 조회해서 추가)
+    public CurationDocument(long curationId, String title, String content) {
+        this.curationId = curationId;
+        this.title = title;
+        this.content = content;
+    }
+
+    public static CurationDocument of(Curation curation, List<Book> books) {
+        CurationDocument document = new CurationDocument(curation.getCurationId(), curation.getTitle(), curation.getContent());
+        books.forEach(book -> document.addBook(CurationSearchBook.of(curation.getCurationId(), book)));
+        return document;
+    }
+
+    public void addBook(CurationSearchBook book) {
+        books.add(book);
+    }
+}
@@ -0,0 +1,19 @@
+package com.seb_main_004.whosbook.curation.search;
+
+import com.seb_main_004.whosbook.book.entity.Book;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//검색 색인에 함께 넣는 큐레이션의 책 정보 (BookCuration 으로 연결된 책)
+@Getter
+@AllArgsConstructor
+public class CurationSearchBook {
+    private long curationId;
+    private String title;
+    private String authors;
+    private String publisher;
+
+    public static CurationSearchBook of(long curationId, Book book) {
+        return new CurationSearchBook(curationId, book.getTitle(), book.getAuthors(), book.getPublisher());
+    }
+}
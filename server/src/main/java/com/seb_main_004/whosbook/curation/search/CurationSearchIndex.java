@@ -0,0 +1,213 @@
+package com.seb_main_004.whosbook.curation.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//큐레이션 검색 인덱스 (내장 Lucene) : 색인/삭제는 IndexWriter 로 바로 반영하고, 검색에는 refresh 시점의 스냅샷을 사용
+//검색 결과는 BM25 관련도순, 필드마다 가중치를 둠 (제목 > 책 제목/저자 > 본문/출판사)
+public class CurationSearchIndex implements Closeable {
+
+    //한 페이지를 위해 수집할 수 있는 최대 결과 위치 (깊은 페이지는 앞의 결과를 모두 정렬해야 해서 제한)
+    public static final int MAX_RESULT_WINDOW = 10_000;
+
+    //검색어가 길어도 쿼리 절 수가 제한(1024)을 넘지 않도록 단어 수, 단어 길이를 제한
+    static final int MAX_QUERY_WORDS = 8;
+    static final int MAX_WORD_LENGTH = 16;
+
+    private static final String ID = "curationId";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String BOOK_TITLE = "bookTitle";
+    private static final String BOOK_AUTHORS = "bookAuthors";
+    private static final String BOOK_PUBLISHER = "bookPublisher";
+
+    private static final Map<String, Float> FIELD_BOOSTS = new LinkedHashMap<>();
+
+    static {
+        FIELD_BOOSTS.put(TITLE, 3f);
+        FIELD_BOOSTS.put(BOOK_TITLE, 2f);
+        FIELD_BOOSTS.put(BOOK_AUTHORS, 2f);
+        FIELD_BOOSTS.put(CONTENT, 1f);
+        FIELD_BOOSTS.put(BOOK_PUBLISHER, 1f);
+    }
+
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final Analyzer queryAnalyzer = CurationAnalyzer.forQuery();
+
+    public CurationSearchIndex(Directory directory) throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(CurationAnalyzer.forIndex())
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setRAMBufferSizeMB(64);
+        this.directory = directory;
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    //path 가 비어 있으면 메모리 인덱스 (테스트, 벤치마크용)
+    public static CurationSearchIndex open(String path) throws IOException {
+        if (path == null || path.isBlank()) return new CurationSearchIndex(new ByteBuffersDirectory());
+        return new CurationSearchIndex(FSDirectory.open(Path.of(path)));
+    }
+
+    //같은 큐레이션 문서가 있으면 교체
+    public void index(CurationDocument document) throws IOException {
+        writer.updateDocument(idTerm(document.getCurationId()), toLuceneDocument(document));
+    }
+
+    public void delete(long curationId) throws IOException {
+        writer.deleteDocuments(idTerm(curationId));
+    }
+
+    public void deleteAll() throws IOException {
+        writer.deleteAll();
+    }
+
+    //마지막 refresh 이후의 색인/삭제를 검색에 반영
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    //디스크에 반영 : 재시작 후에도 색인이 남도록 주기적으로 호출
+    public void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) writer.commit();
+    }
+
+    public int numDocs() {
+        return writer.getDocStats().numDocs;
+    }
+
+    public CurationSearchResult search(String text, int offset, int size) throws IOException {
+        Query query = buildQuery(text);
+        if (query == null || size <= 0 || offset >= MAX_RESULT_WINDOW) return CurationSearchResult.empty();
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopScoreDocCollector collector =
+                    TopScoreDocCollector.create(Math.min(offset + size, MAX_RESULT_WINDOW), MAX_RESULT_WINDOW);
+            searcher.search(query, collector);
+            TopDocs topDocs = collector.topDocs(offset, size);
+
+            StoredFields storedFields = searcher.storedFields();
+            List<Long> curationIds = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                curationIds.add(Long.parseLong(storedFields.document(scoreDoc.doc).get(ID)));
+            }
+            return new CurationSearchResult(curationIds, Math.min(topDocs.totalHits.value, MAX_RESULT_WINDOW));
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    //단어마다 (어느 필드든) 모든 gram 이 일치해야 하고, 검색어의 모든 단어가 일치해야 검색됨
+    Query buildQuery(String text) {
+        List<String> words = analyze(text);
+        if (words.isEmpty()) return null;
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String word : words) {
+            Set<String> grams = grams(word);
+            BooleanQuery.Builder wordQuery = new BooleanQuery.Builder();
+            FIELD_BOOSTS.forEach((field, boost) -> {
+                BooleanQuery.Builder fieldQuery = new BooleanQuery.Builder();
+                grams.forEach(gram -> fieldQuery.add(new TermQuery(new Term(field, gram)), BooleanClause.Occur.MUST));
+                wordQuery.add(new BoostQuery(fieldQuery.build(), boost), BooleanClause.Occur.SHOULD);
+            });
+            query.add(wordQuery.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null || text.isBlank()) return words;
+
+        try (TokenStream tokens = queryAnalyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken() && words.size() < MAX_QUERY_WORDS) {
+                words.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return words;
+    }
+
+    //한 글자 단어는 그대로, 그 외에는 2글자 gram (색인된 1~2글자 gram 과 맞춤)
+    private Set<String> grams(String word) {
+        int[] codePoints = word.codePoints().limit(MAX_WORD_LENGTH).toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        if (codePoints.length < CurationAnalyzer.MAX_GRAM) {
+            grams.add(new String(codePoints, 0, codePoints.length));
+            return grams;
+        }
+        for (int i = 0; i + CurationAnalyzer.MAX_GRAM <= codePoints.length; i++) {
+            grams.add(new String(codePoints, i, CurationAnalyzer.MAX_GRAM));
+        }
+        return grams;
+    }
+
+    private Document toLuceneDocument(CurationDocument document) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, String.valueOf(document.getCurationId()), Field.Store.YES));
+        addText(doc, TITLE, document.getTitle());
+        addText(doc, CONTENT, document.getContent());
+        for (CurationSearchBook book : document.getBooks()) {
+            addText(doc, BOOK_TITLE, book.getTitle());
+            addText(doc, BOOK_AUTHORS, book.getAuthors());
+            addText(doc, BOOK_PUBLISHER, book.getPublisher());
+        }
+        return doc;
+    }
+
+    private void addText(Document doc, String field, String value) {
+        if (value != null) doc.add(new TextField(field, value, Field.Store.NO));
+    }
+
+    private Term idTerm(long curationId) {
+        return new Term(ID, String.valueOf(curationId));
+    }
+}
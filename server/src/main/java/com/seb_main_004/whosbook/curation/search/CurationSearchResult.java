@@ -0,0 +1,18 @@
+package com.seb_main_004.whosbook.curation.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+//검색 결과 한 페이지 : 관련도순 큐레이션 id 와 전체 일치 건수
+@Getter
+@AllArgsConstructor
+public class CurationSearchResult {
+    private List<Long> curationIds;
+    private long totalHits;
+
+    public static CurationSearchResult empty() {
+        return new CurationSearchResult(List.of(), 0);
+    }
+}
@@ -0,0 +1,195 @@
+package com.seb_main_004.whosbook.curation.search;
+
+import com.seb_main_004.whosbook.book.entity.Book;
+import com.seb_main_004.whosbook.book.repository.BookCurationRepository;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.repository.CurationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//큐레이션 검색 : 공개/게시중 큐레이션을 내장 Lucene 인덱스에 색인하고 관련도순 id 를 응답
+//큐레이션 작성/수정/삭제 시 커밋 이후 해당 문서만 갱신하고, 검색에는 refresh-delay-ms 마다 반영
+//인덱스가 비어 있으면(첫 기동, 인덱스 디렉터리 삭제) 기동 시 DB 에서 다시 색인
+@Slf4j
+@Service
+public class CurationSearchService {
+
+    private final CurationRepository curationRepository;
+    private final BookCurationRepository bookCurationRepository;
+    private final CurationSearchIndex index;
+    private final int batchSize;
+    private final boolean rebuildOnStartup;
+    private final Timer searchTimer;
+
+    //재색인 중에는 refresh 하지 않음 : 비운 인덱스가 검색에 노출되지 않도록 재색인이 끝난 뒤 한 번에 반영
+    private volatile boolean rebuilding = false;
+
+    public CurationSearchService(CurationRepository curationRepository,
+                                 BookCurationRepository bookCurationRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${search.index.path:}") String indexPath,
+                                 @Value("${search.index.rebuild-batch-size:1000}") int batchSize,
+                                 @Value("${search.index.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        this.curationRepository = curationRepository;
+        this.bookCurationRepository = bookCurationRepository;
+        this.batchSize = batchSize;
+        this.rebuildOnStartup = rebuildOnStartup;
+        try {
+            this.index = CurationSearchIndex.open(indexPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 인덱스를 열 수 없습니다 : " + indexPath, e);
+        }
+        this.searchTimer = Timer.builder("curation.search")
+                .description("큐레이션 검색 인덱스 조회 시간")
+                .register(meterRegistry);
+        Gauge.builder("curation.search.documents", index, CurationSearchIndex::numDocs)
+                .description("검색 인덱스에 색인된 큐레이션 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!rebuildOnStartup && index.numDocs() > 0) return;
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 검색 결과만 비어 있고 다른 기능에는 영향이 없으므로 기동은 계속 진행
+            log.error("# 큐레이션 검색 인덱스 초기화 실패", e);
+        }
+    }
+
+    //공개/게시중 큐레이션 전체를 curationId 순으로 batch-size 건씩 다시 색인
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        rebuilding = true;
+        try {
+            index.deleteAll();
+            long lastId = 0;
+            int count = 0;
+            List<CurationDocument> documents;
+            do {
+                documents = curationRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, batchSize));
+                if (documents.isEmpty()) break;
+
+                Map<Long, CurationDocument> byId = documents.stream()
+                        .collect(Collectors.toMap(CurationDocument::getCurationId, Function.identity()));
+                bookCurationRepository.findSearchBooks(byId.keySet())
+                        .forEach(book -> byId.get(book.getCurationId()).addBook(book));
+
+                for (CurationDocument document : documents) {
+                    index.index(document);
+                }
+                count += documents.size();
+                lastId = documents.get(documents.size() - 1).getCurationId();
+            } while (documents.size() == batchSize);
+
+            index.commit();
+            log.info("# 큐레이션 검색 인덱스 재색인 완료 : {}건, {}ms", count, System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            rebuilding = false;
+            refresh();
+        }
+    }
+
+    public CurationSearchResult search(String query, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        return searchTimer.record(() -> {
+            try {
+                return index.search(query, (int) Math.min(pageRequest.getOffset(), Integer.MAX_VALUE), size);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    //큐레이션 작성/수정 : 공개/게시중이 아니면 색인에서 제외
+    public void onCurationSaved(Curation curation, List<Book> books) {
+        long curationId = curation.getCurationId();
+        boolean searchable = curation.getVisibility() == Curation.Visibility.PUBLIC && !curation.isDeleted();
+        if (!searchable) {
+            onCurationDeleted(curationId);
+            return;
+        }
+
+        // 문서는 트랜잭션 안에서 만들어 두고 (지연 로딩 방지) 커밋 이후에 색인
+        CurationDocument document = CurationDocument.of(curation, books);
+        afterCommit(() -> index.index(document));
+    }
+
+    public void onCurationDeleted(long curationId) {
+        afterCommit(() -> index.delete(curationId));
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.refresh-delay-ms:1000}")
+    public void refresh() {
+        if (rebuilding) return;
+        try {
+            index.refresh();
+        } catch (IOException e) {
+            log.error("# 큐레이션 검색 인덱스 refresh 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-delay-ms:60000}")
+    public void commit() {
+        if (rebuilding) return;
+        try {
+            index.commit();
+        } catch (IOException e) {
+            log.error("# 큐레이션 검색 인덱스 commit 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        index.commit();
+        index.close();
+    }
+
+    //롤백된 변경이 색인되지 않도록 커밋 이후에 반영 : 색인 실패는 요청을 실패시키지 않고 로그만 남김 (재색인으로 보정)
+    private void afterCommit(IndexTask task) {
+        Runnable update = () -> {
+            try {
+                task.run();
+            } catch (IOException e) {
+                log.error("# 큐레이션 검색 인덱스 갱신 실패", e);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,144 @@
+package com.seb_main_004.whosbook.curation.service;
+
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.entity.CurationImage;
+import com.seb_main_004.whosbook.curation.repository.CurationImageRepository;
+import com.seb_main_004.whosbook.curation.repository.CurationSaveImageRepository;
+import com.seb_main_004.whosbook.image.service.StorageService;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+//사용되지 않는 큐레이션 이미지 정리 : 업로드(created_at) 후 유예 기간이 지난 이미지 중 게시 중인 큐레이션에 연결되지 않은 이미지를 삭제
+//(작성 중 이탈한 이미지, 업로드에 실패한 이미지, 삭제된 큐레이션의 이미지)
+//유예 기간은 업로드 시각 기준 : 삭제된 큐레이션의 이미지는 업로드 후 유예 기간이 지났으면 큐레이션 삭제 직후의 정리에서 바로 삭제
+//chunk 사이에 쉬는 동안 스케줄러 스레드를 점유하므로 spring.task.scheduling.pool.size 를 여러 스레드로 둠 (application.yml)
+//curation_image_id 순으로 chunk-size 건씩 DB 행을 먼저 지우고 커밋한 뒤 스토리지에서 한 번에 삭제, chunk 사이에는 throttle-ms 만큼 쉼
+@Slf4j
+@Component
+public class CurationImageCollector {
+
+    private final CurationImageRepository curationImageRepository;
+    private final CurationSaveImageRepository curationSaveImageRepository;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+    private final long gracePeriodHours;
+    private final int chunkSize;
+    private final long throttleMs;
+    private final Counter deletedCounter;
+    private final Counter storageFailedCounter;
+    private final Timer collectTimer;
+
+    //진행 중(또는 마지막) 정리 작업이 처리한 curation_image_id
+    private final AtomicLong position = new AtomicLong();
+
+    public CurationImageCollector(CurationImageRepository curationImageRepository,
+                                  CurationSaveImageRepository curationSaveImageRepository,
+                                  StorageService storageService,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${image.gc.grace-period-hours:24}") long gracePeriodHours,
+                                  @Value("${image.gc.chunk-size:500}") int chunkSize,
+                                  @Value("${image.gc.throttle-ms:200}") long throttleMs) {
+        this.curationImageRepository = curationImageRepository;
+        this.curationSaveImageRepository = curationSaveImageRepository;
+        this.storageService = storageService;
+        this.transactionTemplate = transactionTemplate;
+        this.gracePeriodHours = gracePeriodHours;
+        this.chunkSize = chunkSize;
+        this.throttleMs = throttleMs;
+        this.deletedCounter = Counter.builder("curation.image.gc.deleted")
+                .description("정리 작업으로 삭제한 큐레이션 이미지 수")
+                .register(meterRegistry);
+        this.storageFailedCounter = Counter.builder("curation.image.gc.storage.failed")
+                .description("스토리지에서 삭제하지 못한 이미지 객체 수")
+                .register(meterRegistry);
+        this.collectTimer = Timer.builder("curation.image.gc")
+                .description("큐레이션 이미지 정리 작업 시간")
+                .register(meterRegistry);
+        Gauge.builder("curation.image.gc.position", position, AtomicLong::get)
+                .description("정리 작업이 처리한 마지막 curation_image_id")
+                .register(meterRegistry);
+    }
+
+    //삭제한 이미지 수를 반환
+    @Scheduled(cron = "${image.gc.cron:0 0 5 * * *}")
+    public int collect() {
+        long start = System.currentTimeMillis();
+        LocalDateTime before = LocalDateTime.now().minusHours(gracePeriodHours);
+        Long maxId = curationImageRepository.findMaxIdCreatedBefore(before);
+        if (maxId == null) return 0;
+
+        int deleted = 0;
+        long lastId = 0;
+        position.set(0);
+        while (true) {
+            List<Long> ids = curationImageRepository.findCollectableIdsAfter(lastId, maxId, before,
+                    Curation.CurationStatus.CURATION_DELETE, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) break;
+
+            List<String> imageKeys = transactionTemplate.execute(status -> deleteRows(ids));
+            deleteObjects(imageKeys);
+            deleted += imageKeys.size();
+            deletedCounter.increment(imageKeys.size());
+
+            lastId = ids.get(ids.size() - 1);
+            position.set(lastId);
+            if (ids.size() < chunkSize || !throttle()) break;
+        }
+
+        long elapsed = System.currentTimeMillis() - start;
+        collectTimer.record(elapsed, TimeUnit.MILLISECONDS);
+        log.info("# 큐레이션 이미지 정리 완료 : {}건 삭제, 마지막 id {}, {}ms", deleted, lastId, elapsed);
+        return deleted;
+    }
+
+    //연결(삭제된 큐레이션과의 연결 포함)과 이미지 행을 삭제하고, 스토리지에서 지울 이미지 키를 반환
+    private List<String> deleteRows(List<Long> ids) {
+        List<CurationImage> images = curationImageRepository.findCollectableForUpdate(ids,
+                Curation.CurationStatus.CURATION_DELETE);
+        if (images.isEmpty()) return List.of();
+
+        List<Long> imageIds = images.stream().map(CurationImage::getCurationImageId).collect(Collectors.toList());
+        curationSaveImageRepository.deleteAllByCurationImageIds(imageIds);
+        curationImageRepository.deleteAllByIds(imageIds);
+        return images.stream().map(CurationImage::getImageKey).collect(Collectors.toList());
+    }
+
+    //원본과 크기별 이미지를 한 번에 삭제 : 행은 이미 지워졌으므로 실패한 객체는 로그로 남김
+    private void deleteObjects(List<String> imageKeys) {
+        if (imageKeys.isEmpty()) return;
+
+        List<String> failedKeys = storageService.deleteAll(ImageVariants.withVariants(imageKeys));
+        if (!failedKeys.isEmpty()) {
+            storageFailedCounter.increment(failedKeys.size());
+            log.error("# 큐레이션 이미지 스토리지 삭제 실패 : {}", failedKeys);
+        }
+    }
+
+    //종료 중이면 다음 chunk 를 처리하지 않음 (다음 실행에서 이어서 정리)
+    private boolean throttle() {
+        if (throttleMs <= 0) return true;
+        try {
+            Thread.sleep(throttleMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
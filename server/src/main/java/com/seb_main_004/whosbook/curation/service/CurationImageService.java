@@ -6,6 +6,8 @@ import com.seb_main_004.whosbook.curation.repository.CurationImageRepository;
 import com.seb_main_004.whosbook.curation.repository.CurationSaveImageRepository;
 import com.seb_main_004.whosbook.exception.BusinessLogicException;
 import com.seb_main_004.whosbook.exception.ExceptionCode;
+import com.seb_main_004.whosbook.image.service.ImageUploadListener;
+import com.seb_main_004.whosbook.image.service.ImageUploadService;
 import com.seb_main_004.whosbook.image.service.StorageService;
 import com.seb_main_004.whosbook.member.entity.Member;
 import com.seb_main_004.whosbook.member.service.MemberService;
@@ -16,8 +18,16 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -27,29 +37,45 @@ public class CurationImageService {
     private final CurationImageRepository curationImageRepository;
     private final CurationSaveImageRepository curationSaveImageRepository;
     private final StorageService storageService;
+    private final ImageUploadService imageUploadService;
     private final MemberService memberService;
     private final static String CURATION_IMAGE_PATH = "curationImages";
-    // 이미지 등록
+    // 본문에 들어간 이미지 URL : curationImages/회원id_업로드시각.확장자 또는 curationImages/회원id_업로드시각_w너비.jpg
+    private final static Pattern CONTENT_IMAGE_KEY =
+            Pattern.compile("(" + CURATION_IMAGE_PATH + "/\\d+_\\d+)(?:_w\\d+)?\\.[A-Za-z0-9]+");
+    // 이미지 등록 : PENDING 상태로 저장해 id 를 바로 응답하고, 스토리지 업로드가 끝나면 READY 로 변경
     public CurationImage uploadCurationImage(MultipartFile image, String authenticatedEmail){
 
         Member member = memberService.findVerifiedMemberByEmail(authenticatedEmail);
 
         String imageKey = storageService.makeObjectKey(image, CURATION_IMAGE_PATH, member.getMemberId());
-        String imagePath = storageService.store(image, imageKey);
+        CurationImage curationImage = curationImageRepository.save(
+                new CurationImage(imageKey, storageService.getUrl(imageKey), CurationImage.Status.PENDING));
+
+        long curationImageId = curationImage.getCurationImageId();
+        imageUploadService.upload(image, imageKey, new ImageUploadListener() {
+            @Override
+            public void onUploaded(String imageKey, boolean variantsStored) {
+                curationImageRepository.updateStatus(curationImageId, CurationImage.Status.READY, variantsStored);
+            }
 
-        CurationImage curationImage = new CurationImage(imageKey, imagePath);
+            @Override
+            public void onFailed(String imageKey) {
+                curationImageRepository.updateStatus(curationImageId, CurationImage.Status.FAILED);
+            }
+        });
 
         log.info("# 저장된 이미지 Owner ID : {}", getImageOwnerId(imageKey));
-        log.info("# 이미지 업로드 성공! 업로드 된 이미지 URL : {}", curationImage.getPath());
+        log.info("# 이미지 업로드 요청 완료! 업로드 될 이미지 URL : {}", curationImage.getPath());
 
-        return curationImageRepository.save(curationImage);
+        return curationImage;
     }
 
     public void deleteCurationImage(long curationImageId) {
         CurationImage curationImage = findVerifiedCurationImageById(curationImageId);
         log.info("# AWS S3 이미지 삭제 실행, 이미지 ID : {}", curationImageId);
 
-        storageService.delete(curationImage.getImageKey());
+        imageUploadService.delete(curationImage.getImageKey());
         curationImageRepository.delete(curationImage);
         log.info("# 큐레이션 이미지 DB 삭제 완료, 이미지 ID : {}", curationImageId);
     }
@@ -61,32 +87,64 @@ public class CurationImageService {
        );
     }
 
+    // 본문에 포함된 이미지만 큐레이션에 연결하고, 빠진 이미지는 연결고리와 함께 삭제
+    // 이미지는 한 번에 조회, 본문은 한 번만 훑어서 이미지 키를 모으고, 스토리지 삭제는 커밋 이후에 실행
     public List<CurationImage> verifyCurationSaveImages(CurationImageDto curationDto, long authenticatedMemberId) {
-        List<Long> curationImageIds = curationDto.getImageIds();
-        String content = curationDto.getContent();
+        Set<Long> curationImageIds = new LinkedHashSet<>(curationDto.getImageIds());
+        if (curationImageIds.isEmpty()) return new ArrayList<>();
 
-        List<CurationImage> curationImages = new ArrayList<>();
+        Map<Long, CurationImage> curationImageMap = curationImageRepository.findAllById(curationImageIds).stream()
+                .collect(Collectors.toMap(CurationImage::getCurationImageId, Function.identity()));
+        if (curationImageMap.size() != curationImageIds.size())
+            throw new BusinessLogicException(ExceptionCode.IMAGE_NOT_FOUND);
 
-        for (long curationImageId : curationImageIds){
+        Set<String> contentImageKeys = extractImageKeys(curationDto.getContent());
 
-            CurationImage curationImage = findVerifiedCurationImageById(curationImageId);
+        List<CurationImage> curationImages = new ArrayList<>();
+        List<CurationImage> removedImages = new ArrayList<>();
+        for (long curationImageId : curationImageIds) {
+            CurationImage curationImage = curationImageMap.get(curationImageId);
             verifyImageOwner(curationImage, authenticatedMemberId);
 
-            if (content.contains(curationImage.getImageKey())){
-               curationImages.add(curationImage);
+            if (contentImageKeys.contains(withoutExtension(curationImage.getImageKey()))) {
+                curationImages.add(curationImage);
             } else {
-                // 큐레이션과 연결된 이미지 연결고리 삭제
-                curationSaveImageRepository.findByCurationImage(curationImage)
-                        .ifPresent(curationSaveImage -> curationSaveImageRepository.delete(curationSaveImage));
-
-                deleteCurationImage(curationImageId);
+                removedImages.add(curationImage);
             }
-
         }
 
+        if (!removedImages.isEmpty()) deleteCurationImages(removedImages);
         return curationImages;
     }
 
+    // 큐레이션과 연결된 이미지 연결고리와 이미지 행을 한 번에 삭제
+    private void deleteCurationImages(List<CurationImage> curationImages) {
+        List<Long> curationImageIds = curationImages.stream()
+                .map(CurationImage::getCurationImageId)
+                .collect(Collectors.toList());
+        log.info("# 본문에서 빠진 큐레이션 이미지 삭제, 이미지 ID : {}", curationImageIds);
+
+        curationSaveImageRepository.deleteAllByCurationImageIds(curationImageIds);
+        curationImageRepository.deleteAllByIdInBatch(curationImageIds);
+        imageUploadService.deleteAllAfterCommit(curationImages.stream()
+                .map(CurationImage::getImageKey)
+                .collect(Collectors.toList()));
+    }
+
+    // 본문의 이미지 URL 에서 확장자를 뺀 이미지 키를 모음 (크기별 이미지 URL 도 원본 이미지 키로)
+    private Set<String> extractImageKeys(String content) {
+        Set<String> imageKeys = new HashSet<>();
+        if (content == null) return imageKeys;
+
+        Matcher matcher = CONTENT_IMAGE_KEY.matcher(content);
+        while (matcher.find()) imageKeys.add(matcher.group(1));
+        return imageKeys;
+    }
+
+    private String withoutExtension(String imageKey) {
+        return imageKey.substring(0, imageKey.lastIndexOf("."));
+    }
+
     private void verifyImageOwner(CurationImage curationImage, long authenticatedMemberId){
         long imageOwnerId = Long.parseLong(getImageOwnerId(curationImage.getImageKey()));
         if (imageOwnerId != authenticatedMemberId) throw new BusinessLogicException(ExceptionCode.IMAGE_CAN_NOT_SAVE);
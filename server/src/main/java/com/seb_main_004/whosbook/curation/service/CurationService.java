@@ -5,31 +5,47 @@ import com.seb_main_004.whosbook.book.entity.Book;
 import com.seb_main_004.whosbook.book.entity.BookCuration;
 import com.seb_main_004.whosbook.book.repository.BookCurationRepository;
 import com.seb_main_004.whosbook.curation.category.CategoryService;
+import com.seb_main_004.whosbook.curation.dto.CurationListQueryDto;
 import com.seb_main_004.whosbook.curation.dto.CurationPatchDto;
 import com.seb_main_004.whosbook.curation.dto.CurationPostDto;
 import com.seb_main_004.whosbook.curation.entity.Curation;
 import com.seb_main_004.whosbook.curation.entity.CurationImage;
 import com.seb_main_004.whosbook.curation.entity.CurationSaveImage;
+import com.seb_main_004.whosbook.curation.feed.FeedService;
+import com.seb_main_004.whosbook.curation.ranking.CurationRankingService;
+import com.seb_main_004.whosbook.curation.ranking.RankedCuration;
 import com.seb_main_004.whosbook.curation.repository.CurationRepository;
 import com.seb_main_004.whosbook.curation.repository.CurationSaveImageRepository;
+import com.seb_main_004.whosbook.curation.search.CurationSearchResult;
+import com.seb_main_004.whosbook.curation.search.CurationSearchService;
 import com.seb_main_004.whosbook.exception.BusinessLogicException;
 import com.seb_main_004.whosbook.exception.ExceptionCode;
-import com.seb_main_004.whosbook.like.entity.CurationLike;
-import com.seb_main_004.whosbook.like.repository.CurationLikeRepository;
+import com.seb_main_004.whosbook.like.service.LikeCountBuffer;
+import com.seb_main_004.whosbook.member.cache.MemberPrincipal;
 import com.seb_main_004.whosbook.member.entity.Member;
 import com.seb_main_004.whosbook.member.service.MemberService;
-import com.seb_main_004.whosbook.subscribe.entity.Subscribe;
-import com.seb_main_004.whosbook.subscribe.repository.SubscribeRepository;
+import com.seb_main_004.whosbook.member.service.MemberStatsService;
+import com.seb_main_004.whosbook.reply.dto.LatestReplyDto;
+import com.seb_main_004.whosbook.reply.repository.ReplyRepository;
+import com.seb_main_004.whosbook.utils.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,15 +55,23 @@ public class CurationService {
     // 추후 리팩토링 : 1. 삭제된 큐레이션을 검증하는 부분을 AOP로 뺄 순 없을까?
     //             : 2. 큐레이션 이미지 등록 로직을 어떻게 분리하고 구성해야 더 효율적일까?
 
+    //카드의 최신 댓글 미리보기 길이
+    private static final int LATEST_REPLY_LENGTH = 100;
+    private static final String RANKING_CURSOR = "r";
+
     private final CurationRepository curationRepository;
     private final MemberService memberService;
     private final CurationSaveImageRepository curationSaveImageRepository;
     private final CurationImageService curationImageService;
     private final CategoryService categoryService;
-    private final CurationLikeRepository curationLikeRepository;
-    private final SubscribeRepository subscribeRepository;
     private final BookService bookService;
     private final BookCurationRepository bookCurationRepository;
+    private final CurationRankingService curationRankingService;
+    private final LikeCountBuffer likeCountBuffer;
+    private final MemberStatsService memberStatsService;
+    private final CurationSearchService curationSearchService;
+    private final FeedService feedService;
+    private final ReplyRepository replyRepository;
 
     @Transactional
     public Curation createCuration(Curation curation, CurationPostDto postDto, String authenticatedEmail){
@@ -75,9 +99,16 @@ public class CurationService {
             }
         }
 
+        curationRankingService.onCurationSaved(savedCuration);
+        curationSearchService.onCurationSaved(savedCuration, List.of(savedBook));
+        memberStatsService.onCurationCreated(member.getMemberId());
+        feedService.onCurationCreated(savedCuration);
+
         return savedCuration;
     }
 
+    // 랭킹/검색 색인 갱신 시 책 목록을 지연 로딩하므로 트랜잭션 안에서 실행 (open-in-view 에 의존하지 않음)
+    @Transactional
     public Curation updateCuration(CurationPatchDto patchDto, long curationId, String authenticatedEmail){
 
         Curation findCuration = findVerifiedCurationById(curationId);
@@ -108,9 +139,15 @@ public class CurationService {
             }
         }
 
-        return curationRepository.save(findCuration);
+        Curation savedCuration = curationRepository.save(findCuration);
+        curationRankingService.onCurationSaved(savedCuration);
+        curationSearchService.onCurationSaved(savedCuration, savedCuration.getBookCurations().stream()
+                .map(BookCuration::getBook).collect(Collectors.toList()));
+
+        return savedCuration;
     }
 
+    @Transactional
     public void deleteCuration(long curationId, String authenticatedEmail){
         Curation curation = findVerifiedCurationById(curationId);
 
@@ -123,20 +160,18 @@ public class CurationService {
 
         curation.setCurationStatus(Curation.CurationStatus.CURATION_DELETE);
         curationRepository.save(curation);
+        curationRankingService.onCurationDeleted(curation.getCurationId());
+        curationSearchService.onCurationDeleted(curation.getCurationId());
+        memberStatsService.onCurationDeleted(curation.getMember().getMemberId(), curation.getCurationLikeCount());
         log.info("# Curation ID : {} 삭제되었습니다.", curation.getCurationId());
     }
 
-    //총 게시글 조회(관리자 전용)
-    public Long findTotalCurations(String email) {
-        if(email.equals("admin@email.com")){
-            return curationRepository.count();
-        }
-        throw new BusinessLogicException(ExceptionCode.MEMBER_NO_HAVE_AUTHORIZATION);
-    }
-
+    // 상세 조회 : 큐레이션 그래프 2번(본문/큐레이터/카테고리/책, 이미지) + 좋아요·구독 여부 1번
+    @Transactional(readOnly = true)
     public Curation getCuration(long curationId, String authenticatedEmail) {
 
-        Curation curation = findVerifiedCurationById(curationId);
+        Curation curation = curationRepository.findDetailById(curationId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.CURATION_NOT_FOUND));
 
         checkCurationIsDeleted(curation);
 
@@ -145,45 +180,203 @@ public class CurationService {
                 throw new BusinessLogicException(ExceptionCode.CURATION_ACCESS_DENIED);
         }
 
+        // 같은 영속성 컨텍스트의 curation 에 이미지 목록이 채워짐
+        curationRepository.findDetailImagesById(curationId);
+
+        // 아직 DB 에 반영되지 않은 좋아요 증감분 포함 (curationLikeCount 는 updatable = false 라 저장되지 않음)
+        curation.setCurationLikeCount(curation.getCurationLikeCount()
+                + (int) likeCountBuffer.getPendingDelta(curation.getCurationId()));
+
         if(!authenticatedEmail.equals("anonymousUser")) {
-            Member member =  memberService.findVerifiedMemberByEmail(authenticatedEmail);
-            Optional<CurationLike> curationLike = curationLikeRepository.findByCurationAndMember(curation, member);
+            // 좋아요/구독 여부 조회 조건으로만 쓰이므로 캐시된 회원 정보의 id 로 조회
+            MemberPrincipal principal = memberService.findVerifiedMemberPrincipalByEmail(authenticatedEmail);
+            curationRepository.findViewerState(curationId, principal.getMemberId(), curation.getMember().getMemberId())
+                    .ifPresent(viewerState -> {
+                        curation.setLiked(viewerState.isLiked());
+                        curation.setSubscribed(viewerState.isSubscribed());
+                    });
+        }
 
-            Optional<Subscribe> subscribe = subscribeRepository.findBySubscriberAndSubscribedMember(
-                    member, curation.getMember()
-            );
+        return curation;
+    }
 
-            if(curationLike.isPresent()) curation.setLiked(true);
-            if(subscribe.isPresent()) curation.setSubscribed(true);
+    @Transactional(readOnly = true)
+    public Page<CurationListQueryDto> getNewCurations(int page, int size, Long categoryId, boolean preview){
+        return findCurationListItems(categoryId, preview,
+                PageRequest.of(page, size, Sort.by("curationId").descending()));
+    }
+
+    // 랭킹이 준비된 경우 정렬된 랭킹에서 해당 페이지 id 만 꺼내 PK 로 조회
+    @Transactional(readOnly = true)
+    public Page<CurationListQueryDto> getBestCurations(int page, int size, Long categoryId, boolean preview){
+        Pageable pageable = PageRequest.of(page, size);
+        if (!curationRankingService.isReady()) {
+            return findCurationListItems(categoryId, preview,
+                    PageRequest.of(page, size, Sort.by("curationLikeCount").descending()));
         }
 
+        List<Long> curationIds = curationRankingService.getBestCurationIds(categoryId, page, size);
+        List<CurationListQueryDto> curations = curationIds.isEmpty() ? List.of() : preview
+                ? withLatestReplies(curationRepository.findCurationListItemsByIds(curationIds))
+                : curationRepository.findCurationListItemsWithoutContentByIds(curationIds);
 
-        return curation;
+        return new PageImpl<>(sortByIds(curations, curationIds), pageable,
+                curationRankingService.countBestCurations(categoryId));
     }
+
+    // 검색 : 검색 인덱스에서 관련도순으로 해당 페이지 id 만 꺼내 PK 로 조회
     @Transactional(readOnly = true)
-    public Page<Curation> getNewCurations(int page, int size, Long categoryId){
-        // 추후 리팩토링 필요
-        return curationRepository.findCurationList(
-                categoryId,
+    public Page<CurationListQueryDto> searchCurations(String query, int page, int size){
+        CurationSearchResult result = curationSearchService.search(query, page, size);
+        List<Long> curationIds = result.getCurationIds();
+        List<CurationListQueryDto> curations = curationIds.isEmpty()
+                ? List.of()
+                : withLatestReplies(curationRepository.findCurationListItemsByIds(curationIds));
+
+        return new PageImpl<>(sortByIds(curations, curationIds), PageRequest.of(page, size), result.getTotalHits());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<CurationListQueryDto> getCategoryCurations(long categoryId, int page, int size, boolean preview){
+        categoryService.findVerifiedCategory(categoryId);
+
+        return findCurationListItems(categoryId, preview,
                 PageRequest.of(page, size, Sort.by("curationId").descending()));
     }
 
     @Transactional(readOnly = true)
-    public Page<Curation> getBestCurations(int page, int size, Long categoryId){
-        // 추후 리팩토링 필요
-        return curationRepository.findCurationList(
-                categoryId,
-                PageRequest.of(page, size, Sort.by("curationLikeCount").descending()));
+    public Slice<CurationListQueryDto> getNewCurationsByCursor(String cursor, int size, Long categoryId, boolean preview){
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null) {
+            String[] keys = CursorCodec.decode(cursor, 1);
+            cursorId = CursorCodec.decodeLong(keys[0]);
+        }
+
+        Pageable pageable = PageRequest.of(0, size);
+        if (!preview) return curationRepository.findCurationListItemsWithoutContentAfter(categoryId, cursorId, pageable);
+
+        return withLatestReplies(curationRepository.findCurationListItemsAfter(categoryId, cursorId, pageable));
     }
 
+    // 랭킹이 준비된 경우 랭킹 커서(r, 점수, curationId) 다음 순위부터 조회, 아니면 좋아요 수 순 커서(좋아요 수, curationId)로 DB 에서 조회
+    // 랭킹이 준비되기 전(기동 직후)에 시작한 스크롤은 준비된 뒤 다음 페이지부터 랭킹 순서로 이어짐
     @Transactional(readOnly = true)
-    public Page<Curation> getCategoryCurations(long categoryId, int page, int size){
-        return curationRepository.findByCategoryAndCurationStatusAndVisibility(
-                categoryService.findVerifiedCategory(categoryId),
-                Curation.CurationStatus.CURATION_ACTIVE,
-                Curation.Visibility.PUBLIC,
-                PageRequest.of(page, size, Sort.by("curationId").descending())
-        );
+    public Slice<CurationListQueryDto> getBestCurationsByCursor(String cursor, int size, Long categoryId, boolean preview){
+        String[] keys = cursor == null ? null : CursorCodec.decode(cursor);
+        if (curationRankingService.isReady() && (keys == null || keys.length == 3)) {
+            return getRankedCurationsByCursor(keys, size, categoryId, preview);
+        }
+
+        int likeCount = Integer.MAX_VALUE;
+        long cursorId = Long.MAX_VALUE;
+        if (keys != null) {
+            if (keys.length != 2) throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            likeCount = (int) CursorCodec.decodeLong(keys[0]);
+            cursorId = CursorCodec.decodeLong(keys[1]);
+        }
+
+        Pageable pageable = PageRequest.of(0, size);
+        if (!preview) {
+            return curationRepository.findBestCurationListItemsWithoutContentAfter(categoryId, likeCount, cursorId, pageable);
+        }
+
+        return withLatestReplies(curationRepository.findBestCurationListItemsAfter(
+                categoryId, likeCount, cursorId, pageable));
+    }
+
+    // 랭킹 보드에서 커서 위치를 바로 찾아 size + 1 건의 id 만 꺼내고 PK 로 조회 (앞 페이지를 순회하지 않음)
+    private Slice<CurationListQueryDto> getRankedCurationsByCursor(String[] keys, int size, Long categoryId, boolean preview){
+        Double score = null;
+        long cursorId = 0;
+        if (keys != null) {
+            if (!RANKING_CURSOR.equals(keys[0])) throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            score = CursorCodec.decodeDouble(keys[1]);
+            cursorId = CursorCodec.decodeLong(keys[2]);
+        }
+
+        List<Long> curationIds = curationRankingService.getBestCurationsAfter(categoryId, score, cursorId, size + 1)
+                .stream()
+                .map(RankedCuration::getCurationId)
+                .collect(Collectors.toList());
+        boolean hasNext = curationIds.size() > size;
+        if (hasNext) curationIds = curationIds.subList(0, size);
+
+        List<CurationListQueryDto> curations = curationIds.isEmpty() ? List.of() : preview
+                ? withLatestReplies(curationRepository.findCurationListItemsByIds(curationIds))
+                : curationRepository.findCurationListItemsWithoutContentByIds(curationIds);
+        return new SliceImpl<>(sortByIds(curations, curationIds), PageRequest.of(0, size), hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<CurationListQueryDto> getCategoryCurationsByCursor(long categoryId, String cursor, int size, boolean preview){
+        categoryService.findVerifiedCategory(categoryId);
+
+        return getNewCurationsByCursor(cursor, size, categoryId, preview);
+    }
+
+    // 구독 피드 : 구독한 큐레이터들의 큐레이션을 curationId 역순으로 커서 이후부터 조회
+    @Transactional(readOnly = true)
+    public Slice<CurationListQueryDto> getFeedByCursor(String cursor, int size, String authenticatedEmail){
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null) {
+            String[] keys = CursorCodec.decode(cursor, 1);
+            cursorId = CursorCodec.decodeLong(keys[0]);
+        }
+
+        MemberPrincipal principal = memberService.findVerifiedMemberPrincipalByEmail(authenticatedEmail);
+        return withLatestReplies(feedService.getFeed(principal.getMemberId(), cursorId, size));
+    }
+
+    public String getNextNewCursor(Slice<CurationListQueryDto> curations){
+        if (!curations.hasNext()) return null;
+
+        CurationListQueryDto last = curations.getContent().get(curations.getNumberOfElements() - 1);
+        return CursorCodec.encode(last.getCurationId());
+    }
+
+    // 랭킹 커서는 보드의 현재 점수로 만듦 (그 사이 보드에서 빠졌으면 응답 값으로 다시 계산)
+    public String getNextBestCursor(Slice<CurationListQueryDto> curations){
+        if (!curations.hasNext()) return null;
+
+        CurationListQueryDto last = curations.getContent().get(curations.getNumberOfElements() - 1);
+        if (!curationRankingService.isReady()) {
+            return CursorCodec.encode(last.getCurationLikeCount(), last.getCurationId());
+        }
+
+        double score = curationRankingService.getScore(last.getCurationId())
+                .orElseGet(() -> RankedCuration.score(last.getCurationLikeCount(), last.getReplyCount(),
+                        last.getCreatedAt()));
+        return CursorCodec.encode(RANKING_CURSOR, score, last.getCurationId());
+    }
+
+    // 목록 조회는 엔티티 대신 프로젝션으로 조회 : 큐레이터, 카테고리를 행마다 추가 조회하지 않음
+    private Page<CurationListQueryDto> findCurationListItems(Long categoryId, boolean preview, Pageable pageable){
+        if (preview) return withLatestReplies(curationRepository.findCurationListItems(categoryId, pageable));
+
+        return curationRepository.findCurationListItemsWithoutContent(categoryId, pageable);
+    }
+
+    // 최신 댓글 미리보기 : 댓글이 있는 카드만 모아 한 번의 쿼리로 조회 (카드마다 조회하지 않음)
+    private <T extends Iterable<CurationListQueryDto>> T withLatestReplies(T curations){
+        Map<Long, CurationListQueryDto> byId = new HashMap<>();
+        curations.forEach(curation -> {
+            if (curation.getReplyCount() > 0) byId.put(curation.getCurationId(), curation);
+        });
+        if (byId.isEmpty()) return curations;
+
+        for (LatestReplyDto latestReply : replyRepository.findLatestReplies(byId.keySet(), LATEST_REPLY_LENGTH)) {
+            byId.get(latestReply.getCurationId()).setLatestReply(latestReply);
+        }
+        return curations;
+    }
+
+    private List<CurationListQueryDto> sortByIds(List<CurationListQueryDto> curations, List<Long> curationIds){
+        Map<Long, Integer> order = curationIds.stream()
+                .collect(Collectors.toMap(Function.identity(), curationIds::indexOf));
+
+        return curations.stream()
+                .sorted(Comparator.comparing(curation -> order.get(curation.getCurationId())))
+                .collect(Collectors.toList());
     }
 
     public List<Curation> getMyCurations(Member member) {
@@ -0,0 +1,14 @@
+package com.seb_main_004.whosbook.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CursorInfo {
+
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+}
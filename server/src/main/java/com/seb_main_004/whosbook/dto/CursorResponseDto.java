@@ -0,0 +1,17 @@
+package com.seb_main_004.whosbook.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+//커서 기반 페이지네이션 응답 DTO : 전체 개수(count) 없이 다음 페이지 커서만 내려준다
+@Getter
+public class CursorResponseDto<T> {
+    private List<T> data;
+    private CursorInfo cursorInfo;
+
+    public CursorResponseDto(List<T> data, int size, String nextCursor) {
+        this.data = data;
+        this.cursorInfo = new CursorInfo(size, nextCursor != null, nextCursor);
+    }
+}
@@ -18,16 +18,21 @@ public enum ExceptionCode {
     CURATION_CANNOT_CHANGE(403,"큐레이션을 수정 할 수 없습니다."),
     CURATION_CANNOT_DELETE(403,"큐레이션을 삭제 할 수 없습니다."),
     CURATION_HAS_BEEN_DELETED(404,"이미 삭제된 큐레이션입니다."),
+    LIKE_ALREADY_EXISTS(409, "이미 좋아요한 큐레이션입니다."),
     REPLY_NOT_FOUND(404,"댓글을 찾을 수 없습니다."),
     REPLY_CANNOT_CHANGE(403,"댓글을 수정 할 수 없습니다."),
     REPLY_CANNOT_DELETE(403,"댓글을 삭제 할 수 없습니다."),
     SUBSCRIBE_HAS_BEEN_ACTIVE(409, "이미 구독 중 입니다."),
     SUBSCRIBE_HAS_BEEN_NON_ACTIVE(404, "이미 구독취소 상태 입니다."),
     FILE_EXTENSION_NOT_ACCEPTABLE(415, "이미지 확장자만 등록 가능합니다."),
+    IMAGE_NOT_ACCEPTABLE(415, "이미지 파일이 올바르지 않습니다."),
+    IMAGE_TOO_LARGE(413, "이미지 해상도가 너무 큽니다."),
     IMAGE_NOT_FOUND(404, "이미지를 찾을 수 없습니다."),
     IMAGE_CAN_NOT_SAVE(403, "이미지를 저장 할 수 있는 권한이 없습니다."),
     IMAGE_UPLOAD_FAILED(500, "파일 업로드에 실패했습니다."),
+    IMAGE_UPLOAD_BUSY(503, "이미지 업로드 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
     CATEGORY_NOT_FOUND(404, "카테고리를 찾을 수 없습니다."),
+    INVALID_CURSOR(400, "잘못된 커서 값입니다."),
     NOT_IMPLEMENTATION(501,"Not Implementation");
 
     @Getter
@@ -0,0 +1,165 @@
+package com.seb_main_004.whosbook.image.service;
+
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+//크기별 이미지 생성 : 원본을 디코딩해 ImageVariants.WIDTHS 너비의 JPEG 로 다시 인코딩
+//디코딩/인코딩은 CPU 작업이라 작업 스레드 수를 제한한 별도 풀에서 실행 (기본 CPU 코어 수의 절반, 요청 스레드 몫을 남겨둠)
+@Slf4j
+@Component
+public class ImageResizer {
+
+    private final float quality;
+    private final ThreadPoolExecutor executor;
+    private final Timer resizeTimer;
+
+    public ImageResizer(MeterRegistry meterRegistry,
+                        @Value("${image.resize.workers:0}") int workers,
+                        @Value("${image.resize.queue-capacity:100}") int queueCapacity,
+                        @Value("${image.resize.quality:0.8}") float quality) {
+        this.quality = quality;
+        int poolSize = workers > 0 ? workers : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("image-resize-"));
+        this.resizeTimer = Timer.builder("image.resize")
+                .description("크기별 이미지 생성 시간 (디코딩 + 인코딩)")
+                .register(meterRegistry);
+    }
+
+    //source 옆(같은 디렉터리)에 너비별 JPEG 파일을 만들어 반환, 호출 스레드는 생성이 끝날 때까지 대기
+    //디코딩할 수 없는 이미지면 IllegalArgumentException
+    //작업 대기열이 가득 차면 RejectedExecutionException, 기다리는 중 중단되면 InterruptedException (이미지 문제가 아니므로 재시도 가능)
+    public List<ImageVariant> resize(Path source) throws InterruptedException {
+        Future<List<ImageVariant>> result = executor.submit(() -> resizeTimer.recordCallable(() -> createVariants(source)));
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw new UncheckedIOException(new IOException(e.getCause()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<ImageVariant> createVariants(Path source) throws IOException {
+        BufferedImage image = read(source);
+        List<ImageVariant> variants = new ArrayList<>(ImageVariants.WIDTHS.size());
+        try {
+            // 큰 너비부터 만들고 다음 너비는 직전 결과에서 줄임 (단계적으로 줄여 품질 유지, 원본보다 크게 늘리지는 않음)
+            for (int width : ImageVariants.WIDTHS) {
+                image = scale(image, Math.min(width, image.getWidth()));
+                Path file = Files.createTempFile(source.getParent(), "variant-", ".jpg");
+                variants.add(new ImageVariant(width, file));
+                writeJpeg(image, file);
+            }
+            return variants;
+        } catch (IOException | RuntimeException e) {
+            variants.forEach(ImageVariant::delete);
+            throw e;
+        }
+    }
+
+    //가장 큰 너비의 2배보다 큰 이미지는 디코딩할 때 건너뛰며 읽음 (큰 원본을 전부 메모리에 펼치지 않도록)
+    private BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다");
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int subsampling = Math.max(1, reader.getWidth(0) / (ImageVariants.maxWidth() * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    //JPEG 는 투명도가 없으므로 투명한 영역은 흰색으로 채움
+    private BufferedImage scale(BufferedImage source, int width) {
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, Path file) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(file.toFile())) {
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    @Getter
+    public static class ImageVariant {
+        private final int width;
+        private final Path file;
+
+        ImageVariant(int width, Path file) {
+            this.width = width;
+            this.file = file;
+        }
+
+        public void delete() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("# 크기별 이미지 임시 파일 삭제 실패 : {}", file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.seb_main_004.whosbook.image.service;
+
+//비동기 업로드 결과 통보 : 업로드 작업 스레드에서 호출됨 (요청 트랜잭션은 이미 끝난 상태)
+public interface ImageUploadListener {
+    //variantsStored : 크기별 이미지까지 올라갔는지 (false 면 원본만 있음)
+    default void onUploaded(String imageKey, boolean variantsStored) {
+    }
+
+    default void onFailed(String imageKey) {
+    }
+}
@@ -0,0 +1,292 @@
+package com.seb_main_004.whosbook.image.service;
+
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
+import com.seb_main_004.whosbook.image.utils.ImageStorageUtils;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+//이미지 업로드 : 요청 스레드에서는 로컬 디스크에 임시 저장만 하고 바로 응답, 스토리지(S3) 업로드는 작업 스레드에서 실행
+//작업 스레드 수와 대기열 크기를 제한하고, 대기열이 가득 차면 새 업로드를 받지 않음 (요청 스레드가 S3 응답을 기다리며 쌓이지 않도록)
+//원본을 먼저 올린 뒤 크기별 이미지(ImageVariants)를 만들어 올리고, 각 업로드는 max-attempts 번까지 간격을 늘려가며 재시도
+//크기별 이미지 생성도 생성 풀이 가득 찼거나 중단된 경우는 같은 방식으로 재시도 (디코딩할 수 없는 이미지는 바로 포기)
+//결과는 ImageUploadListener 로 알림 (원본이 올라가면 성공, 크기별 이미지는 만들지 못해도 업로드를 실패시키지 않고 여부만 전달)
+@Slf4j
+@Service
+public class ImageUploadService {
+
+    private final StorageService storageService;
+    private final ImageResizer imageResizer;
+    private final Path spoolDir;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final ThreadPoolExecutor executor;
+    private final Timer uploadTimer;
+    private final Timer failedUploadTimer;
+    private final Counter retryCounter;
+    private final Counter variantFailureCounter;
+
+    public ImageUploadService(StorageService storageService,
+                              ImageResizer imageResizer,
+                              MeterRegistry meterRegistry,
+                              @Value("${image.upload.spool-dir:${java.io.tmpdir}/whosbook-image-spool}") String spoolDir,
+                              @Value("${image.upload.workers:4}") int workers,
+                              @Value("${image.upload.queue-capacity:100}") int queueCapacity,
+                              @Value("${image.upload.max-attempts:3}") int maxAttempts,
+                              @Value("${image.upload.retry-backoff-ms:500}") long retryBackoffMs) {
+        this.storageService = storageService;
+        this.imageResizer = imageResizer;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        try {
+            this.spoolDir = Files.createDirectories(Path.of(spoolDir));
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 임시 저장 디렉터리를 만들 수 없습니다 : " + spoolDir, e);
+        }
+        this.executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("image-upload-"));
+
+        Gauge.builder("image.upload.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("스토리지 업로드 대기 중인 이미지 수")
+                .register(meterRegistry);
+        this.uploadTimer = Timer.builder("image.upload")
+                .description("이미지 스토리지 업로드 시간 (크기별 이미지 생성, 재시도 포함)")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failedUploadTimer = Timer.builder("image.upload")
+                .description("이미지 스토리지 업로드 시간 (크기별 이미지 생성, 재시도 포함)")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("image.upload.retries")
+                .description("이미지 스토리지 업로드 재시도 횟수")
+                .register(meterRegistry);
+        this.variantFailureCounter = Counter.builder("image.upload.variant.failures")
+                .description("원본만 올리고 크기별 이미지는 만들거나 올리지 못한 이미지 수")
+                .register(meterRegistry);
+    }
+
+    //파일 형식/해상도를 확인하고 로컬 디스크에 임시 저장 후 업로드를 예약, 업로드 후의 이미지 URL 을 바로 반환
+    //트랜잭션 안에서 호출하면 커밋 이후에 대기열에 넣음 (작업 스레드가 커밋되지 않은 이미지 행을 갱신하지 않도록)
+    public String upload(MultipartFile image, String imageKey, ImageUploadListener listener) {
+        ImageStorageUtils.verifyImage(image);
+        if (executor.getQueue().remainingCapacity() == 0)
+            throw new BusinessLogicException(ExceptionCode.IMAGE_UPLOAD_BUSY);
+
+        UploadTask task = new UploadTask(spool(image), image.getContentType(), imageKey, listener);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(task);
+        } else {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) submit(task);
+                    else task.discard();
+                }
+            });
+        }
+
+        return storageService.getUrl(imageKey);
+    }
+
+    //원본과 크기별 이미지를 함께 삭제
+    public void delete(String imageKey) {
+        storageService.delete(imageKey);
+        ImageVariants.keys(imageKey).forEach(storageService::delete);
+    }
+
+    //원본과 크기별 이미지를 한 번의 요청으로 삭제 : 트랜잭션 안에서 호출하면 커밋 이후에 삭제 (롤백되면 그대로 둠)
+    //행은 이미 지워졌으므로 지우지 못한 객체는 로그로 남김
+    public void deleteAllAfterCommit(Collection<String> imageKeys) {
+        if (imageKeys.isEmpty()) return;
+
+        List<String> objectKeys = ImageVariants.withVariants(imageKeys);
+        Runnable delete = () -> {
+            List<String> failedKeys = storageService.deleteAll(objectKeys);
+            if (!failedKeys.isEmpty()) log.error("# 이미지 스토리지 삭제 실패 : {}", failedKeys);
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete.run();
+            }
+        });
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    //종료 시 대기 중인 업로드까지 마치고 종료 (임시 파일이 남지 않도록)
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("# 이미지 업로드 작업 종료 대기 시간 초과 : 대기 중 {}건", executor.getQueue().size());
+        }
+    }
+
+    private Path spool(MultipartFile image) {
+        try {
+            Path file = Files.createTempFile(spoolDir, "upload-", ".tmp");
+            image.transferTo(file);
+            return file;
+        } catch (IOException e) {
+            log.error("# 이미지 임시 저장 실패", e);
+            throw new BusinessLogicException(ExceptionCode.IMAGE_UPLOAD_FAILED);
+        }
+    }
+
+    private void submit(UploadTask task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 용량 확인 이후 커밋 사이에 대기열이 가득 찬 경우
+            log.error("# 이미지 업로드 대기열이 가득 차 업로드하지 못했습니다 : {}", task.imageKey);
+            task.fail();
+        }
+    }
+
+    private class UploadTask implements Runnable {
+        private final Path file;
+        private final String contentType;
+        private final String imageKey;
+        private final ImageUploadListener listener;
+
+        UploadTask(Path file, String contentType, String imageKey, ImageUploadListener listener) {
+            this.file = file;
+            this.contentType = contentType;
+            this.imageKey = imageKey;
+            this.listener = listener;
+        }
+
+        @Override
+        public void run() {
+            long start = System.nanoTime();
+            if (!store(file, contentType, imageKey)) {
+                failedUploadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                fail();
+                return;
+            }
+
+            boolean variantsStored = storeVariants();
+            if (!variantsStored) variantFailureCounter.increment();
+            uploadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            discard();
+            notify(() -> listener.onUploaded(imageKey, variantsStored));
+        }
+
+        //원본이 올라간 뒤에 만듦 : 실패해도 원본은 그대로 두고 false 반환 (화면은 원본 URL 을 사용)
+        private boolean storeVariants() {
+            List<ImageResizer.ImageVariant> variants;
+            try {
+                variants = resize();
+            } catch (RuntimeException e) {
+                // 디코딩할 수 없는 이미지(CMYK JPEG 등)는 재시도해도 같은 결과이므로 크기별 이미지 없이 둠
+                log.warn("# 크기별 이미지 생성 실패 : {}", imageKey, e);
+                return false;
+            }
+            if (variants == null) return false;
+
+            try {
+                for (ImageResizer.ImageVariant variant : variants) {
+                    if (!store(variant.getFile(), ImageVariants.CONTENT_TYPE,
+                            ImageVariants.key(imageKey, variant.getWidth()))) return false;
+                }
+                return true;
+            } finally {
+                variants.forEach(ImageResizer.ImageVariant::delete);
+            }
+        }
+
+        //생성 풀이 가득 찼거나 기다리는 중 중단된 경우 업로드와 같이 재시도, 끝내 만들지 못하면 null
+        private List<ImageResizer.ImageVariant> resize() {
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                try {
+                    return imageResizer.resize(file);
+                } catch (RejectedExecutionException e) {
+                    log.warn("# 크기별 이미지 생성 대기열이 가득 참 ({}/{}) : {}", attempt, maxAttempts, imageKey);
+                } catch (InterruptedException e) {
+                    // 인터럽트 상태를 유지 : 종료 중이면 backOff 에서 재시도를 멈춤
+                    Thread.currentThread().interrupt();
+                    log.warn("# 크기별 이미지 생성 중단 ({}/{}) : {}", attempt, maxAttempts, imageKey);
+                }
+                if (attempt == maxAttempts || !backOff(attempt)) break;
+                retryCounter.increment();
+            }
+            return null;
+        }
+
+        private boolean store(Path source, String type, String key) {
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                try {
+                    storageService.store(source, type, key);
+                    return true;
+                } catch (RuntimeException e) {
+                    log.warn("# 이미지 업로드 실패 ({}/{}) : {}", attempt, maxAttempts, key, e);
+                    if (attempt == maxAttempts || !backOff(attempt)) break;
+                    retryCounter.increment();
+                }
+            }
+            return false;
+        }
+
+        void fail() {
+            discard();
+            notify(() -> listener.onFailed(imageKey));
+        }
+
+        void discard() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("# 이미지 임시 파일 삭제 실패 : {}", file, e);
+            }
+        }
+
+        //1, 2, 4 ... 배로 늘려가며 대기, 종료 중이면 재시도하지 않음
+        private boolean backOff(int attempt) {
+            try {
+                Thread.sleep(retryBackoffMs << (attempt - 1));
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private void notify(Runnable callback) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                log.error("# 이미지 업로드 결과 반영 실패 : {}", imageKey, e);
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.seb_main_004.whosbook.image.service;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectResult;
@@ -18,11 +21,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class S3StorageService implements StorageService{
+    //DeleteObjects 한 번에 삭제할 수 있는 최대 키 수
+    private static final int MAX_DELETE_KEYS = 1000;
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
     private final AmazonS3Client s3Client;
@@ -37,12 +45,29 @@ public class S3StorageService implements StorageService{
            PutObjectResult result = s3Client.putObject(new PutObjectRequest(bucketName, imageKey,inputStream, objectMetadata));
            log.info("# 업로드에 성공했습니다. 이미지 정보 : {}", result.getETag());
 
-           return URLDecoder.decode(s3Client.getUrl(bucketName, imageKey).toString(), StandardCharsets.UTF_8);
+           return getUrl(imageKey);
         } catch (IOException e) {
             throw new BusinessLogicException(ExceptionCode.IMAGE_UPLOAD_FAILED);
         }
     }
 
+    @Override
+    public String store(Path file, String contentType, String imageKey) {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+
+        PutObjectResult result = s3Client.putObject(
+                new PutObjectRequest(bucketName, imageKey, file.toFile()).withMetadata(objectMetadata));
+        log.info("# 업로드에 성공했습니다. 이미지 정보 : {}", result.getETag());
+
+        return getUrl(imageKey);
+    }
+
+    @Override
+    public String getUrl(String imageKey) {
+        return URLDecoder.decode(s3Client.getUrl(bucketName, imageKey).toString(), StandardCharsets.UTF_8);
+    }
+
     @Override
     public String makeObjectKey(MultipartFile file, String imagePath, long memberId) {
         StringBuilder newFileName = new StringBuilder(imagePath);
@@ -66,4 +91,26 @@ public class S3StorageService implements StorageService{
         }
     }
 
+    @Override
+    public List<String> deleteAll(List<String> imageKeys) {
+        List<String> failedKeys = new ArrayList<>();
+        for (int from = 0; from < imageKeys.size(); from += MAX_DELETE_KEYS) {
+            List<String> keys = imageKeys.subList(from, Math.min(from + MAX_DELETE_KEYS, imageKeys.size()));
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucketName)
+                    .withKeys(keys.toArray(new String[0]))
+                    .withQuiet(true);
+            try {
+                s3Client.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failedKeys.add(error.getKey()));
+                log.error("# AWS S3 이미지 일부 삭제 실패 : {}건", e.getErrors().size());
+            } catch (AmazonClientException e) {
+                failedKeys.addAll(keys);
+                log.error("# AWS S3 이미지 일괄 삭제 실패 : {}건", keys.size(), e);
+            }
+        }
+        log.info("# AWS S3 이미지 일괄 삭제 : 요청 {}건, 실패 {}건", imageKeys.size(), failedKeys.size());
+        return failedKeys;
+    }
+
 }
@@ -2,8 +2,17 @@ package com.seb_main_004.whosbook.image.service;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.file.Path;
+import java.util.List;
+
 public interface StorageService {
     String store(MultipartFile file, String imageKey);
+    //로컬에 임시 저장한 파일 업로드 (비동기 업로드 작업용)
+    String store(Path file, String contentType, String imageKey);
+    //업로드 전에도 알 수 있는 이미지 URL
+    String getUrl(String imageKey);
     String makeObjectKey(MultipartFile multipartFile, String imagePath, long memberId);
     void delete(String imageKey);
+    //여러 이미지를 한 번에 삭제하고, 삭제하지 못한 키를 반환 (없는 키는 삭제된 것으로 봄)
+    List<String> deleteAll(List<String> imageKeys);
 }
@@ -0,0 +1,163 @@
+package com.seb_main_004.whosbook.image.utils;
+
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+//이미지 파일 앞부분(헤더)만 읽어 실제 형식(매직 바이트)과 가로/세로 크기를 확인
+//픽셀 데이터는 디코딩하지 않고, JPEG 는 크기 정보(SOF)가 나올 때까지 앞의 세그먼트를 건너뛰며 읽음
+@Getter
+public class ImageHeader {
+
+    //헤더를 찾기 위해 읽을 최대 바이트 (JPEG 의 EXIF/ICC 세그먼트를 건너뛰는 데 필요한 만큼)
+    static final int MAX_HEADER_BYTES = 256 * 1024;
+
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    public enum Format {
+        JPEG(List.of("jpg", "jpeg")),
+        PNG(List.of("png")),
+        GIF(List.of("gif"));
+
+        private final List<String> extensions;
+
+        Format(List<String> extensions) {
+            this.extensions = extensions;
+        }
+
+        public boolean matches(String extension) {
+            return extensions.contains(extension);
+        }
+    }
+
+    private final Format format;
+    private final int width;
+    private final int height;
+
+    ImageHeader(Format format, int width, int height) {
+        this.format = format;
+        this.width = width;
+        this.height = height;
+    }
+
+    public long getPixels() {
+        return (long) width * height;
+    }
+
+    //지원하지 않는 형식이거나 헤더가 잘려 있으면 null
+    public static ImageHeader read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new LimitedInputStream(new BufferedInputStream(stream), MAX_HEADER_BYTES));
+        try {
+            int first = in.readUnsignedByte();
+            int second = in.readUnsignedByte();
+            if (first == 0xFF && second == 0xD8) return readJpeg(in);
+            if (first == (PNG_SIGNATURE[0] & 0xFF) && second == PNG_SIGNATURE[1]) return readPng(in);
+            if (first == 'G' && second == 'I') return readGif(in);
+            return null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    //시그니처 8바이트 다음 첫 청크가 IHDR (너비 4바이트, 높이 4바이트, 빅엔디언)
+    private static ImageHeader readPng(DataInputStream in) throws IOException {
+        byte[] signature = new byte[PNG_SIGNATURE.length - 2];
+        in.readFully(signature);
+        for (int i = 0; i < signature.length; i++) {
+            if (signature[i] != PNG_SIGNATURE[i + 2]) return null;
+        }
+        in.readInt();
+        if (in.readInt() != 0x49484452) return null;
+        return new ImageHeader(Format.PNG, in.readInt(), in.readInt());
+    }
+
+    //GIF87a / GIF89a 다음 논리 화면 너비, 높이 (2바이트씩, 리틀엔디언)
+    private static ImageHeader readGif(DataInputStream in) throws IOException {
+        byte[] signature = new byte[4];
+        in.readFully(signature);
+        String version = new String(signature, StandardCharsets.US_ASCII);
+        if (!version.equals("F87a") && !version.equals("F89a")) return null;
+        int width = Short.reverseBytes(in.readShort()) & 0xFFFF;
+        int height = Short.reverseBytes(in.readShort()) & 0xFFFF;
+        return new ImageHeader(Format.GIF, width, height);
+    }
+
+    //SOI 다음 세그먼트를 차례로 건너뛰다가 SOFn 세그먼트에서 높이, 너비를 읽음 (이미지 데이터(SOS)가 먼저 나오면 잘못된 파일)
+    private static ImageHeader readJpeg(DataInputStream in) throws IOException {
+        while (true) {
+            int marker = in.readUnsignedByte();
+            if (marker != 0xFF) return null;
+            while (marker == 0xFF) marker = in.readUnsignedByte();
+
+            // 길이가 없는 마커
+            if (marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7)) continue;
+            if (marker == 0xD9 || marker == 0xDA) return null;
+
+            int length = in.readUnsignedShort();
+            if (length < 2) return null;
+            if (isStartOfFrame(marker)) {
+                in.readUnsignedByte();
+                int height = in.readUnsignedShort();
+                int width = in.readUnsignedShort();
+                return new ImageHeader(Format.JPEG, width, height);
+            }
+            skipFully(in, length - 2);
+        }
+    }
+
+    //SOF0 ~ SOF15 중 DHT(C4), JPG(C8), DAC(CC) 는 제외
+    private static boolean isStartOfFrame(int marker) {
+        return marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC;
+    }
+
+    private static void skipFully(InputStream in, long count) throws IOException {
+        while (count > 0) {
+            long skipped = in.skip(count);
+            if (skipped <= 0) {
+                if (in.read() < 0) throw new EOFException();
+                skipped = 1;
+            }
+            count -= skipped;
+        }
+    }
+
+    //limit 바이트를 넘어서 읽으려고 하면 EOF 로 처리 (헤더를 찾지 못한 파일을 끝까지 읽지 않도록)
+    private static class LimitedInputStream extends FilterInputStream {
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) return -1;
+            int b = super.read();
+            if (b >= 0) remaining--;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) return -1;
+            int count = super.read(b, off, (int) Math.min(len, remaining));
+            if (count > 0) remaining -= count;
+            return count;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, remaining));
+            if (skipped > 0) remaining -= skipped;
+            return skipped;
+        }
+    }
+}
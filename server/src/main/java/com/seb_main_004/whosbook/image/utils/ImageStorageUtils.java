@@ -6,13 +6,45 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 @Slf4j
 public class ImageStorageUtils {
     private static final List<String> ACCEPT_IMG_EXTENSION = List.of("jpg", "png", "jpeg", "gif");
-    public static void verifyImageExtension(MultipartFile image){
-        // TODO : Apache Tika 같은 라이브러리로 파일 위변조 여부 확인 필요
 
+    //디코딩 시 메모리를 과하게 쓰는 이미지(압축 폭탄) 차단 : 4천만 픽셀(ARGB 로 약 160MB), 한 변 16384 픽셀까지
+    static final long MAX_PIXELS = 40_000_000L;
+    static final int MAX_SIDE = 16_384;
+
+    //확장자와 실제 파일 형식(헤더의 매직 바이트)이 일치하는지, 해상도가 허용 범위인지 확인
+    //파일 앞부분만 읽으므로 스토리지 업로드 전에 위변조/압축 폭탄 파일을 거를 수 있음
+    public static ImageHeader verifyImage(MultipartFile image) {
+        verifyImageExtension(image);
+
+        ImageHeader header;
+        try (InputStream in = image.getInputStream()) {
+            header = ImageHeader.read(in);
+        } catch (IOException e) {
+            throw new BusinessLogicException(ExceptionCode.IMAGE_UPLOAD_FAILED);
+        }
+
+        if (header == null || !header.getFormat().matches(getFileExtension(image))) {
+            log.info("# 이미지 형식 검증 실패 : {}", image.getOriginalFilename());
+            throw new BusinessLogicException(ExceptionCode.IMAGE_NOT_ACCEPTABLE);
+        }
+        if (header.getWidth() <= 0 || header.getHeight() <= 0) {
+            throw new BusinessLogicException(ExceptionCode.IMAGE_NOT_ACCEPTABLE);
+        }
+        if (header.getWidth() > MAX_SIDE || header.getHeight() > MAX_SIDE || header.getPixels() > MAX_PIXELS) {
+            log.info("# 이미지 해상도 초과 : {}x{}", header.getWidth(), header.getHeight());
+            throw new BusinessLogicException(ExceptionCode.IMAGE_TOO_LARGE);
+        }
+
+        return header;
+    }
+
+    public static void verifyImageExtension(MultipartFile image){
         log.info("# 이미지 확장자 검증 중 이미지 확장자 : {}", getFileExtension(image));
         if (ACCEPT_IMG_EXTENSION.contains(getFileExtension(image)) == false) {
             throw new BusinessLogicException(ExceptionCode.FILE_EXTENSION_NOT_ACCEPTABLE);
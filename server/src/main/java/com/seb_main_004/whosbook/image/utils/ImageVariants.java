@@ -0,0 +1,59 @@
+package com.seb_main_004.whosbook.image.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+//크기별 이미지(썸네일) : 원본 이미지 키 옆에 너비별 JPEG 로 저장
+//ex) curationImages/1_1690000000000.png -> curationImages/1_1690000000000_w320.jpg
+public class ImageVariants {
+
+    //큰 너비부터 (작은 이미지는 바로 앞 단계에서 줄여서 만듦)
+    public static final List<Integer> WIDTHS = List.of(1280, 640, 320);
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    //StorageService.makeObjectKey 로 만든 키 (경로/회원id_업로드시각.확장자) 만 크기별 이미지가 있음
+    //소셜 로그인 프로필 이미지 같은 외부 URL 은 제외
+    private static final Pattern STORED_IMAGE = Pattern.compile("[A-Za-z]+Images/\\d+_\\d+\\.[A-Za-z0-9]+$");
+
+    public static int maxWidth() {
+        return WIDTHS.get(0);
+    }
+
+    public static String key(String imageKey, int width) {
+        return imageKey.substring(0, imageKey.lastIndexOf(".")) + "_w" + width + ".jpg";
+    }
+
+    public static List<String> keys(String imageKey) {
+        return WIDTHS.stream().map(width -> key(imageKey, width)).collect(Collectors.toList());
+    }
+
+    //원본과 크기별 이미지의 키를 한 목록으로 (스토리지 일괄 삭제용)
+    public static List<String> withVariants(Collection<String> imageKeys) {
+        List<String> objectKeys = new ArrayList<>(imageKeys.size() * (WIDTHS.size() + 1));
+        for (String imageKey : imageKeys) {
+            objectKeys.add(imageKey);
+            objectKeys.addAll(keys(imageKey));
+        }
+        return objectKeys;
+    }
+
+    //원본 URL 로 너비별 URL 을 만듦 : {"w320": url, "w640": url, "w1280": url}
+    //업로드 작업이 크기별 이미지까지 올렸다고 기록한 이미지만 (업로드 중, 생성 실패, 이전에 올린 이미지는 빈 Map 이므로 원본 URL 사용)
+    public static Map<String, String> urls(String imageUrl, boolean variantsStored) {
+        if (!variantsStored || imageUrl == null || !STORED_IMAGE.matcher(imageUrl).find()) return Collections.emptyMap();
+
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (int i = WIDTHS.size() - 1; i >= 0; i--) {
+            int width = WIDTHS.get(i);
+            urls.put("w" + width, key(imageUrl, width));
+        }
+        return urls;
+    }
+}
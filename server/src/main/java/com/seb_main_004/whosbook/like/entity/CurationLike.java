@@ -10,6 +10,8 @@ import lombok.Getter;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(
+        name = "uk_curation_like_curation_member", columnNames = {"curation_id", "member_id"}))
 @Data
 @AllArgsConstructor
 public class CurationLike {
@@ -23,7 +25,7 @@ public class CurationLike {
     private Curation curation;
 
     @ManyToOne
-    @JoinColumn(name=" member_id")
+    @JoinColumn(name="member_id")
     private Member member;
 
 
@@ -4,11 +4,17 @@ import com.seb_main_004.whosbook.curation.entity.Curation;
 import com.seb_main_004.whosbook.like.entity.CurationLike;
 import com.seb_main_004.whosbook.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface CurationLikeRepository extends JpaRepository<CurationLike,Long> {
 
     Optional<CurationLike> findByCurationAndMember(Curation findCuration, Member findMember);
+
+    @Modifying
+    @Query("delete from CurationLike cl where cl.curation.curationId = :curationId and cl.member.memberId = :memberId")
+    int deleteByCurationIdAndMemberId(@Param("curationId") long curationId, @Param("memberId") long memberId);
 }
@@ -2,18 +2,24 @@ package com.seb_main_004.whosbook.like.service;
 
 
 import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.ranking.CurationRankingService;
+import com.seb_main_004.whosbook.curation.repository.CurationRepository;
 import com.seb_main_004.whosbook.curation.service.CurationService;
 import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
 import com.seb_main_004.whosbook.like.dto.CurationLikeResponseDto;
 import com.seb_main_004.whosbook.like.entity.CurationLike;
 import com.seb_main_004.whosbook.like.repository.CurationLikeRepository;
+import com.seb_main_004.whosbook.member.cache.MemberPrincipal;
 import com.seb_main_004.whosbook.member.entity.Member;
 import com.seb_main_004.whosbook.member.service.MemberService;
+import com.seb_main_004.whosbook.member.service.MemberStatsService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.Optional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
@@ -25,68 +31,100 @@ public class CurationLikeService {
 
     private final MemberService memberService;
 
-    public CurationLikeService(CurationLikeRepository likeRepository, CurationService curationService, MemberService memberService) {
+    private final CurationRankingService curationRankingService;
+
+    private final CurationRepository curationRepository;
+
+    private final LikeCountBuffer likeCountBuffer;
+
+    private final MemberStatsService memberStatsService;
+
+    public CurationLikeService(CurationLikeRepository likeRepository, CurationService curationService, MemberService memberService,
+                               CurationRankingService curationRankingService, CurationRepository curationRepository,
+                               LikeCountBuffer likeCountBuffer, MemberStatsService memberStatsService) {
         this.likeRepository = likeRepository;
         this.curationService = curationService;
         this.memberService = memberService;
+        this.curationRankingService = curationRankingService;
+        this.curationRepository = curationRepository;
+        this.likeCountBuffer = likeCountBuffer;
+        this.memberStatsService = memberStatsService;
     }
 
     public CurationLikeResponseDto postLike(String userEmail, long curationId) {
 
         //curation, Member 정보 가져오기
         Curation findCuration= curationService.findVerifiedCurationById(curationId);
-        Member findMember= memberService.findVerifiedMemberByEmail(userEmail);
-
-        int likeCount=findCuration.getCurationLikeCount(); //findCuration으로 count값을 가져올시 null포인터 익셉션을 던짐
+        Member findMember= memberService.getMemberReference(memberService.findVerifiedMemberPrincipalByEmail(userEmail));
 
         String findEmail= findCuration.getMember().getEmail();
 
         log.info("curation찾았음!!!");
         //본인글에는 좋아요  할수없게 비활성화
         if(userEmail.equals(findEmail)){
-            return  new CurationLikeResponseDto(curationId,likeCount);
+            return  new CurationLikeResponseDto(curationId, getLikeCount(curationId));
         }
 
-        //member가 해당 curation에 좋아요한 정보 가져오기
-        Optional<CurationLike> findLike= likeRepository.findByCurationAndMember(findCuration,findMember);
-
-        //좋아요 누르지 않은 상태일때
-        if(findLike.isEmpty()){
-            likeRepository.save(new CurationLike(findCuration, findMember));
-            likeCount++;
-
+        //이미 좋아요한 상태일때
+        if(likeRepository.findByCurationAndMember(findCuration,findMember).isPresent()){
+            return new CurationLikeResponseDto(curationId, getLikeCount(curationId));
         }
 
-        findCuration.setCurationLikeCount(likeCount);
-        curationService.saveCuration(findCuration);
-
-        return new CurationLikeResponseDto(curationId, likeCount);
-
+        //동시에 들어온 중복 좋아요는 (curation_id, member_id) 유니크 제약으로 DB 에서 거부됨
+        try {
+            likeRepository.saveAndFlush(new CurationLike(findCuration, findMember));
+        } catch (DataIntegrityViolationException e) {
+            throw new BusinessLogicException(ExceptionCode.LIKE_ALREADY_EXISTS);
+        }
 
+        return new CurationLikeResponseDto(curationId, changeLikeCount(curationId, 1));
     }
 
     public void delete(String userEmail, long curationId) {
 
-        Curation findCuration= curationService.findVerifiedCurationById(curationId);
-        Member findMember= memberService.findVerifiedMemberByEmail(userEmail);
-
-        int likeCount=findCuration.getCurationLikeCount(); //findCuration으로 count값을 가져올시 null포인터 익셉션을 던짐
+        curationService.findVerifiedCurationById(curationId);
+        MemberPrincipal findMember= memberService.findVerifiedMemberPrincipalByEmail(userEmail);
 
-        String findEmail= findCuration.getMember().getEmail();
-
-        Optional<CurationLike> findLike= likeRepository.findByCurationAndMember(findCuration,findMember);
+        //좋아요를 누른경우 : 실제로 삭제된 경우에만 좋아요 수 감소
+        if(likeRepository.deleteByCurationIdAndMemberId(curationId, findMember.getMemberId()) == 1){
+            changeLikeCount(curationId, -1);
+        }
+    }
 
+    //저장된 좋아요 수 + 버퍼에 쌓여 아직 반영되지 않은 증감분
+    public int getLikeCount(long curationId) {
+        return (int) Math.max(0, likeCountBuffer.getLikeCount(curationId, () -> curationRepository.findLikeCount(curationId)));
+    }
 
-        //좋아요를 누른경우
-        if(findLike.isPresent()){
-            likeCount--;
-            likeRepository.delete(findLike.get());
+    //버퍼 사용 시 커밋 이후에 증감분을 누적 (롤백된 좋아요가 반영되지 않도록), 아니면 바로 원자적으로 갱신
+    //작성자의 받은 좋아요 수(member_stats)도 같은 방식으로 반영 : 버퍼 사용 시 flush 에서 함께 반영
+    //랭킹에는 커밋 이후 증감분만 전달 : 동시에 커밋된 좋아요가 서로 계산한 좋아요 수로 덮어쓰지 않도록
+    //반환값은 응답용 좋아요 수 (버퍼 사용 시 이 트랜잭션의 스냅샷 기준이라 동시에 반영된 좋아요가 빠질 수 있음)
+    private int changeLikeCount(long curationId, int delta) {
+        curationRankingService.onLikeCountChanged(curationId, delta);
+        if (likeCountBuffer.isEnabled()) {
+            afterCommit(() -> likeCountBuffer.add(curationId, delta));
+            return (int) Math.max(0,
+                    likeCountBuffer.getLikeCount(curationId, () -> curationRepository.findLikeCount(curationId)) + delta);
         }
 
+        if (delta > 0) curationRepository.increaseLikeCount(curationId);
+        else curationRepository.decreaseLikeCount(curationId);
+        memberStatsService.onLikeCountChanged(curationId, delta);
+        return curationRepository.findLikeCount(curationId);
+    }
 
-        findCuration.setCurationLikeCount(likeCount);
-        curationService.saveCuration(findCuration);
-
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
 
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
     }
 }
@@ -0,0 +1,198 @@
+package com.seb_main_004.whosbook.like.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+//좋아요 수 쓰기 지연 버퍼
+//좋아요/취소 시 curation 행을 바로 갱신하지 않고 큐레이션별 LongAdder 에 누적한 뒤,
+//주기적으로 누적된 증감분을 한 번의 배치 UPDATE 로 반영해 인기 큐레이션의 행 잠금 경합을 줄임
+//누적 중인 증감분과 DB 에 반영 중인 증감분은 한 객체(Buffers)로 묶어 한 번에 교체 : 조회는 항상 같은 시점의 두 값을 함께 읽음
+@Slf4j
+@Component
+public class LikeCountBuffer {
+
+    private static final String FLUSH_SQL = "update curation " +
+            "set curation_like_count = greatest(curation_like_count + ?, 0) " +
+            "where curation_id = ?";
+
+    //작성자의 받은 좋아요 수 : 큐레이션 좋아요 수와 같은 트랜잭션에서 반영
+    private static final String MEMBER_STATS_FLUSH_SQL = "update member_stats " +
+            "set like_received_count = greatest(like_received_count + ?, 0) " +
+            "where member_id = (select member_id from curation where curation_id = ? and curation_status = 'CURATION_ACTIVE')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final boolean enabled;
+    private final Timer flushTimer;
+    private final Counter flushFailures;
+
+    //교체 중에는 쓰기 잠금으로 누적을 잠시 막음
+    private volatile Buffers buffers = new Buffers(new ConcurrentHashMap<>(), Collections.emptyMap());
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    //flush 가 커밋하고 반영 중인 증감분을 비울 때까지 getLikeCount 의 조회를 막음 (커밋된 증감분을 두 번 더하지 않도록)
+    private final ReentrantReadWriteLock commitLock = new ReentrantReadWriteLock();
+
+    public LikeCountBuffer(JdbcTemplate jdbcTemplate,
+                           TransactionOperations transactionOperations,
+                           MeterRegistry meterRegistry,
+                           @Value("${like.buffer.enabled:true}") boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.enabled = enabled;
+        this.flushTimer = Timer.builder("like.buffer.flush")
+                .description("좋아요 수 배치 반영 소요 시간")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("like.buffer.flush.failures")
+                .description("좋아요 수 배치 반영 실패 횟수")
+                .register(meterRegistry);
+        Gauge.builder("like.buffer.size", this, LikeCountBuffer::size)
+                .description("반영 대기 중인 큐레이션 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void add(long curationId, long delta) {
+        swapLock.readLock().lock();
+        try {
+            buffers.pending.computeIfAbsent(curationId, id -> new LongAdder()).add(delta);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    //아직 DB 에 반영되지 않은 증감분 : 조회 시 저장된 좋아요 수에 더해서 사용
+    public long getPendingDelta(long curationId) {
+        return buffers.delta(curationId);
+    }
+
+    //저장된 좋아요 수(persistedCount 로 조회)에 아직 반영되지 않은 증감분을 더함
+    //flush 의 커밋 ~ 반영 중인 증감분 비우기 사이에는 조회를 기다림 (커밋된 증감분을 두 번 더하지 않도록)
+    //persistedCount 가 최신 커밋 값을 읽는 경우에만 정확함 : 이미 조회를 한 REPEATABLE READ 트랜잭션 안에서는
+    //그 사이 flush 된 증감분이 빠질 수 있으므로 응답용 근사값으로만 사용 (랭킹은 증감분으로 갱신)
+    public long getLikeCount(long curationId, IntSupplier persistedCount) {
+        commitLock.readLock().lock();
+        try {
+            return persistedCount.getAsInt() + buffers.delta(curationId);
+        } finally {
+            commitLock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        return buffers.pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${like.buffer.flush-delay-ms:1000}")
+    public synchronized void flush() {
+        // 누적 중이던 증감분을 그대로 반영 중인 증감분으로 옮김 (어느 쪽에도 없는 순간이 없도록 한 번에 교체)
+        Map<Long, LongAdder> drained;
+        swapLock.writeLock().lock();
+        try {
+            if (buffers.pending.isEmpty()) return;
+            drained = buffers.pending;
+            buffers = new Buffers(new ConcurrentHashMap<>(), drained);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        Map<Long, Long> deltas = drained.entrySet().stream()
+                .filter(entry -> entry.getValue().sum() != 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+        if (deltas.isEmpty()) {
+            clearFlushing(Collections.emptyMap());
+            return;
+        }
+
+        List<Object[]> batchArgs = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .collect(Collectors.toList());
+        try {
+            flushTimer.record(() -> transactionOperations.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+                jdbcTemplate.batchUpdate(MEMBER_STATS_FLUSH_SQL, batchArgs);
+                // 커밋 직전부터 잠금 : 커밋된 값과 반영 중인 증감분이 함께 조회되지 않도록
+                commitLock.writeLock().lock();
+            }));
+            clearFlushing(Collections.emptyMap());
+            log.debug("# 좋아요 수 {}건 반영", deltas.size());
+        } catch (RuntimeException e) {
+            // 반영하지 못한 증감분은 다시 누적해 다음 주기에 재시도
+            flushFailures.increment();
+            clearFlushing(deltas);
+            log.error("# 좋아요 수 반영 실패, 다음 주기에 재시도 : {}건", deltas.size(), e);
+        } finally {
+            if (commitLock.isWriteLockedByCurrentThread()) commitLock.writeLock().unlock();
+        }
+    }
+
+    //반영 중인 증감분을 비움 : 실패한 증감분(retry)은 같은 교체에서 누적 중인 증감분으로 되돌림
+    //기존 LongAdder 에 더하면 교체 전 객체를 읽는 조회가 두 번 더하게 되므로 새 맵에 합쳐서 교체
+    private void clearFlushing(Map<Long, Long> retry) {
+        swapLock.writeLock().lock();
+        try {
+            Map<Long, LongAdder> pending = buffers.pending;
+            if (!retry.isEmpty()) {
+                pending = new ConcurrentHashMap<>(pending);
+                for (Map.Entry<Long, Long> entry : retry.entrySet()) {
+                    pending.compute(entry.getKey(), (id, adder) -> {
+                        LongAdder merged = new LongAdder();
+                        merged.add(entry.getValue() + (adder == null ? 0 : adder.sum()));
+                        return merged;
+                    });
+                }
+            }
+            buffers = new Buffers(pending, Collections.emptyMap());
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    //종료 시 남은 증감분을 모두 반영
+    @PreDestroy
+    public void drain() {
+        flush();
+        if (size() > 0) {
+            log.warn("# 종료 전 반영하지 못한 좋아요 수 : {}건", size());
+        }
+    }
+
+    //누적 중인 증감분(pending)과 DB 에 반영 중인 증감분(flushing) : 교체 후에는 flushing 에 더 이상 누적되지 않음
+    private static class Buffers {
+        private final Map<Long, LongAdder> pending;
+        private final Map<Long, LongAdder> flushing;
+
+        private Buffers(Map<Long, LongAdder> pending, Map<Long, LongAdder> flushing) {
+            this.pending = pending;
+            this.flushing = flushing;
+        }
+
+        private long delta(long curationId) {
+            LongAdder pendingDelta = pending.get(curationId);
+            LongAdder flushingDelta = flushing.get(curationId);
+            return (pendingDelta == null ? 0 : pendingDelta.sum()) + (flushingDelta == null ? 0 : flushingDelta.sum());
+        }
+    }
+}
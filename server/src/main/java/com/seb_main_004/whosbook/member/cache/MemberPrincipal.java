@@ -0,0 +1,36 @@
+package com.seb_main_004.whosbook.member.cache;
+
+import com.seb_main_004.whosbook.member.entity.Member;
+import lombok.Getter;
+
+import java.util.List;
+
+//인증된 회원을 식별하는 데 필요한 값만 담은 불변 객체
+//엔티티 대신 캐시에 보관해 요청마다 회원 + 권한(roles)을 다시 조회하지 않음
+@Getter
+public class MemberPrincipal {
+
+    private final long memberId;
+    private final String email;
+    private final String nickname;
+    private final Member.MemberStatus memberStatus;
+    private final List<String> roles;
+
+    public MemberPrincipal(long memberId, String email, String nickname,
+                           Member.MemberStatus memberStatus, List<String> roles) {
+        this.memberId = memberId;
+        this.email = email;
+        this.nickname = nickname;
+        this.memberStatus = memberStatus;
+        this.roles = List.copyOf(roles);
+    }
+
+    public static MemberPrincipal of(Member member) {
+        return new MemberPrincipal(member.getMemberId(), member.getEmail(), member.getNickname(),
+                member.getMemberStatus(), member.getRoles());
+    }
+
+    public boolean isDeleted() {
+        return memberStatus == Member.MemberStatus.MEMBER_DELETE;
+    }
+}
@@ -0,0 +1,75 @@
+package com.seb_main_004.whosbook.member.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+//이메일 → MemberPrincipal 캐시
+//1. 요청 범위 : 한 요청 안에서 같은 회원을 여러 번 확인해도 한 번만 조회
+//2. 공유 캐시 : 짧은 TTL 동안 요청 간에 재사용 (회원 수정/탈퇴 시 즉시 제거)
+@Component
+public class MemberPrincipalCache {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = MemberPrincipalCache.class.getName() + ".";
+
+    private final Cache<String, MemberPrincipal> cache;
+
+    public MemberPrincipalCache(MeterRegistry meterRegistry,
+                                @Value("${member.principal-cache.ttl-seconds:30}") long ttlSeconds,
+                                @Value("${member.principal-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "member.principal");
+    }
+
+    public MemberPrincipal get(String email, Function<String, MemberPrincipal> loader) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) return cache.get(email, loader);
+
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + email;
+        MemberPrincipal principal = (MemberPrincipal) requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (principal == null) {
+            principal = cache.get(email, loader);
+            requestAttributes.setAttribute(attributeName, principal, RequestAttributes.SCOPE_REQUEST);
+        }
+        return principal;
+    }
+
+    public void put(MemberPrincipal principal) {
+        cache.put(principal.getEmail(), principal);
+    }
+
+    //트랜잭션 안에서 제거하면 커밋 전에 다른 요청이 이전 값을 다시 채울 수 있으므로 커밋 이후에도 한 번 더 제거
+    public void evict(String email) {
+        evictNow(email);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictNow(email);
+            }
+        });
+    }
+
+    private void evictNow(String email) {
+        cache.invalidate(email);
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + email, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.seb_main_004.whosbook.member.dto.*;
 import com.seb_main_004.whosbook.dto.MultiResponseDto;
 import com.seb_main_004.whosbook.member.entity.Member;
 import com.seb_main_004.whosbook.member.mapper.MemberMapperClass;
+import com.seb_main_004.whosbook.member.service.AdminSnapshotService;
 import com.seb_main_004.whosbook.member.service.MemberService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -41,14 +42,16 @@ public class MemberController {
     private final MemberMapperClass memberMapperClass;
     private final CurationService curationService;
     private final CurationMapper curationMapper;
+    private final AdminSnapshotService adminSnapshotService;
 
     private final JwtTokenizer jwtTokenizer;
 
-    public MemberController(MemberService memberService, MemberMapperClass memberMapperClass, CurationService curationService, CurationMapper curationMapper, JwtTokenizer jwtTokenizer) {
+    public MemberController(MemberService memberService, MemberMapperClass memberMapperClass, CurationService curationService, CurationMapper curationMapper, AdminSnapshotService adminSnapshotService, JwtTokenizer jwtTokenizer) {
         this.memberService = memberService;
         this.memberMapperClass = memberMapperClass;
         this.curationService = curationService;
         this.curationMapper = curationMapper;
+        this.adminSnapshotService = adminSnapshotService;
         this.jwtTokenizer = jwtTokenizer;
     }
 
@@ -107,13 +110,7 @@ public class MemberController {
         }
         String userEmail = authentication.getPrincipal().toString();
 
-        Long totalMembers = memberService.findTotalMembers(userEmail);
-        Member mostSubsripedMember = memberService.findMemberByMostSubscription(userEmail);
-        List<Member> mostCurationMembers = memberService.findMemberByMostCuration(userEmail);
-        Long totalCurations = curationService.findTotalCurations(userEmail);
-
-        return new ResponseEntity(memberMapperClass.adminResponseDto(totalMembers, mostSubsripedMember, mostCurationMembers, totalCurations)
-            , HttpStatus.OK);
+        return new ResponseEntity(adminSnapshotService.getSnapshot(userEmail), HttpStatus.OK);
     }
 
     //타 유저 마이페이지 조회
@@ -0,0 +1,21 @@
+package com.seb_main_004.whosbook.member.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+//관리자 페이지 회원 요약 : 스냅샷은 요청과 무관하게 만들어지므로 엔티티 대신 필요한 값만 보관
+@Getter
+@AllArgsConstructor
+public class AdminMemberDto {
+    private long memberId;
+
+    private String email;
+
+    private String nickname;
+
+    private String imageUrl;
+
+    private long subscriberCount;
+
+    private long curationCount;
+}
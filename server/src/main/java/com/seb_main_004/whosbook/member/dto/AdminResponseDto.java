@@ -0,0 +1,21 @@
+package com.seb_main_004.whosbook.member.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+//관리자 페이지 통계 스냅샷 : 주기적으로 계산해 두고 generatedAt 과 함께 응답
+@Builder
+@Getter
+public class AdminResponseDto {
+    Long totalMembers;
+
+    AdminMemberDto mostSubsripedMember;
+
+    List<AdminMemberDto> mostCurationMembers;
+
+    Long totalCurations;
+
+    LocalDateTime generatedAt;
+}
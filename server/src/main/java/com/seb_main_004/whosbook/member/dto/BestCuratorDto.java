@@ -1,7 +1,11 @@
 package com.seb_main_004.whosbook.member.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
 import lombok.*;
 
+import java.util.Map;
+
 @NoArgsConstructor
 @AllArgsConstructor
 @Setter
@@ -17,5 +21,18 @@ public class BestCuratorDto {
 
     private String image;
 
+    @JsonIgnore
+    private boolean imageVariantsStored;
+
     private int mySubscriber;
+
+    //member_stats 의 구독자 수로 생성
+    public BestCuratorDto(long memberId, String email, String nickname, String introduction, String image,
+                          boolean imageVariantsStored, long mySubscriber) {
+        this(memberId, email, nickname, introduction, image, imageVariantsStored, (int) mySubscriber);
+    }
+
+    public Map<String, String> getImageVariants() {
+        return ImageVariants.urls(image, imageVariantsStored);
+    }
 }
@@ -1,9 +1,13 @@
 package com.seb_main_004.whosbook.member.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
 import com.seb_main_004.whosbook.member.entity.Member;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Map;
+
 @Builder
 @Getter
 public class CuratorResponseDto {
@@ -16,4 +20,11 @@ public class CuratorResponseDto {
     private String introduction;
 
     private String image;
+
+    @JsonIgnore
+    private boolean imageVariantsStored;
+
+    public Map<String, String> getImageVariants() {
+        return ImageVariants.urls(image, imageVariantsStored);
+    }
 }
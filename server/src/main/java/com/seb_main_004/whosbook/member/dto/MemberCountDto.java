@@ -0,0 +1,19 @@
+package com.seb_main_004.whosbook.member.dto;
+
+import lombok.Getter;
+
+//회원별 구독자 수, 작성한 큐레이션 수 집계 결과
+@Getter
+public class MemberCountDto {
+    private long memberId;
+
+    private long subscriberCount;
+
+    private long curationCount;
+
+    public MemberCountDto(long memberId, Long subscriberCount, Long curationCount) {
+        this.memberId = memberId;
+        this.subscriberCount = subscriberCount == null ? 0 : subscriberCount;
+        this.curationCount = curationCount == null ? 0 : curationCount;
+    }
+}
@@ -1,9 +1,13 @@
 package com.seb_main_004.whosbook.member.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
 import com.seb_main_004.whosbook.member.entity.Member;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.Map;
+
 @Data
 @Builder
 public class MemberResponseDto {
@@ -15,6 +19,9 @@ public class MemberResponseDto {
 
     private String image;
 
+    @JsonIgnore
+    private boolean imageVariantsStored;
+
     private String introduction;
 
     private long mySubscriber;
@@ -22,4 +29,8 @@ public class MemberResponseDto {
     private long myCuration;
 
     private Member.MemberStatus memberStatus;
+
+    public Map<String, String> getImageVariants() {
+        return ImageVariants.urls(image, imageVariantsStored);
+    }
 }
@@ -1,9 +1,13 @@
 package com.seb_main_004.whosbook.member.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
 import com.seb_main_004.whosbook.member.entity.Member;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.Map;
+
 @Data
 @Builder
 public class OtherMemberResponseDto {
@@ -15,6 +19,9 @@ public class OtherMemberResponseDto {
 
     private String image;
 
+    @JsonIgnore
+    private boolean imageVariantsStored;
+
     private String introduction;
 
     private long mySubscriber;
@@ -24,4 +31,8 @@ public class OtherMemberResponseDto {
     private boolean isSubscribed;
 
     private Member.MemberStatus memberStatus;
+
+    public Map<String, String> getImageVariants() {
+        return ImageVariants.urls(image, imageVariantsStored);
+    }
 }
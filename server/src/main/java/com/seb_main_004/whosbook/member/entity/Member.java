@@ -8,13 +8,18 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
 @Data
 @AllArgsConstructor
 public class Member {
@@ -39,6 +44,10 @@ public class Member {
     //S3 Bucket 이미지 key
     private String imageKey;
 
+    //프로필 이미지의 크기별 이미지(ImageVariants) 업로드 여부 : 업로드 작업이 크기별 이미지까지 올린 경우에만 true
+    @Column(nullable = false)
+    private boolean imageVariantsStored = false;
+
     public Member() { }
 
     public Member(String email, String nickname,String imageUrl) {
@@ -47,6 +56,12 @@ public class Member {
         this.imageUrl=imageUrl;
     }
 
+    //이미지가 바뀌면 새 이미지의 크기별 이미지는 업로드 작업이 끝난 뒤 다시 표시
+    public void setImageKey(String imageKey) {
+        if (!Objects.equals(this.imageKey, imageKey)) this.imageVariantsStored = false;
+        this.imageKey = imageKey;
+    }
+
 
     @Enumerated(value = EnumType.STRING)
     @Column(nullable = false)
@@ -59,6 +74,9 @@ public class Member {
     private LocalDateTime updatedAt=LocalDateTime.now();
 
     //사용자의 권한을 등록하기 위한 권한 테이블
+    //회원 목록 조회 시 권한을 회원마다 조회하지 않고 한 번에 조회
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member-roles")
+    @BatchSize(size = 100)
     @ElementCollection(fetch = FetchType.EAGER)
     private List<String> roles = new ArrayList<>();
 
@@ -0,0 +1,37 @@
+package com.seb_main_004.whosbook.member.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+//회원별 통계 읽기 모델 : 구독자 수, 작성한 큐레이션 수, 받은 좋아요 수
+//구독/큐레이션 작성·삭제/좋아요 시 증감으로 갱신하고, MemberStatsReconciler 가 주기적으로 원본 테이블 기준으로 보정
+@Entity
+@Table(name = "member_stats")
+@Getter
+@NoArgsConstructor
+public class MemberStats {
+    @Id
+    private long memberId;
+
+    @Column(nullable = false)
+    private long subscriberCount;
+
+    @Column(nullable = false)
+    private long curationCount;
+
+    @Column(nullable = false)
+    private long likeReceivedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public MemberStats(long memberId) {
+        this.memberId = memberId;
+    }
+}
@@ -1,21 +1,22 @@
 package com.seb_main_004.whosbook.member.mapper;
 
-import com.seb_main_004.whosbook.curation.service.CurationService;
 import com.seb_main_004.whosbook.member.dto.*;
 import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.service.MemberService;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Component
 public class MemberMapperClass {
-    private final CurationService curationService;
+    private final MemberService memberService;
 
-    public MemberMapperClass(CurationService curationService) {
-        this.curationService = curationService;
+    public MemberMapperClass(MemberService memberService) {
+        this.memberService = memberService;
     }
 
     public Member memberPostDtoToMember(MemberPostDto memberPostDto) {
@@ -54,38 +55,23 @@ public class MemberMapperClass {
         }
     }
 
-    public AdminResponseDto adminResponseDto(Long totalMembers, Member mostSubsripedMember,
-    List<Member> mostCurationMembers, Long totalCurations) {
-    return AdminResponseDto.builder()
-        .totalMembers(totalMembers)
-        .mostSubsripedMember(mostSubsripedMember)
-        .mostCurationMembers(mostCurationMembers)
-        .totalCurations(totalCurations)
-        .build();
-    }
-
     public MemberResponseDto memberToMemberResponseDto(Member member) {
-        return MemberResponseDto.builder()
-                .memberId(member.getMemberId())
-                .email(member.getEmail())
-                .nickname(member.getNickname())
-                .image(member.getImageUrl())
-                .introduction(member.getIntroduction())
-                .mySubscriber(member.getSubscribers().size())
-                .myCuration(curationService.getMyCurations(member).size())
-                .memberStatus(member.getMemberStatus())
-                .build();
+        //구독자, 큐레이션 컬렉션을 불러오지 않고 member_stats 에서 조회
+        MemberCountDto count = memberService.findMemberCount(member);
+        return memberToMemberResponseDto(member, count.getSubscriberCount(), count.getCurationCount());
     }
 
     public OtherMemberResponseDto memberToOtherMemberResponseDto(Member otherMember, boolean isSubscribed) {
+        MemberCountDto count = memberService.findMemberCount(otherMember);
         return OtherMemberResponseDto.builder()
                 .memberId(otherMember.getMemberId())
                 .email(otherMember.getEmail())
                 .nickname(otherMember.getNickname())
                 .image(otherMember.getImageUrl())
+                .imageVariantsStored(otherMember.isImageVariantsStored())
                 .introduction(otherMember.getIntroduction())
-                .mySubscriber(otherMember.getSubscribers().size())
-                .myCuration(curationService.getMyCurations(otherMember).size())
+                .mySubscriber(count.getSubscriberCount())
+                .myCuration(count.getCurationCount())
                 .isSubscribed(isSubscribed)
                 .memberStatus(otherMember.getMemberStatus())
                 .build();
@@ -93,10 +79,12 @@ public class MemberMapperClass {
 
 
     //회원 마이페이지의 '내가 구독한 큐레이터 목록' API를 위한 매퍼 메소드
+    //회원마다 집계하지 않고 페이지 전체의 구독자 수/큐레이션 수를 한 번에 조회
     public List<MemberResponseDto> subscribingMembersToMemberResponseDtos(List<Member> subscribingMembers) {
         if(subscribingMembers == null) {
             return null;
         } else {
+            Map<Long, MemberCountDto> counts = memberService.findMemberCounts(subscribingMembers);
             List<MemberResponseDto> list = new ArrayList<>(subscribingMembers.size());
             Iterator it = subscribingMembers.iterator();
 
@@ -105,14 +93,30 @@ public class MemberMapperClass {
                 if(member.getMemberStatus() == Member.MemberStatus.MEMBER_DELETE) {
                     continue;
                 } else {
-                    long myCurations = curationService.getMyCurations(member).size();
-                    list.add(this.memberToMemberResponseDto(member));
+                    MemberCountDto count = counts.get(member.getMemberId());
+                    list.add(this.memberToMemberResponseDto(member,
+                            count == null ? 0 : count.getSubscriberCount(),
+                            count == null ? 0 : count.getCurationCount()));
                 }
             }
             return list;
         }
     }
 
+    private MemberResponseDto memberToMemberResponseDto(Member member, long subscriberCount, long curationCount) {
+        return MemberResponseDto.builder()
+                .memberId(member.getMemberId())
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .image(member.getImageUrl())
+                .imageVariantsStored(member.isImageVariantsStored())
+                .introduction(member.getIntroduction())
+                .mySubscriber(subscriberCount)
+                .myCuration(curationCount)
+                .memberStatus(member.getMemberStatus())
+                .build();
+    }
+
     public BestCuratorDto memberToBestCuratorDto(Member member) {
         return new BestCuratorDto(
                 member.getMemberId(),
@@ -120,7 +124,8 @@ public class MemberMapperClass {
                 member.getNickname(),
                 member.getIntroduction(),
                 member.getImageUrl(),
-                member.getSubscribers().size()
+                member.isImageVariantsStored(),
+                memberService.findMemberCount(member).getSubscriberCount()
         );
     }
 
@@ -0,0 +1,117 @@
+package com.seb_main_004.whosbook.member.ranking;
+
+import com.seb_main_004.whosbook.member.entity.Member;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+//구독자 수 상위 capacity 명만 정렬된 상태로 유지하는 인메모리 보드
+//보드 밖의 회원은 모두 boundary 이하 순위 : boundary 보다 앞선 항목까지만 순위가 보장되므로 그 구간만 응답에 사용
+//변경은 synchronized 로 순서대로 반영하고, 조회는 잠금 없이 정렬된 집합을 순회
+class CuratorBoard {
+
+    private final int capacity;
+    private final Map<Long, RankedCurator> entries = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<RankedCurator> curators = new ConcurrentSkipListSet<>(RankedCurator.ORDER);
+
+    //보드에 없는 회원 중 가장 앞선 순위의 상한 (null 이면 모든 회원이 보드에 있음)
+    private volatile RankedCurator boundary;
+
+    //전체 큐레이터(활동 중인 회원) 수 : 페이지 응답의 전체 건수
+    private volatile long total;
+
+    CuratorBoard(int capacity, List<RankedCurator> ranked, long total) {
+        this.capacity = capacity;
+        this.total = total;
+        ranked.stream().limit(capacity).forEach(this::index);
+        if (ranked.size() > capacity) boundary = ranked.get(capacity);
+    }
+
+    //구독/구독 취소 : 변경 후의 구독자 수로 교체 (같은 변경을 다시 반영해도 결과가 같음)
+    //보드에 없으면 현재 구독자 수로 상위권 진입 여부를 판단
+    synchronized void changeSubscriberCount(Member member, long subscriberCount) {
+        RankedCurator existing = entries.get(member.getMemberId());
+        if (existing != null) {
+            replace(existing, existing.withSubscriberCount(subscriberCount));
+            return;
+        }
+        enter(RankedCurator.of(member, subscriberCount));
+    }
+
+    //이미 보드에 있는 회원(재계산 결과에 포함된 가입)은 그대로 둠
+    synchronized void join(Member member) {
+        if (entries.containsKey(member.getMemberId())) return;
+        enter(RankedCurator.of(member, 0));
+    }
+
+    synchronized void leave(long memberId) {
+        RankedCurator existing = entries.remove(memberId);
+        if (existing != null) curators.remove(existing);
+    }
+
+    //가입/탈퇴에 따른 전체 큐레이터 수 증감
+    synchronized void changeTotal(long delta) {
+        total = Math.max(0, total + delta);
+    }
+
+    synchronized void updateProfile(Member member) {
+        update(member.getMemberId(), curator -> curator.withProfile(member));
+    }
+
+    //순위가 보장되는 구간만으로 페이지를 채울 수 없으면 empty (DB 에서 조회)
+    Optional<List<RankedCurator>> page(long offset, int size) {
+        RankedCurator limit = boundary;
+        List<RankedCurator> page = curators.stream()
+                .takeWhile(curator -> limit == null || RankedCurator.ORDER.compare(curator, limit) < 0)
+                .skip(offset)
+                .limit(size)
+                .collect(Collectors.toList());
+
+        if (page.size() == size || limit == null || offset + page.size() >= total) return Optional.of(page);
+        return Optional.empty();
+    }
+
+    RankedCurator get(long memberId) {
+        return entries.get(memberId);
+    }
+
+    long total() {
+        return total;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void update(long memberId, UnaryOperator<RankedCurator> updater) {
+        RankedCurator existing = entries.get(memberId);
+        if (existing != null) replace(existing, updater.apply(existing));
+    }
+
+    private void enter(RankedCurator candidate) {
+        if (boundary != null && RankedCurator.ORDER.compare(candidate, boundary) >= 0) return;
+
+        index(candidate);
+        // 넘친 마지막 항목을 내보내고, 그 항목이 보드 밖의 새 상한이 됨
+        while (entries.size() > capacity) {
+            RankedCurator evicted = curators.pollLast();
+            entries.remove(evicted.getMemberId());
+            if (boundary == null || RankedCurator.ORDER.compare(evicted, boundary) < 0) boundary = evicted;
+        }
+    }
+
+    private void replace(RankedCurator old, RankedCurator updated) {
+        curators.remove(old);
+        index(updated);
+    }
+
+    private void index(RankedCurator curator) {
+        entries.put(curator.getMemberId(), curator);
+        curators.add(curator);
+    }
+}
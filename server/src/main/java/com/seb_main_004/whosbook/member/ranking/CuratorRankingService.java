@@ -0,0 +1,189 @@
+package com.seb_main_004.whosbook.member.ranking;
+
+import com.seb_main_004.whosbook.member.dto.BestCuratorDto;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.repository.MemberStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+//베스트 큐레이터 목록 : 구독자 수 상위 회원을 메모리에 유지하고 페이지를 메모리에서 응답
+//구독/구독 취소, 가입/탈퇴, 프로필 수정 시 보드를 갱신하고, 누락된 변경은 주기적인 재계산으로 보정
+//보드 변경은 boardLock 안에서 반영 : 재계산 중에 들어온 변경은 기록해 두었다가 새 보드로 교체하기 직전에 다시 반영
+@Slf4j
+@Service
+public class CuratorRankingService {
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final int capacity;
+    private final Counter fallbacks;
+
+    private final Object boardLock = new Object();
+    private volatile CuratorBoard board;
+    private volatile long rebuiltAt;
+
+    //재계산 중에 현재 보드에 반영된 변경 (재계산 중이 아니면 null, boardLock 으로 보호)
+    private List<BoardChange> changesDuringRebuild;
+
+    public CuratorRankingService(MemberStatsRepository memberStatsRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${ranking.curator.capacity:1000}") int capacity) {
+        this.memberStatsRepository = memberStatsRepository;
+        this.capacity = capacity;
+        this.fallbacks = Counter.builder("curator.ranking.fallbacks")
+                .description("베스트 큐레이터 목록을 보드에서 응답하지 못하고 DB 에서 조회한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("curator.ranking.staleness", this, CuratorRankingService::getStalenessSeconds)
+                .description("마지막 전체 재계산 이후 경과 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("curator.ranking.size", this, service -> service.board == null ? 0 : service.board.size())
+                .description("보드에 올라간 큐레이터 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            // 보드가 준비되지 않으면 베스트 큐레이터는 DB 에서 조회되므로 기동은 계속 진행
+            log.error("# 베스트 큐레이터 보드 초기화 실패", e);
+        }
+    }
+
+    //member_stats 기준으로 보드를 새로 만든 뒤 교체 : 재계산 중에도 기존 보드로 조회 가능
+    //구독자 수, 프로필 변경은 변경 후의 값을 담고 있으므로 DB 조회에 이미 포함된 변경을 다시 반영해도 결과가 같음
+    //전체 큐레이터 수는 증감분이라, 전체 수 조회가 끝난 뒤에 기록된 가입/탈퇴만 다시 더함
+    @Scheduled(fixedDelayString = "${ranking.curator.rebuild-delay-ms:300000}",
+            initialDelayString = "${ranking.curator.rebuild-delay-ms:300000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (boardLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+
+        try {
+            // 보드 밖 상한을 알기 위해 capacity 보다 한 명 더 조회
+            List<RankedCurator> ranked = memberStatsRepository.findRankedCurators(PageRequest.of(0, capacity + 1));
+            long total = memberStatsRepository.countActiveCurators();
+            int countedChanges;
+            synchronized (boardLock) {
+                countedChanges = changesDuringRebuild.size();
+            }
+
+            CuratorBoard rebuilt = new CuratorBoard(capacity, ranked, total);
+            int replayed;
+            synchronized (boardLock) {
+                replayed = changesDuringRebuild.size();
+                for (int i = 0; i < replayed; i++) {
+                    changesDuringRebuild.get(i).apply(rebuilt, i >= countedChanges);
+                }
+                board = rebuilt;
+                rebuiltAt = System.currentTimeMillis();
+            }
+            log.info("# 베스트 큐레이터 보드 재계산 완료 : {}명, 재계산 중 변경 {}건 반영, {}ms",
+                    rebuilt.size(), replayed, rebuiltAt - start);
+        } finally {
+            synchronized (boardLock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return board != null;
+    }
+
+    public Page<BestCuratorDto> getBestCurators(int page, int size) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        CuratorBoard current = board;
+        Optional<List<RankedCurator>> curators = current == null
+                ? Optional.empty()
+                : current.page(pageRequest.getOffset(), size);
+
+        if (curators.isEmpty()) {
+            fallbacks.increment();
+            return memberStatsRepository.findBestCurators(pageRequest);
+        }
+
+        List<BestCuratorDto> content = curators.get().stream()
+                .map(RankedCurator::toBestCuratorDto)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageRequest, current.total());
+    }
+
+    //subscriberCount : 변경 후 member_stats 의 구독자 수 (보드에 없던 회원의 진입 여부 판단에 사용)
+    public void onSubscriberCountChanged(Member member, long subscriberCount) {
+        afterCommit((board, countTotal) -> board.changeSubscriberCount(member, subscriberCount));
+    }
+
+    public void onMemberCreated(Member member) {
+        afterCommit((board, countTotal) -> {
+            if (countTotal) board.changeTotal(1);
+            board.join(member);
+        });
+    }
+
+    public void onMemberUpdated(Member member) {
+        afterCommit((board, countTotal) -> board.updateProfile(member));
+    }
+
+    public void onMemberDeleted(long memberId) {
+        afterCommit((board, countTotal) -> {
+            if (countTotal) board.changeTotal(-1);
+            board.leave(memberId);
+        });
+    }
+
+    //마지막 재계산 이후 경과 시간 : 아직 재계산 전이면 NaN
+    double getStalenessSeconds() {
+        if (board == null) return Double.NaN;
+        return (System.currentTimeMillis() - rebuiltAt) / 1000d;
+    }
+
+    //롤백된 변경이 보드에 반영되지 않도록 커밋 이후에 갱신
+    private void afterCommit(BoardChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    //재계산 중이면 새 보드에도 반영할 수 있도록 기록 (보드가 아직 없어도 재계산 결과에 빠졌을 수 있으므로 기록)
+    private void apply(BoardChange change) {
+        synchronized (boardLock) {
+            if (board != null) change.apply(board, true);
+            if (changesDuringRebuild != null) changesDuringRebuild.add(change);
+        }
+    }
+
+    //countTotal : 전체 큐레이터 수 증감까지 반영할지 (재계산의 전체 수 조회에 이미 포함된 가입/탈퇴면 false)
+    @FunctionalInterface
+    private interface BoardChange {
+        void apply(CuratorBoard board, boolean countTotal);
+    }
+}
@@ -0,0 +1,57 @@
+package com.seb_main_004.whosbook.member.ranking;
+
+import com.seb_main_004.whosbook.member.dto.BestCuratorDto;
+import com.seb_main_004.whosbook.member.entity.Member;
+import lombok.Getter;
+
+import java.util.Comparator;
+
+//베스트 큐레이터 보드에 올라가는 회원 한 명의 스냅샷 (불변 객체, 변경 시 새 객체로 교체)
+//응답에 필요한 프로필 값을 함께 보관해 목록 조회 시 DB 에 접근하지 않음
+@Getter
+public class RankedCurator {
+
+    //구독자 수 내림차순, 같으면 최근 가입한 회원 먼저 (member_stats 인덱스 순서와 같음)
+    static final Comparator<RankedCurator> ORDER = Comparator
+            .comparingLong(RankedCurator::getSubscriberCount).reversed()
+            .thenComparing(Comparator.comparingLong(RankedCurator::getMemberId).reversed());
+
+    private final long memberId;
+    private final String email;
+    private final String nickname;
+    private final String introduction;
+    private final String imageUrl;
+    private final boolean imageVariantsStored;
+    private final long subscriberCount;
+
+    //JPQL 생성자 표현식용
+    public RankedCurator(long memberId, String email, String nickname, String introduction, String imageUrl,
+                         boolean imageVariantsStored, long subscriberCount) {
+        this.memberId = memberId;
+        this.email = email;
+        this.nickname = nickname;
+        this.introduction = introduction;
+        this.imageUrl = imageUrl;
+        this.imageVariantsStored = imageVariantsStored;
+        this.subscriberCount = subscriberCount;
+    }
+
+    static RankedCurator of(Member member, long subscriberCount) {
+        return new RankedCurator(member.getMemberId(), member.getEmail(), member.getNickname(),
+                member.getIntroduction(), member.getImageUrl(), member.isImageVariantsStored(), subscriberCount);
+    }
+
+    RankedCurator withSubscriberCount(long subscriberCount) {
+        return new RankedCurator(memberId, email, nickname, introduction, imageUrl, imageVariantsStored,
+                Math.max(0, subscriberCount));
+    }
+
+    RankedCurator withProfile(Member member) {
+        return of(member, subscriberCount);
+    }
+
+    BestCuratorDto toBestCuratorDto() {
+        return new BestCuratorDto(memberId, email, nickname, introduction, imageUrl, imageVariantsStored,
+                subscriberCount);
+    }
+}
@@ -1,18 +1,24 @@
 package com.seb_main_004.whosbook.member.repository;
 
-import com.seb_main_004.whosbook.member.dto.BestCuratorDto;
 import com.seb_main_004.whosbook.member.entity.Member;
-import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    // 인증된 요청마다 조회 : 쿼리 캐시 사용 (member 테이블 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Member> findByEmail(String email);
 
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     Optional<Member> findByMemberId(long memberId);
 
     Optional<Member> findByNickname(String nickname);
@@ -24,18 +30,16 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     "ORDER BY num_subscribers DESC", countQuery = "SELECT COUNT(*) FROM member", nativeQuery = true)
     Page<Member> findBestCurators(Pageable pageable);
 
-    //구독자가 가장 많은 멤버ID select
-    @Query(value = "SELECT new com.seb_main_004.whosbook.member.dto.BestCuratorDto(m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, SIZE(m.subscribers)) " +
-    "FROM Member m LEFT JOIN m.subscribers " +
-    "WHERE m.memberStatus = 'MEMBER_ACTIVE' " +
-    "GROUP BY m " +
-    "ORDER BY SIZE(m.subscribers) DESC")
-    Page<BestCuratorDto> findBestCuratorsTestV2(Pageable pageable);
-
-    //게시글을 가장 많이 작성한 멤버 select
-    @Query("SELECT m " +
-        "FROM Member m JOIN m.curations c " +
-        "GROUP BY m " +
-        "ORDER BY COUNT(c) DESC")
-    List<Member> findMemberWithMostCurations();
+    // 프로필 이미지 업로드 실패 시 기본 이미지로 되돌림 (그 사이 다른 이미지로 바뀌었으면 건드리지 않음)
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.imageKey = null, m.imageUrl = null, m.imageVariantsStored = false " +
+            "where m.imageKey = :imageKey")
+    int clearImage(@Param("imageKey") String imageKey);
+
+    // 크기별 이미지까지 올라간 프로필 이미지 표시 (그 사이 다른 이미지로 바뀌었으면 건드리지 않음)
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.imageVariantsStored = true where m.imageKey = :imageKey")
+    int markImageVariantsStored(@Param("imageKey") String imageKey);
 }
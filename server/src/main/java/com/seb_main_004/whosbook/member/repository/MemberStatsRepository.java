@@ -0,0 +1,88 @@
+package com.seb_main_004.whosbook.member.repository;
+
+import com.seb_main_004.whosbook.member.dto.AdminMemberDto;
+import com.seb_main_004.whosbook.member.dto.BestCuratorDto;
+import com.seb_main_004.whosbook.member.dto.MemberCountDto;
+import com.seb_main_004.whosbook.member.entity.MemberStats;
+import com.seb_main_004.whosbook.member.ranking.RankedCurator;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+
+    //증감 후 값이 음수가 되는 경우는 반영하지 않음 (보정 작업에서 바로잡음)
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.subscriberCount = s.subscriberCount + :delta, s.updatedAt = CURRENT_TIMESTAMP " +
+        "WHERE s.memberId = :memberId AND s.subscriberCount + :delta >= 0")
+    int addSubscriberCount(@Param("memberId") long memberId, @Param("delta") long delta);
+
+    //받은 좋아요 수는 0 미만으로 내려가지 않도록 greatest 로 보정 (JPQL 은 SET 절의 CASE 식을 지원하지 않아 native 사용)
+    @Modifying
+    @Query(value = "UPDATE member_stats SET curation_count = curation_count + :delta, " +
+        "like_received_count = GREATEST(like_received_count + :likeDelta, 0), " +
+        "updated_at = CURRENT_TIMESTAMP " +
+        "WHERE member_id = :memberId AND curation_count + :delta >= 0", nativeQuery = true)
+    int addCurationCount(@Param("memberId") long memberId, @Param("delta") long delta, @Param("likeDelta") long likeDelta);
+
+    //좋아요가 달린 큐레이션의 작성자(삭제되지 않은 큐레이션만) 통계에 반영
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.likeReceivedCount = s.likeReceivedCount + :delta, s.updatedAt = CURRENT_TIMESTAMP " +
+        "WHERE s.memberId = (SELECT c.member.memberId FROM Curation c " +
+        "WHERE c.curationId = :curationId AND c.curationStatus = 'CURATION_ACTIVE') " +
+        "AND s.likeReceivedCount + :delta >= 0")
+    int addLikeReceivedCount(@Param("curationId") long curationId, @Param("delta") long delta);
+
+    @Query("SELECT new com.seb_main_004.whosbook.member.dto.MemberCountDto(s.memberId, s.subscriberCount, s.curationCount) " +
+        "FROM MemberStats s " +
+        "WHERE s.memberId IN :memberIds")
+    List<MemberCountDto> findMemberCounts(@Param("memberIds") Collection<Long> memberIds);
+
+    //구독자 수 기준 베스트 큐레이터 : (subscriber_count, member_id) 인덱스 순서로 조회
+    @Query(value = "SELECT new com.seb_main_004.whosbook.member.dto.BestCuratorDto(" +
+        "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, s.subscriberCount) " +
+        "FROM MemberStats s, Member m " +
+        "WHERE m.memberId = s.memberId AND m.memberStatus = 'MEMBER_ACTIVE' " +
+        "ORDER BY s.subscriberCount DESC, s.memberId DESC",
+        countQuery = "SELECT COUNT(s) FROM MemberStats s, Member m " +
+        "WHERE m.memberId = s.memberId AND m.memberStatus = 'MEMBER_ACTIVE'")
+    Page<BestCuratorDto> findBestCurators(Pageable pageable);
+
+    //베스트 큐레이터 보드 재계산용 : 응답에 필요한 프로필 값을 함께 조회
+    @Query("SELECT new com.seb_main_004.whosbook.member.ranking.RankedCurator(" +
+        "m.memberId, m.email, m.nickname, m.introduction, m.imageUrl, m.imageVariantsStored, s.subscriberCount) " +
+        "FROM MemberStats s, Member m " +
+        "WHERE m.memberId = s.memberId AND m.memberStatus = 'MEMBER_ACTIVE' " +
+        "ORDER BY s.subscriberCount DESC, s.memberId DESC")
+    List<RankedCurator> findRankedCurators(Pageable pageable);
+
+    @Query("SELECT COUNT(s) FROM MemberStats s, Member m " +
+        "WHERE m.memberId = s.memberId AND m.memberStatus = 'MEMBER_ACTIVE'")
+    long countActiveCurators();
+
+    @Query("SELECT s.subscriberCount FROM MemberStats s WHERE s.memberId = :memberId")
+    Optional<Long> findSubscriberCount(@Param("memberId") long memberId);
+
+    //관리자 페이지 : 구독자 수 상위 회원 (인덱스 순서로 필요한 건수만 조회)
+    @Query("SELECT new com.seb_main_004.whosbook.member.dto.AdminMemberDto(" +
+        "m.memberId, m.email, m.nickname, m.imageUrl, s.subscriberCount, s.curationCount) " +
+        "FROM MemberStats s, Member m " +
+        "WHERE m.memberId = s.memberId " +
+        "ORDER BY s.subscriberCount DESC, s.memberId DESC")
+    List<AdminMemberDto> findTopSubscribedMembers(Pageable pageable);
+
+    //관리자 페이지 : 작성한 큐레이션 수 상위 회원
+    @Query("SELECT new com.seb_main_004.whosbook.member.dto.AdminMemberDto(" +
+        "m.memberId, m.email, m.nickname, m.imageUrl, s.subscriberCount, s.curationCount) " +
+        "FROM MemberStats s, Member m " +
+        "WHERE m.memberId = s.memberId AND s.curationCount > 0 " +
+        "ORDER BY s.curationCount DESC, s.memberId DESC")
+    List<AdminMemberDto> findTopCurationMembers(Pageable pageable);
+}
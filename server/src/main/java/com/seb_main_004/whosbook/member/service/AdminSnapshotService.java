@@ -0,0 +1,148 @@
+package com.seb_main_004.whosbook.member.service;
+
+import com.seb_main_004.whosbook.curation.repository.CurationRepository;
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
+import com.seb_main_004.whosbook.member.dto.AdminMemberDto;
+import com.seb_main_004.whosbook.member.dto.AdminResponseDto;
+import com.seb_main_004.whosbook.member.repository.MemberRepository;
+import com.seb_main_004.whosbook.member.repository.MemberStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+//관리자 페이지 통계 스냅샷 : 요청마다 전체 테이블을 집계하지 않고 주기적으로 계산해 둔 값을 응답
+//각 집계는 별도 스레드에서 동시에 실행하고, 상위 회원 목록은 top-size 건만 조회
+@Slf4j
+@Service
+public class AdminSnapshotService {
+
+    private static final int PARALLELISM = 4;
+
+    private final MemberRepository memberRepository;
+    private final CurationRepository curationRepository;
+    private final MemberStatsRepository memberStatsRepository;
+    private final String adminMailAddress;
+    private final int topSize;
+    private final long timeoutMs;
+    private final ExecutorService executor;
+    private final Timer refreshTimer;
+    private final Counter failures;
+
+    private volatile AdminResponseDto snapshot;
+
+    public AdminSnapshotService(MemberRepository memberRepository,
+                                CurationRepository curationRepository,
+                                MemberStatsRepository memberStatsRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${mail.address.admin}") String adminMailAddress,
+                                @Value("${admin.snapshot.top-size:10}") int topSize,
+                                @Value("${admin.snapshot.timeout-ms:10000}") long timeoutMs) {
+        this.memberRepository = memberRepository;
+        this.curationRepository = curationRepository;
+        this.memberStatsRepository = memberStatsRepository;
+        this.adminMailAddress = adminMailAddress;
+        this.topSize = topSize;
+        this.timeoutMs = timeoutMs;
+        this.executor = Executors.newFixedThreadPool(PARALLELISM, new CustomizableThreadFactory("admin-snapshot-"));
+        this.refreshTimer = Timer.builder("admin.snapshot.refresh")
+                .description("관리자 페이지 통계 스냅샷 계산 시간")
+                .register(meterRegistry);
+        this.failures = Counter.builder("admin.snapshot.failures")
+                .description("관리자 페이지 통계 스냅샷 계산 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            // 첫 조회 시 다시 계산하므로 기동은 계속 진행
+            log.error("# 관리자 페이지 통계 스냅샷 초기화 실패", e);
+        }
+    }
+
+    //새 스냅샷을 모두 계산한 뒤 교체 : 계산 중이거나 실패해도 기존 스냅샷으로 응답
+    @Scheduled(fixedDelayString = "${admin.snapshot.refresh-delay-ms:60000}",
+            initialDelayString = "${admin.snapshot.refresh-delay-ms:60000}")
+    public void refresh() {
+        try {
+            snapshot = refreshTimer.recordCallable(this::compute);
+        } catch (RuntimeException e) {
+            failures.increment();
+            throw e;
+        } catch (Exception e) {
+            failures.increment();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public AdminResponseDto getSnapshot(String email) {
+        if (!adminMailAddress.equals(email)) {
+            throw new BusinessLogicException(ExceptionCode.MEMBER_NO_HAVE_AUTHORIZATION);
+        }
+
+        AdminResponseDto current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) refresh();
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private AdminResponseDto compute() {
+        CompletableFuture<Long> totalMembers = supply(memberRepository::count);
+        CompletableFuture<Long> totalCurations = supply(curationRepository::count);
+        CompletableFuture<List<AdminMemberDto>> mostSubscribed =
+                supply(() -> memberStatsRepository.findTopSubscribedMembers(PageRequest.of(0, 1)));
+        CompletableFuture<List<AdminMemberDto>> mostCuration =
+                supply(() -> memberStatsRepository.findTopCurationMembers(PageRequest.of(0, topSize)));
+
+        try {
+            CompletableFuture.allOf(totalMembers, totalCurations, mostSubscribed, mostCuration)
+                    .get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("관리자 페이지 통계 계산 중단", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("관리자 페이지 통계 계산 실패", e);
+        }
+
+        return AdminResponseDto.builder()
+                .totalMembers(totalMembers.join())
+                .mostSubsripedMember(mostSubscribed.join().stream().findFirst().orElse(null))
+                .mostCurationMembers(mostCuration.join())
+                .totalCurations(totalCurations.join())
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+}
@@ -3,9 +3,15 @@ package com.seb_main_004.whosbook.member.service;
 import com.seb_main_004.whosbook.auth.utils.CustomAuthorityUtils;
 import com.seb_main_004.whosbook.exception.BusinessLogicException;
 import com.seb_main_004.whosbook.exception.ExceptionCode;
+import com.seb_main_004.whosbook.image.service.ImageUploadListener;
+import com.seb_main_004.whosbook.image.service.ImageUploadService;
 import com.seb_main_004.whosbook.image.service.StorageService;
+import com.seb_main_004.whosbook.member.cache.MemberPrincipal;
+import com.seb_main_004.whosbook.member.cache.MemberPrincipalCache;
 import com.seb_main_004.whosbook.member.dto.BestCuratorDto;
+import com.seb_main_004.whosbook.member.dto.MemberCountDto;
 import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.ranking.CuratorRankingService;
 import com.seb_main_004.whosbook.member.repository.MemberRepository;
 import com.seb_main_004.whosbook.subscribe.entity.Subscribe;
 import com.seb_main_004.whosbook.subscribe.repository.SubscribeRepository;
@@ -15,11 +21,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 
 
@@ -31,16 +40,29 @@ public class MemberService {
     private final CustomAuthorityUtils authorityUtils;
     private final SubscribeRepository subscribeRepository;
     private final StorageService storageService;
+    private final ImageUploadService imageUploadService;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final MemberStatsService memberStatsService;
+    private final CuratorRankingService curatorRankingService;
     private final static String MEMBER_IMAGE_PATH = "memberImages";
 
-    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder, CustomAuthorityUtils authorityUtils, SubscribeRepository subscribeRepository, StorageService storageService) {
+    public MemberService(MemberRepository memberRepository, PasswordEncoder passwordEncoder, CustomAuthorityUtils authorityUtils, SubscribeRepository subscribeRepository, StorageService storageService,
+                         ImageUploadService imageUploadService, MemberPrincipalCache memberPrincipalCache, MemberStatsService memberStatsService,
+                         CuratorRankingService curatorRankingService) {
         this.memberRepository = memberRepository;
         this.passwordEncoder = passwordEncoder;
         this.authorityUtils = authorityUtils;
         this.subscribeRepository = subscribeRepository;
         this.storageService = storageService;
+        this.imageUploadService = imageUploadService;
+        this.memberPrincipalCache = memberPrincipalCache;
+        this.memberStatsService = memberStatsService;
+        this.curatorRankingService = curatorRankingService;
     }
 
+    //회원을 먼저 저장한 뒤 프로필 이미지 업로드를 예약 : 업로드는 커밋 이후 대기열에 들어가므로,
+    //업로드 실패 시 기본 이미지로 되돌릴 회원 행이 항상 먼저 존재함
+    @Transactional
     public Member createMember(Member member, MultipartFile image) {
         Optional<Member> optionalMemberEmail = memberRepository.findByEmail(member.getEmail());
         Optional<Member> optionalMemberNickName = memberRepository.findByNickname(member.getNickname());
@@ -58,18 +80,17 @@ public class MemberService {
         List<String> roles= authorityUtils.createRoles(member.getEmail());
         member.setRoles(roles);
 
+        Member savedMember = memberRepository.save(member);
+        memberStatsService.createStats(savedMember);
+
         //프로필 이미지 수정요청이 있을 경우
-        if(image.getSize() != 0) {
-                String imageKey = storageService.makeObjectKey(image, MEMBER_IMAGE_PATH, member.getMemberId());
-                String memberImage = storageService.store(image, imageKey);
-                member.setImageKey(imageKey);
-                member.setImageUrl(memberImage);
-        }
+        if(image.getSize() != 0) changeMemberImage(savedMember, image);
 
-        return memberRepository.save(member);
+        return savedMember;
     }
 
-    //소셜 회원가입
+    //소셜 회원가입 : createMember 와 같이 회원을 먼저 저장하고, 저장된 회원 id 로 이미지 키를 만든 뒤 업로드를 예약
+    @Transactional
     public Member createGoogleMember02(Member member, MultipartFile image) {
         Optional<Member> optionalMemberEmail = memberRepository.findByEmail(member.getEmail());
         Optional<Member> optionalMemberNickName = memberRepository.findByNickname(member.getNickname());
@@ -86,24 +107,20 @@ public class MemberService {
                 throw new BusinessLogicException(ExceptionCode.NICKNAME_EXISTS);
             }
 
-            if (member.getImageUrl() == null) {
-                //후즈북 기본 프로필 이미지를 사용하고 싶은 경우
-                if (image.getSize() == 0) {
-                    //이전에 쓰던 프로필 이미지가 있다면 S3에서 삭제
-                    if(findMember.getImageKey() != null)
-                        storageService.delete(findMember.getImageKey());
-                    findMember.setImageKey(null);
-                    findMember.setImageUrl(null);
-                } else {
-                    //개인 프로필 이미지를 사용하고 싶은 경우
-                    String imageKey = storageService.makeObjectKey(image, MEMBER_IMAGE_PATH, findMember.getMemberId());
-                    String memberImage = storageService.store(image, imageKey);
-                    findMember.setImageKey(imageKey);
-                    findMember.setImageUrl(memberImage);
-                }
+            boolean changeImage = member.getImageUrl() == null;
+            //이전에 쓰던 프로필 이미지가 있다면 커밋 이후 S3에서 삭제
+            if (changeImage) deleteMemberImageAfterCommit(findMember);
+            //후즈북 기본 프로필 이미지를 사용하고 싶은 경우
+            if (changeImage && image.getSize() == 0) {
+                findMember.setImageKey(null);
+                findMember.setImageUrl(null);
             }
             //소셜 계정 프로필 이미지를 사용하고 싶은 경우에는 바로 저장
-            return memberRepository.save(findMember);
+            Member savedMember = memberRepository.save(findMember);
+
+            //개인 프로필 이미지를 사용하고 싶은 경우
+            if (changeImage && image.getSize() != 0) changeMemberImage(savedMember, image);
+            return savedMember;
         }
 
         //일반 회원가입 이력이 없는 경우
@@ -115,83 +132,76 @@ public class MemberService {
         List<String> roles = authorityUtils.createRoles(member.getEmail());
         member.setRoles(roles);
 
+        //후즈북 기본 프로필 이미지를 사용하고 싶은 경우
         if (member.getImageUrl() == null) {
-            //후즈북 기본 프로필 이미지를 사용하고 싶은 경우
-            if (image.getSize() == 0) {
-                member.setImageKey(null);
-                member.setImageUrl(null);
-            } else {
-                //개인 프로필 이미지를 사용하고 싶은 경우
-                String imageKey = storageService.makeObjectKey(image, MEMBER_IMAGE_PATH, member.getMemberId());
-                String memberImage = storageService.store(image, imageKey);
-                member.setImageKey(imageKey);
-                member.setImageUrl(memberImage);
-            }
+            member.setImageKey(null);
+            member.setImageUrl(null);
         }
         //소셜 계정 프로필 이미지를 사용하고 싶은 경우에는 바로 저장
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+        memberStatsService.createStats(savedMember);
+
+        //개인 프로필 이미지를 사용하고 싶은 경우 : 저장된 회원 id 로 이미지 키를 만듦
+        if (member.getImageUrl() == null && image.getSize() != 0) changeMemberImage(savedMember, image);
+        return savedMember;
     }
 
+    //회원 정보를 먼저 저장한 뒤 새 프로필 이미지 업로드를 예약 (업로드 실패 시 clearImage 가 저장된 이미지를 되돌림)
+    @Transactional
     public Member updateMember(Member member, boolean basicImage ,MultipartFile image, String authenticatedEmail) {
         Member findMember = findVerifiedMemberByEmail(authenticatedEmail);
         findMember.setUpdatedAt(LocalDateTime.now());
 
-        //기본 프로필 이미지로 변경하고 싶은 경우
-        if(basicImage == true) {
-            //기존에 사용하던 프로필 이미지가 있는 경우 S3에서 삭제
-            if(findMember.getImageKey() != null)
-                storageService.delete(findMember.getImageKey());
-
+        //기본 프로필 이미지로 변경하거나 프로필 이미지를 변경하고 싶은 경우
+        boolean changeImage = !basicImage && image.getSize() != 0;
+        if(basicImage || changeImage) {
+            //기존에 사용하던 프로필 이미지가 있는 경우 커밋 이후 S3에서 삭제
+            deleteMemberImageAfterCommit(findMember);
             findMember.setImageUrl(null);
             findMember.setImageKey(null);
         }
-        else {
-            //프로필 이미지를 변경하고 싶은 경우
-            if(image.getSize() != 0) {
-                //기존에 사용하던 프로필 이미지가 있을 경우 S3에서 삭제
-                if(findMember.getImageKey() != null)
-                    storageService.delete(findMember.getImageKey());
-
-                String imageKey = storageService.makeObjectKey(image, MEMBER_IMAGE_PATH, findMember.getMemberId());
-                String memberImage = storageService.store(image, imageKey);
-                findMember.setImageKey(imageKey);
-                findMember.setImageUrl(memberImage);
-            }
-        }
 
         Optional.ofNullable(member.getNickname())
                 .ifPresent(nickname->findMember.setNickname(nickname));
         Optional.ofNullable(member.getIntroduction())
                 .ifPresent(introduction->findMember.setIntroduction(introduction));
 
-        return memberRepository.save(findMember);
-    }
+        Member savedMember = memberRepository.save(findMember);
+        if(changeImage) changeMemberImage(savedMember, image);
+        memberPrincipalCache.evict(authenticatedEmail);
+        curatorRankingService.onMemberUpdated(savedMember);
 
-    //총 회원 수 조회(관리자 전용)
-    public Long findTotalMembers(String email){
-        if(email.equals("admin@email.com")){
-            return memberRepository.count();
-        }
-        throw new BusinessLogicException(ExceptionCode.MEMBER_NO_HAVE_AUTHORIZATION);
+        return savedMember;
     }
 
-    //가장 많은 구독자를 보유한 멤버 조회(관리자 전용)
-    public Member findMemberByMostSubscription(String email){
-        if(email.equals("admin@email.com")) {
-            Long mostSubscribedMemberId = subscribeRepository.findMostSubscribedMemberId();
+    //저장된 회원 id 로 이미지 키를 만들고 업로드를 예약, 이미지 URL 은 같은 트랜잭션에서 함께 커밋
+    private void changeMemberImage(Member savedMember, MultipartFile image) {
+        String imageKey = storageService.makeObjectKey(image, MEMBER_IMAGE_PATH, savedMember.getMemberId());
+        String memberImage = storeMemberImage(image, imageKey);
+        savedMember.setImageKey(imageKey);
+        savedMember.setImageUrl(memberImage);
+    }
 
-            return memberRepository.findByMemberId(mostSubscribedMemberId)
-                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND));
-        }
-        throw new BusinessLogicException(ExceptionCode.MEMBER_NO_HAVE_AUTHORIZATION);
+    //롤백되면 기존 이미지를 그대로 둠
+    private void deleteMemberImageAfterCommit(Member member) {
+        if(member.getImageKey() != null)
+            imageUploadService.deleteAllAfterCommit(List.of(member.getImageKey()));
     }
 
-    //가장 많은 게시글을 작성한 멤버 조회(관리자 전용)
-    public List<Member> findMemberByMostCuration(String email){
-        if(email.equals("admin@email.com")) {
-            return memberRepository.findMemberWithMostCurations();
-        }
-        throw new BusinessLogicException(ExceptionCode.MEMBER_NO_HAVE_AUTHORIZATION);
+    //프로필 이미지는 비동기로 업로드하고 URL 만 먼저 저장, 업로드에 실패하면 기본 프로필 이미지로 되돌림
+    private String storeMemberImage(MultipartFile image, String imageKey) {
+        return imageUploadService.upload(image, imageKey, new ImageUploadListener() {
+            //베스트 큐레이터 보드의 프로필은 다음 재계산 때 반영 (그 전에는 원본 URL 만 응답)
+            @Override
+            public void onUploaded(String imageKey, boolean variantsStored) {
+                if (variantsStored) memberRepository.markImageVariantsStored(imageKey);
+            }
+
+            @Override
+            public void onFailed(String imageKey) {
+                memberRepository.clearImage(imageKey);
+            }
+        });
     }
 
     public Member findVerifiedMemberByEmail(String email){
@@ -201,9 +211,27 @@ public class MemberService {
         }else if(optionalMember.get().getMemberStatus()== Member.MemberStatus.MEMBER_DELETE){
             throw new BusinessLogicException(ExceptionCode.MEMBER_HAS_BEEN_DELETED);
         }
+        //엔티티를 조회한 김에 공유 캐시도 갱신 (로그인 직후 요청부터 캐시 사용)
+        memberPrincipalCache.put(MemberPrincipal.of(optionalMember.get()));
         return optionalMember.get();
     }
 
+    //회원 식별/검증만 필요한 경우 : 엔티티 대신 캐시된 MemberPrincipal 사용
+    public MemberPrincipal findVerifiedMemberPrincipalByEmail(String email){
+        MemberPrincipal principal = memberPrincipalCache.get(email, key -> memberRepository.findByEmail(key)
+                .map(MemberPrincipal::of)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.MEMBER_NOT_FOUND)));
+
+        if(principal.isDeleted())
+            throw new BusinessLogicException(ExceptionCode.MEMBER_HAS_BEEN_DELETED);
+        return principal;
+    }
+
+    //연관관계 설정, 조건 조회용 참조 : 필드에 접근하기 전까지 select 하지 않음
+    public Member getMemberReference(MemberPrincipal principal){
+        return memberRepository.getReferenceById(principal.getMemberId());
+    }
+
     public Member findVerifiedMemberByMemberId(long memberId){
         Optional<Member> optionalMember = memberRepository.findByMemberId(memberId);
         if(optionalMember.isEmpty() || optionalMember.get().getMemberStatus()== Member.MemberStatus.MEMBER_DELETE) {
@@ -215,17 +243,24 @@ public class MemberService {
     //내가 구독한 회원 조회
     public Page<Member> findMyMembers(int page, int size, String authenticatedEmail) {
         Pageable pageable = PageRequest.of(page, size);
-        Member subscriber = findVerifiedMemberByEmail(authenticatedEmail);
+        Member subscriber = getMemberReference(findVerifiedMemberPrincipalByEmail(authenticatedEmail));
 
-        Page<Member> pageContent = subscribeRepository
-            .findBySubscriber(subscriber, pageable)
-            .map(Subscribe::getSubscribedMember);
+        return subscribeRepository.findSubscribedMembers(subscriber, pageable);
+    }
+
+    //회원 목록의 구독자 수, 작성한 큐레이션 수 (key : memberId) : member_stats 에서 PK 로 조회
+    public Map<Long, MemberCountDto> findMemberCounts(List<Member> members) {
+        List<Long> memberIds = members.stream().map(Member::getMemberId).collect(Collectors.toList());
+        return memberStatsService.findMemberCounts(memberIds);
+    }
 
-        return pageContent;
+    //회원의 구독자 수, 작성한 큐레이션 수 : member_stats 에서 PK 로 조회
+    public MemberCountDto findMemberCount(Member member) {
+        return memberStatsService.findMemberCount(member.getMemberId());
     }
 
     public Page<BestCuratorDto> findBestCurators(int page, int size) {
-        return memberRepository.findBestCuratorsTestV2(PageRequest.of(page, size));
+        return curatorRankingService.getBestCurators(page, size);
     }
 
     //구독여부 확인
@@ -244,13 +279,15 @@ public class MemberService {
 
         //회원 프로필 이미지가 있을 경우
         if(member.getImageUrl() != null) {
-            storageService.delete(member.getImageKey());
+            imageUploadService.delete(member.getImageKey());
             member.setImageUrl(null);
             member.setImageKey(null);
         }
         member.setMemberStatus(Member.MemberStatus.MEMBER_DELETE);
 
         memberRepository.save(member);
+        memberPrincipalCache.evict(authenticatedEmail);
+        curatorRankingService.onMemberDeleted(member.getMemberId());
         }
 }
 
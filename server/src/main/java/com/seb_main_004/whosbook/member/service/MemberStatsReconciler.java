@@ -0,0 +1,57 @@
+package com.seb_main_004.whosbook.member.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+//member_stats 를 원본 테이블(subscribe, curation) 기준으로 다시 계산
+//증감 반영 중 유실/중복된 값을 바로잡기 위해 주기적으로 실행, member_id 구간 단위로 나눠 잠금 범위를 제한
+@Slf4j
+@Component
+public class MemberStatsReconciler {
+
+    private static final String INSERT_MISSING_SQL = "insert into member_stats " +
+            "(member_id, subscriber_count, curation_count, like_received_count, updated_at) " +
+            "select m.member_id, 0, 0, 0, current_timestamp from member m " +
+            "where not exists (select 1 from member_stats ms where ms.member_id = m.member_id)";
+
+    private static final String RECOMPUTE_SQL = "update member_stats ms set " +
+            "subscriber_count = (select count(*) from subscribe s where s.subscribed_member = ms.member_id), " +
+            "curation_count = (select count(*) from curation c " +
+            "where c.member_id = ms.member_id and c.curation_status = 'CURATION_ACTIVE'), " +
+            "like_received_count = (select coalesce(sum(c.curation_like_count), 0) from curation c " +
+            "where c.member_id = ms.member_id and c.curation_status = 'CURATION_ACTIVE'), " +
+            "updated_at = current_timestamp " +
+            "where ms.member_id between ? and ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public MemberStatsReconciler(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${member-stats.reconcile-chunk-size:1000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${member-stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+        Integer inserted = transactionTemplate.execute(status -> jdbcTemplate.update(INSERT_MISSING_SQL));
+
+        Long maxMemberId = jdbcTemplate.queryForObject("select coalesce(max(member_id), 0) from member_stats", Long.class);
+        for (long from = 1; from <= maxMemberId; from += chunkSize) {
+            long chunkFrom = from;
+            long chunkTo = from + chunkSize - 1;
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(RECOMPUTE_SQL, chunkFrom, chunkTo));
+        }
+
+        log.info("# member_stats 보정 완료 : 추가 {}건, 최대 member_id {}, {}ms",
+                inserted, maxMemberId, System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,89 @@
+package com.seb_main_004.whosbook.member.service;
+
+import com.seb_main_004.whosbook.member.dto.MemberCountDto;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.entity.MemberStats;
+import com.seb_main_004.whosbook.member.ranking.CuratorRankingService;
+import com.seb_main_004.whosbook.member.repository.MemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//member_stats 증감 반영 및 조회
+//호출한 서비스의 트랜잭션 안에서 원본 데이터와 함께 반영 (원본이 롤백되면 통계도 롤백)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class MemberStatsService {
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final CuratorRankingService curatorRankingService;
+
+    public void createStats(Member member) {
+        if (!memberStatsRepository.existsById(member.getMemberId())) {
+            memberStatsRepository.save(new MemberStats(member.getMemberId()));
+            curatorRankingService.onMemberCreated(member);
+        }
+    }
+
+    public void onSubscribed(Member subscribedMember) {
+        changeSubscriberCount(subscribedMember, 1);
+    }
+
+    public void onUnsubscribed(Member subscribedMember) {
+        changeSubscriberCount(subscribedMember, -1);
+    }
+
+    public void onCurationCreated(long memberId) {
+        applied(memberStatsRepository.addCurationCount(memberId, 1, 0), memberId);
+    }
+
+    //삭제된 큐레이션이 받은 좋아요는 받은 좋아요 수에서 제외
+    public void onCurationDeleted(long memberId, int curationLikeCount) {
+        applied(memberStatsRepository.addCurationCount(memberId, -1, -curationLikeCount), memberId);
+    }
+
+    //좋아요 수 버퍼를 사용하지 않는 경우 : 좋아요/취소 트랜잭션에서 바로 반영
+    //버퍼를 사용하는 경우에는 LikeCountBuffer 가 좋아요 수와 함께 반영
+    public void onLikeCountChanged(long curationId, int delta) {
+        memberStatsRepository.addLikeReceivedCount(curationId, delta);
+    }
+
+    @Transactional(readOnly = true)
+    public MemberCountDto findMemberCount(long memberId) {
+        return memberStatsRepository.findById(memberId)
+                .map(stats -> new MemberCountDto(stats.getMemberId(), stats.getSubscriberCount(), stats.getCurationCount()))
+                .orElseGet(() -> new MemberCountDto(memberId, 0L, 0L));
+    }
+
+    //key : memberId
+    @Transactional(readOnly = true)
+    public Map<Long, MemberCountDto> findMemberCounts(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return Map.of();
+
+        return memberStatsRepository.findMemberCounts(memberIds).stream()
+                .collect(Collectors.toMap(MemberCountDto::getMemberId, Function.identity()));
+    }
+
+    //변경 후의 구독자 수를 같은 트랜잭션에서 읽어 베스트 큐레이터 보드에 전달 (커밋 후 반영)
+    private void changeSubscriberCount(Member subscribedMember, long delta) {
+        long memberId = subscribedMember.getMemberId();
+        if (!applied(memberStatsRepository.addSubscriberCount(memberId, delta), memberId)) return;
+
+        memberStatsRepository.findSubscriberCount(memberId).ifPresent(subscriberCount ->
+                curatorRankingService.onSubscriberCountChanged(subscribedMember, subscriberCount));
+    }
+
+    //통계 행이 없거나 음수가 되는 변경은 건너뛰고 보정 작업에 맡김
+    private boolean applied(int updated, long memberId) {
+        if (updated == 0) log.warn("# member_stats 반영 건너뜀 : member {}", memberId);
+        return updated > 0;
+    }
+}
@@ -1,15 +1,17 @@
 package com.seb_main_004.whosbook.reply.controller;
 
 import com.seb_main_004.whosbook.curation.entity.Curation;
-import com.seb_main_004.whosbook.curation.repository.CurationRepository;
 import com.seb_main_004.whosbook.curation.service.CurationService;
+import com.seb_main_004.whosbook.dto.CursorResponseDto;
 import com.seb_main_004.whosbook.dto.MultiResponseDto;
+import com.seb_main_004.whosbook.reply.dto.ReplyListQueryDto;
 import com.seb_main_004.whosbook.reply.dto.ReplyPatchDto;
 import com.seb_main_004.whosbook.reply.dto.ReplyPostDto;
 import com.seb_main_004.whosbook.reply.entity.Reply;
 import com.seb_main_004.whosbook.reply.mapper.ReplyMapper;
 import com.seb_main_004.whosbook.reply.service.ReplyService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -28,13 +30,10 @@ public class ReplyController {
 
     private final CurationService curationService;
 
-    private final CurationRepository curationRepository;
-
-    public ReplyController(ReplyService replyService, ReplyMapper replyMapper, CurationService curationService, CurationRepository curationRepository) {
+    public ReplyController(ReplyService replyService, ReplyMapper replyMapper, CurationService curationService) {
         this.replyService = replyService;
         this.replyMapper = replyMapper;
         this.curationService = curationService;
-        this.curationRepository = curationRepository;
     }
 
     //댓글 작성
@@ -48,8 +47,6 @@ public class ReplyController {
         //큐레이션 글에 해당한는 curation-id찾기
         Curation findCurationId= curationService.findVerifiedCurationById(curationId);
 
-        curationRepository.save(findCurationId);
-
         Reply reply= replyService.createReply(replyMapper.replyToPostDtoToReply(replyPostDto), userEmail, findCurationId);
 
         return new ResponseEntity(replyMapper.replyToReplyResponseDto(reply), HttpStatus.CREATED);
@@ -92,17 +89,12 @@ public class ReplyController {
                                         @Positive @RequestParam("page")int page,
                                         @Positive @RequestParam("size") int size){
 
-        //큐레이션 글에 해당한는 curation-id찾기
-        Curation findCurationId= curationService.findVerifiedCurationById(curationId);
-
-        curationRepository.save(findCurationId);
+        Page<ReplyListQueryDto> replyPage= replyService.getReplyList(page-1, size, curationId);
 
-        Page<Reply> replyPage= replyService.getReplyList(page-1, size,findCurationId);
-
-        List<Reply> replyList= replyPage.getContent();
+        List<ReplyListQueryDto> replyList= replyPage.getContent();
 
         return  new ResponseEntity<>(
-                new MultiResponseDto<>(replyMapper.replyToReplyResponseDto(replyList),
+                new MultiResponseDto<>(replyMapper.replyListQueryDtosToReplyResponseDtos(replyList),
                         replyPage),
                 HttpStatus.OK
         );
@@ -110,5 +102,19 @@ public class ReplyController {
 
     }
 
+    //댓글조회 (커서)
+    @GetMapping("/{curation-id}/replies/cursor")
+    public ResponseEntity getReplyListByCursor(@PathVariable("curation-id") long curationId,
+                                               @RequestParam(value = "cursor", required = false) String cursor,
+                                               @Positive @RequestParam("size") int size){
+
+        Slice<ReplyListQueryDto> replySlice= replyService.getReplyListByCursor(curationId, cursor, size);
+
+        return new ResponseEntity<>(new CursorResponseDto<>(
+                replyMapper.replyListQueryDtosToReplyResponseDtos(replySlice.getContent()),
+                size, replyService.getNextCursor(replySlice)),
+                HttpStatus.OK);
+    }
+
 
 }
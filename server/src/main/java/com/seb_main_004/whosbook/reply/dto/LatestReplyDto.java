@@ -0,0 +1,18 @@
+package com.seb_main_004.whosbook.reply.dto;
+
+import java.time.LocalDateTime;
+
+//큐레이션별 최신 댓글 미리보기 (윈도 함수 네이티브 쿼리 결과라 인터페이스 프로젝션으로 받음)
+public interface LatestReplyDto {
+    long getCurationId();
+
+    long getReplyId();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+    long getMemberId();
+
+    String getNickname();
+}
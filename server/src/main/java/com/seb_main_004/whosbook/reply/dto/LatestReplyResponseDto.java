@@ -0,0 +1,17 @@
+package com.seb_main_004.whosbook.reply.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//큐레이션 카드의 최신 댓글 미리보기
+@Builder
+@Getter
+public class LatestReplyResponseDto {
+    private long replyId;
+    private long memberId;
+    private String nickname;
+    private String content;
+    private LocalDateTime createdAt;
+}
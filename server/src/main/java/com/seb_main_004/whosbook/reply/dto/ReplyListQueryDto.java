@@ -0,0 +1,42 @@
+package com.seb_main_004.whosbook.reply.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+//댓글 목록 조회 전용 프로젝션 DTO
+//댓글과 작성자 컬럼을 한 번의 조인 쿼리로 가져오기 위해 사용 (댓글마다 회원, 큐레이션을 추가 조회하지 않음)
+@Getter
+public class ReplyListQueryDto {
+    private long replyId;
+    private String content;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private long memberId;
+    private String nickname;
+    private String imageUrl;
+
+    public ReplyListQueryDto(long replyId, String content, LocalDateTime createdAt, LocalDateTime updatedAt,
+                             long memberId, String nickname, String imageUrl) {
+        this.replyId = replyId;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.memberId = memberId;
+        this.nickname = nickname;
+        this.imageUrl = imageUrl;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt.plusHours(9);
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt.plusHours(9);
+    }
+
+    //커서 값 : DB 에 저장된 작성 시각 그대로 (응답용 getCreatedAt 은 9시간을 더한 값)
+    public LocalDateTime getCursorCreatedAt() {
+        return createdAt;
+    }
+}
@@ -1,5 +1,6 @@
 package com.seb_main_004.whosbook.reply.mapper;
 
+import com.seb_main_004.whosbook.reply.dto.ReplyListQueryDto;
 import com.seb_main_004.whosbook.reply.dto.ReplyPatchDto;
 import com.seb_main_004.whosbook.reply.dto.ReplyPostDto;
 import com.seb_main_004.whosbook.reply.dto.ReplyResponseDto;
@@ -21,4 +22,6 @@ public interface ReplyMapper {
     ReplyPatchDto replyToPatchToReply(ReplyPatchDto replyPatchDto);
 
     List<ReplyResponseDto> replyToReplyResponseDto(List<Reply> replyList);
+
+    List<ReplyResponseDto> replyListQueryDtosToReplyResponseDtos(List<ReplyListQueryDto> replyList);
 }
@@ -1,12 +1,51 @@
 package com.seb_main_004.whosbook.reply.repository;
 
-import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.reply.dto.LatestReplyDto;
+import com.seb_main_004.whosbook.reply.dto.ReplyListQueryDto;
 import com.seb_main_004.whosbook.reply.entity.Reply;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface ReplyRepository extends JpaRepository<Reply,Long> {
-    Page<Reply> findByCuration(Curation findCurationId, Pageable pageable);
+
+    // 댓글 목록 : 작성자 컬럼만 조인해서 프로젝션으로 조회 (최신순)
+    @Query(value = "select new com.seb_main_004.whosbook.reply.dto.ReplyListQueryDto(" +
+            "r.replyId, r.content, r.createdAt, r.updatedAt, m.memberId, m.nickname, m.imageUrl) " +
+            "from Reply r join r.member m " +
+            "where r.curation.curationId = :curationId " +
+            "order by r.createdAt desc, r.replyId desc",
+            countQuery = "select count(r) from Reply r where r.curation.curationId = :curationId")
+    Page<ReplyListQueryDto> findReplyListItems(@Param("curationId") long curationId, Pageable pageable);
+
+    // 커서 페이지네이션 : (createdAt, replyId) 기준으로 마지막으로 본 댓글 이후를 조회 (count 쿼리 없음)
+    @Query("select new com.seb_main_004.whosbook.reply.dto.ReplyListQueryDto(" +
+            "r.replyId, r.content, r.createdAt, r.updatedAt, m.memberId, m.nickname, m.imageUrl) " +
+            "from Reply r join r.member m " +
+            "where r.curation.curationId = :curationId " +
+            "and (r.createdAt < :createdAt or (r.createdAt = :createdAt and r.replyId < :cursorId)) " +
+            "order by r.createdAt desc, r.replyId desc")
+    Slice<ReplyListQueryDto> findReplyListItemsAfter(@Param("curationId") long curationId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("cursorId") long cursorId,
+                                                     Pageable pageable);
+
+    // 큐레이션 카드 : 페이지의 큐레이션마다 최신 댓글 1건 (내용은 앞부분만)
+    // 큐레이션별로 (작성 시각, 댓글 id) 역순 번호를 매겨 1번만 남김 (idx_reply_curation_created 사용)
+    @Query(value = "select t.curation_id as curationId, t.reply_id as replyId, t.content as content, " +
+            "t.created_at as createdAt, m.member_id as memberId, m.nickname as nickname " +
+            "from (select r.curation_id, r.reply_id, substring(r.content, 1, :length) as content, r.created_at, r.member_id, " +
+            "row_number() over (partition by r.curation_id order by r.created_at desc, r.reply_id desc) as rn " +
+            "from reply r where r.curation_id in (:curationIds)) t " +
+            "join member m on m.member_id = t.member_id " +
+            "where t.rn = 1", nativeQuery = true)
+    List<LatestReplyDto> findLatestReplies(@Param("curationIds") Collection<Long> curationIds,
+                                           @Param("length") int length);
 }
@@ -2,42 +2,55 @@ package com.seb_main_004.whosbook.reply.service;
 
 
 import com.seb_main_004.whosbook.curation.entity.Curation;
-import com.seb_main_004.whosbook.curation.service.CurationService;
+import com.seb_main_004.whosbook.curation.ranking.CurationRankingService;
+import com.seb_main_004.whosbook.curation.repository.CurationRepository;
 import com.seb_main_004.whosbook.exception.BusinessLogicException;
 import com.seb_main_004.whosbook.exception.ExceptionCode;
 import com.seb_main_004.whosbook.member.entity.Member;
 import com.seb_main_004.whosbook.member.service.MemberService;
+import com.seb_main_004.whosbook.reply.dto.ReplyListQueryDto;
 import com.seb_main_004.whosbook.reply.dto.ReplyPatchDto;
 import com.seb_main_004.whosbook.reply.dto.ReplyPostDto;
 import com.seb_main_004.whosbook.reply.entity.Reply;
 import com.seb_main_004.whosbook.reply.repository.ReplyRepository;
+import com.seb_main_004.whosbook.utils.CursorCodec;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
 public class ReplyService {
 
+    //첫 페이지 커서 : 모든 댓글보다 늦은 시각 (DB datetime 범위 안의 값)
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final ReplyRepository replyRepository;
 
     private final MemberService memberService;
 
-    private final CurationService curationService;
+    private final CurationRepository curationRepository;
+
+    private final CurationRankingService curationRankingService;
 
-    public ReplyService(ReplyRepository replyRepository, MemberService memberService, CurationService curationService) {
+    public ReplyService(ReplyRepository replyRepository, MemberService memberService, CurationRepository curationRepository,
+                        CurationRankingService curationRankingService) {
         this.replyRepository = replyRepository;
         this.memberService = memberService;
-        this.curationService = curationService;
+        this.curationRepository = curationRepository;
+        this.curationRankingService = curationRankingService;
     }
 
-    //댓글작성
+    //댓글작성 : 댓글 행과 큐레이션의 댓글 수를 같은 트랜잭션에서 반영
+    @Transactional
     public Reply createReply(ReplyPostDto replyPostDto, String userEmail, Curation findCurationId){
 
         //로그인한 사용자인지아닌지 검증
-        Member findEmail= memberService.findVerifiedMemberByEmail(userEmail);
+        Member findEmail= memberService.getMemberReference(memberService.findVerifiedMemberPrincipalByEmail(userEmail));
 
         //큐레이션 아이디,작성자이메일을저장하기위한 댓글객체 생성
         Reply reply= new Reply();
@@ -47,6 +60,9 @@ public class ReplyService {
         reply.setCuration(findCurationId);
 
         Reply postReply=replyRepository.save(reply);
+        curationRepository.increaseReplyCount(findCurationId.getCurationId());
+        curationRankingService.onReplyCountChanged(findCurationId.getCurationId(),
+                curationRepository.findReplyCount(findCurationId.getCurationId()));
 
         //댓글저장
         return  postReply;
@@ -65,6 +81,7 @@ public class ReplyService {
 
     }
    //댓글 삭제
+    @Transactional
     public void deleteReply(long replyId, String userEmail) {
 
          Reply findReply= findVerifiedReply(replyId); //유효한 댓글인지 검증
@@ -72,6 +89,9 @@ public class ReplyService {
          verifyUser(userEmail,findReply);
 
          replyRepository.delete(findReply);
+         curationRepository.decreaseReplyCount(findReply.getCuration().getCurationId());
+         curationRankingService.onReplyCountChanged(findReply.getCuration().getCurationId(),
+                 curationRepository.findReplyCount(findReply.getCuration().getCurationId()));
 
     }
     //입력된 댓글이 유효한지 검증
@@ -91,13 +111,42 @@ public class ReplyService {
 
     }
 
-    public Page<Reply> getReplyList(int page, int size,
-                                   Curation findCurationId) {
+    //댓글 목록 : 댓글과 작성자를 한 번에 조회하고, 댓글이 없을 때만 큐레이션이 있는지 확인 (조회 중에는 쓰지 않음)
+    @Transactional(readOnly = true)
+    public Page<ReplyListQueryDto> getReplyList(int page, int size, long curationId) {
+
+        Page<ReplyListQueryDto> replies = replyRepository.findReplyListItems(curationId, PageRequest.of(page, size));
+        if (replies.isEmpty()) verifyCurationExists(curationId);
 
-        //큐레이션에 해당하는 id를 가져와서 데이터를 뿌려준다.
-        return replyRepository.findByCuration(findCurationId,
-                PageRequest.of(page, size, Sort.by("createdAt").descending()));
+        return replies;
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<ReplyListQueryDto> getReplyListByCursor(long curationId, String cursor, int size) {
+        LocalDateTime createdAt = MAX_CREATED_AT;
+        long cursorId = Long.MAX_VALUE;
+        if (cursor != null) {
+            String[] keys = CursorCodec.decode(cursor, 2);
+            createdAt = CursorCodec.decodeDateTime(keys[0]);
+            cursorId = CursorCodec.decodeLong(keys[1]);
+        }
 
+        Slice<ReplyListQueryDto> replies = replyRepository.findReplyListItemsAfter(
+                curationId, createdAt, cursorId, PageRequest.of(0, size));
+        if (replies.isEmpty() && cursor == null) verifyCurationExists(curationId);
+
+        return replies;
+    }
+
+    public String getNextCursor(Slice<ReplyListQueryDto> replies) {
+        if (!replies.hasNext()) return null;
+
+        ReplyListQueryDto last = replies.getContent().get(replies.getNumberOfElements() - 1);
+        return CursorCodec.encode(CursorCodec.dateTimeKey(last.getCursorCreatedAt()), last.getReplyId());
+    }
 
+    private void verifyCurationExists(long curationId) {
+        if (!curationRepository.existsById(curationId))
+            throw new BusinessLogicException(ExceptionCode.CURATION_NOT_FOUND);
     }
 }
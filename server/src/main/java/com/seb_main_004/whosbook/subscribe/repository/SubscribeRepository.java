@@ -8,17 +8,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SubscribeRepository extends JpaRepository<Subscribe, Long> {
 
     //구독한 멤버와 구독된 멤버 외래키를 통해 구독객체를 탐색
     Optional<Subscribe> findBySubscriberAndSubscribedMember(Member subscriber, Member subscribedMember);
     Page<Subscribe> findBySubscriber(Member subscriber, Pageable pageable);
-    
-    //가장 많이 구독된 멤버아이디 탐색
-    @Query("SELECT s.subscribedMember.id " +
-        "FROM Subscribe s " +
-        "GROUP BY s.subscribedMember " +
-        "ORDER BY COUNT(s.subscribedMember) DESC")
-    Long findMostSubscribedMemberId();
+
+    //내가 구독한 (탈퇴하지 않은) 회원 목록 : 구독 엔티티를 거치지 않고 회원만 조회
+    @Query(value = "SELECT m FROM Subscribe s JOIN s.subscribedMember m " +
+        "WHERE s.subscriber = :subscriber AND m.memberStatus = 'MEMBER_ACTIVE' " +
+        "ORDER BY s.subscribeId DESC",
+        countQuery = "SELECT COUNT(s) FROM Subscribe s JOIN s.subscribedMember m " +
+        "WHERE s.subscriber = :subscriber AND m.memberStatus = 'MEMBER_ACTIVE'")
+    Page<Member> findSubscribedMembers(@Param("subscriber") Member subscriber, Pageable pageable);
 }
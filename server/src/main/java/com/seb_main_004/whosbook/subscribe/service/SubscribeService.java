@@ -1,14 +1,17 @@
 package com.seb_main_004.whosbook.subscribe.service;
 
 import com.seb_main_004.whosbook.auth.utils.CustomAuthorityUtils;
+import com.seb_main_004.whosbook.curation.feed.FeedService;
 import com.seb_main_004.whosbook.exception.BusinessLogicException;
 import com.seb_main_004.whosbook.exception.ExceptionCode;
 import com.seb_main_004.whosbook.member.entity.Member;
 import com.seb_main_004.whosbook.member.repository.MemberRepository;
+import com.seb_main_004.whosbook.member.service.MemberStatsService;
 import com.seb_main_004.whosbook.subscribe.entity.Subscribe;
 import com.seb_main_004.whosbook.subscribe.repository.SubscribeRepository;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -16,11 +19,18 @@ import java.util.Optional;
 public class SubscribeService {
     private final SubscribeRepository subscribeRepository;
     private final MemberRepository memberRepository;
-    public SubscribeService(SubscribeRepository subscribeRepository, MemberRepository memberRepository) {
+    private final MemberStatsService memberStatsService;
+    private final FeedService feedService;
+    public SubscribeService(SubscribeRepository subscribeRepository, MemberRepository memberRepository,
+                            MemberStatsService memberStatsService, FeedService feedService) {
         this.subscribeRepository = subscribeRepository;
         this.memberRepository = memberRepository;
+        this.memberStatsService = memberStatsService;
+        this.feedService = feedService;
     }
 
+    //구독 행, 구독자 수 통계, 구독 피드를 같은 트랜잭션에서 반영
+    @Transactional
     public void createSubscribe(long subscribedMemberId, String authenticatedEmail) {
         Member subscriber = findVerifiedMemberByEmail(authenticatedEmail);
         Member subscribingMember = findVerifiedMemberByMemberId(subscribedMemberId);
@@ -35,8 +45,11 @@ public class SubscribeService {
         subscribe.setSubscribedMember(subscribingMember);
 
         subscribeRepository.save(subscribe);
+        memberStatsService.onSubscribed(subscribingMember);
+        feedService.onSubscribed(subscriber.getMemberId(), subscribingMember.getMemberId());
     }
 
+    @Transactional
     public void deleteSubscribe(long subscribedMemberId, String authenticatedEmail) {
         Member subscriber = findVerifiedMemberByEmail(authenticatedEmail);
         Member subscribingMember = findVerifiedMemberByMemberId(subscribedMemberId);
@@ -45,6 +58,8 @@ public class SubscribeService {
         Subscribe subscribe= optionalSubscribe.orElseThrow(()-> new BusinessLogicException(ExceptionCode.SUBSCRIBE_HAS_BEEN_NON_ACTIVE));
 
         subscribeRepository.delete(subscribe);
+        memberStatsService.onUnsubscribed(subscribingMember);
+        feedService.onUnsubscribed(subscriber.getMemberId(), subscribingMember.getMemberId());
     }
 
     public Member findVerifiedMemberByEmail(String email){
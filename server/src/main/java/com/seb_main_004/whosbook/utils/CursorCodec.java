@@ -0,0 +1,70 @@
+package com.seb_main_004.whosbook.utils;
+
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+//커서 페이지네이션의 정렬 키 값을 클라이언트에 노출하지 않는 불투명한 문자열로 변환
+public class CursorCodec {
+    private static final String DELIMITER = ":";
+
+    public static String encode(Object... keys) {
+        String raw = Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int keyCount) {
+        String[] keys = decode(cursor);
+        if (keys.length != keyCount) throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+
+        return keys;
+    }
+
+    //정렬 방식이 두 가지인 목록용 : 키 개수로 커서 종류를 구분
+    public static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return raw.split(DELIMITER, -1);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    public static long decodeLong(String key) {
+        try {
+            return Long.parseLong(key);
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    public static double decodeDouble(String key) {
+        try {
+            double value = Double.parseDouble(key);
+            if (!Double.isFinite(value)) throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+            return value;
+        } catch (NumberFormatException e) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    //시각 키는 구분자(:)가 들어가지 않도록 마이크로초 단위 정수로 변환 (DB 컬럼 정밀도와 같음)
+    public static long dateTimeKey(LocalDateTime dateTime) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), dateTime);
+    }
+
+    public static LocalDateTime decodeDateTime(String key) {
+        return LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(decodeLong(key), ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,11 @@
+-- 구독 피드 : 작성 시 구독자 타임라인에 추가하지 않은 큐레이션 (작성 당시 구독자가 max-subscribers 명을 넘은 큐레이터)
+-- 조회 시 이 큐레이션만 따로 읽어 합치므로, 이후 큐레이터의 구독자 수가 줄어도 피드에서 빠지지 않음
+alter table curation add column fan_out_skipped bit not null default 0;
+
+-- 구독한 큐레이터별 건너뛴 큐레이션을 curation_id 역순으로 조회 (findFanOutSkippedFeedItemsAfter)
+create index idx_curation_fan_out_skipped on curation (member_id, fan_out_skipped, curation_id);
+
+-- 기존 큐레이션 : 지금까지 조회 시 합치던 큐레이터(기본값 max-subscribers = 10000 초과)의 큐레이션
+update curation c
+set fan_out_skipped = 1
+where c.member_id in (select s.member_id from member_stats s where s.subscriber_count > 10000);
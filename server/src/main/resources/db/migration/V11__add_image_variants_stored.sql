@@ -0,0 +1,5 @@
+-- 크기별 이미지(ImageVariants) 업로드 여부 : 업로드 작업이 원본에 이어 크기별 이미지까지 올린 경우에만 1
+-- 응답의 크기별 이미지 URL 은 이 값이 1 인 이미지만 채움 (업로드 중이거나 생성에 실패한 이미지는 원본 URL 사용)
+-- 기존 이미지는 크기별 이미지가 있는지 알 수 없으므로 0 (크기별 이미지가 없던 시기에 올린 이미지 포함)
+alter table curation_image add column variants_stored bit not null default 0;
+alter table member add column image_variants_stored bit not null default 0;
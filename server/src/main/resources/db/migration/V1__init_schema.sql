@@ -0,0 +1,113 @@
+-- ddl-auto: update 로 생성되던 기존 스키마 (운영 DB 는 baseline-version 1 로 등록되어 이 스크립트를 건너뛴다)
+create table book (
+    book_id bigint not null auto_increment,
+    authors varchar(255) not null,
+    isbn varchar(255) not null,
+    publisher varchar(255) not null,
+    thumbnail TEXT,
+    title varchar(255) not null,
+    url TEXT,
+    primary key (book_id)
+) engine=InnoDB;
+
+create table book_curation (
+    book_curation_id bigint not null auto_increment,
+    book_id bigint,
+    curation_id bigint,
+    primary key (book_curation_id)
+) engine=InnoDB;
+
+create table category (
+    category_id bigint not null auto_increment,
+    name varchar(255) not null,
+    primary key (category_id)
+) engine=InnoDB;
+
+create table curation (
+    curation_id bigint not null auto_increment,
+    content TEXT not null,
+    created_at datetime not null,
+    curation_like_count Integer default 0,
+    curation_status varchar(255) not null,
+    emoji varchar(255) not null,
+    title varchar(255) not null,
+    updated_at datetime not null,
+    visibility varchar(255) not null,
+    category_id bigint,
+    member_id bigint,
+    primary key (curation_id)
+) engine=InnoDB;
+
+create table curation_image (
+    curation_image_id bigint not null auto_increment,
+    created_at datetime not null,
+    image_key varchar(255) not null,
+    path varchar(255),
+    primary key (curation_image_id)
+) engine=InnoDB;
+
+create table curation_like (
+    like_id bigint not null auto_increment,
+    curation_id bigint,
+    member_id bigint,
+    primary key (like_id)
+) engine=InnoDB;
+
+create table curation_save_image (
+    curation_save_image_id bigint not null auto_increment,
+    curation_id bigint,
+    curation_image_id bigint,
+    primary key (curation_save_image_id)
+) engine=InnoDB;
+
+create table member (
+    member_id bigint not null auto_increment,
+    created_at datetime not null,
+    email varchar(255) not null,
+    image_key varchar(255),
+    image_url varchar(255),
+    introduction varchar(255),
+    member_status varchar(255) not null,
+    nickname varchar(255) not null,
+    password varchar(255) not null,
+    updated_at datetime not null,
+    primary key (member_id)
+) engine=InnoDB;
+
+create table member_roles (
+    member_member_id bigint not null,
+    roles varchar(255)
+) engine=InnoDB;
+
+create table reply (
+    reply_id bigint not null auto_increment,
+    content varchar(255),
+    created_at datetime,
+    updated_at datetime,
+    curation_id bigint,
+    member_id bigint,
+    primary key (reply_id)
+) engine=InnoDB;
+
+create table subscribe (
+    subscribe_id bigint not null auto_increment,
+    subscribed_member bigint,
+    subscriber bigint,
+    primary key (subscribe_id)
+) engine=InnoDB;
+
+alter table book add constraint UK_ehpdfjpu1jm3hijhj4mm0hx9h unique (isbn);
+alter table category add constraint UK_46ccwnsi9409t36lurvtyljak unique (name);
+alter table book_curation add constraint FKtg5pyiiyuu5v2osppil7186lj foreign key (book_id) references book (book_id);
+alter table book_curation add constraint FKs8yo8jjsk88vr661a4cehsqf5 foreign key (curation_id) references curation (curation_id);
+alter table curation add constraint FK6ioi5dyc3kasyln1dc0095qs4 foreign key (category_id) references category (category_id);
+alter table curation add constraint FKdlnps7qqivebgquql0rxw9qri foreign key (member_id) references member (member_id);
+alter table curation_like add constraint FKteldaniufcrec9rkuxkh48s3f foreign key (curation_id) references curation (curation_id);
+alter table curation_like add constraint FK7dl5mophaisti5julp5vlee4n foreign key (member_id) references member (member_id);
+alter table curation_save_image add constraint FKlg155l5ckyde68wth3mcasl7l foreign key (curation_id) references curation (curation_id);
+alter table curation_save_image add constraint FKng4rwdbng1e2v8pnyefrkymcc foreign key (curation_image_id) references curation_image (curation_image_id);
+alter table member_roles add constraint FKruptm2dtwl95mfks4bnhv828k foreign key (member_member_id) references member (member_id);
+alter table reply add constraint FKxu968d8qfctqm3lutesxm675 foreign key (curation_id) references curation (curation_id);
+alter table reply add constraint FKen6vrmi5oth4bg6ybfc202fmu foreign key (member_id) references member (member_id);
+alter table subscribe add constraint FKtl0a855wqfg38xgje3mtouci5 foreign key (subscribed_member) references member (member_id);
+alter table subscribe add constraint FKaq3hshpliashbrejh1cvde0dp foreign key (subscriber) references member (member_id);
@@ -0,0 +1,18 @@
+-- 최신순 목록 : 공개/게시중 필터 + curation_id 정렬 (findCurationList*, findCurationListItemsAfter)
+create index idx_curation_feed_new on curation (visibility, curation_status, curation_id);
+
+-- 카테고리별 최신순 목록 (category 파라미터가 있는 findCurationList*, findByCategoryAndCurationStatusAndVisibility)
+create index idx_curation_category_feed_new on curation (category_id, visibility, curation_status, curation_id);
+
+-- 좋아요순 목록 (getBestCurations, findBestCurationListItemsAfter)
+create index idx_curation_feed_best on curation (visibility, curation_status, curation_like_count, curation_id);
+create index idx_curation_category_feed_best on curation (category_id, visibility, curation_status, curation_like_count, curation_id);
+
+-- 회원별 큐레이션 (findByMemberAndCurationStatus, findByMemberAndCurationStatusAndVisibility)
+create index idx_curation_member_status on curation (member_id, curation_status, visibility, curation_id);
+
+-- 구독 여부 확인 (findBySubscriberAndSubscribedMember), 내가 구독한 큐레이터 목록 (findBySubscriber)
+create index idx_subscribe_subscriber_member on subscribe (subscriber, subscribed_member);
+
+-- 좋아요 여부 확인 (findByCurationAndMember)
+create index idx_curation_like_curation_member on curation_like (curation_id, member_id);
@@ -0,0 +1,18 @@
+-- 같은 회원이 같은 큐레이션에 남긴 중복 좋아요 정리 (가장 먼저 저장된 좋아요만 유지)
+delete duplicated
+from curation_like duplicated
+         join curation_like kept
+              on duplicated.curation_id = kept.curation_id
+                  and duplicated.member_id = kept.member_id
+                  and duplicated.like_id > kept.like_id;
+
+-- 읽고-쓰기 방식에서 유실된 좋아요 수를 실제 좋아요 기준으로 보정
+update curation c
+set c.curation_like_count = (select count(*) from curation_like cl where cl.curation_id = c.curation_id);
+
+-- 중복 좋아요는 DB 에서 거부
+alter table curation_like
+    add constraint uk_curation_like_curation_member unique (curation_id, member_id);
+
+-- 유니크 인덱스가 같은 컬럼 순서로 조회를 대신하므로 기존 인덱스 제거
+drop index idx_curation_like_curation_member on curation_like;
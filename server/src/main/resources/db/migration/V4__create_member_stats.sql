@@ -0,0 +1,24 @@
+-- 회원별 통계 읽기 모델 (구독자 수, 작성한 큐레이션 수, 받은 좋아요 수)
+create table member_stats (
+    member_id bigint not null,
+    subscriber_count bigint not null default 0,
+    curation_count bigint not null default 0,
+    like_received_count bigint not null default 0,
+    updated_at datetime(6) not null,
+    primary key (member_id),
+    constraint fk_member_stats_member foreign key (member_id) references member (member_id)
+) engine=InnoDB;
+
+-- 베스트 큐레이터, 관리자 페이지 정렬용
+create index idx_member_stats_subscriber on member_stats (subscriber_count, member_id);
+create index idx_member_stats_curation on member_stats (curation_count, member_id);
+
+-- 기존 회원 통계 채우기
+insert into member_stats (member_id, subscriber_count, curation_count, like_received_count, updated_at)
+select m.member_id,
+       (select count(*) from subscribe s where s.subscribed_member = m.member_id),
+       (select count(*) from curation c where c.member_id = m.member_id and c.curation_status = 'CURATION_ACTIVE'),
+       (select coalesce(sum(c.curation_like_count), 0) from curation c
+        where c.member_id = m.member_id and c.curation_status = 'CURATION_ACTIVE'),
+       now(6)
+from member m;
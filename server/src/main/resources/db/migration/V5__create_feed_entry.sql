@@ -0,0 +1,27 @@
+-- 구독 피드 : 구독자별 타임라인 (큐레이션 작성 시 작성자의 구독자마다 한 행씩 추가)
+-- 쓰기가 많은 비정규화 테이블이라 외래 키는 두지 않음 (회원/큐레이션은 상태값으로 삭제되고, 조회 시 큐레이션과 조인해 거름)
+create table feed_entry (
+    feed_entry_id bigint not null auto_increment,
+    member_id bigint not null,
+    curation_id bigint not null,
+    curator_id bigint not null,
+    created_at datetime(6) not null,
+    primary key (feed_entry_id),
+    constraint uk_feed_entry_member_curation unique (member_id, curation_id)
+) engine=InnoDB;
+
+-- 구독 취소 시 해당 큐레이터의 항목 삭제
+create index idx_feed_entry_member_curator on feed_entry (member_id, curator_id);
+
+-- 팬아웃 : 큐레이터의 구독자 목록 (insert ... select)
+create index idx_subscribe_member_subscriber on subscribe (subscribed_member, subscriber);
+
+-- 기존 구독 관계로 타임라인 채우기 (구독자마다 최근 500건)
+insert into feed_entry (member_id, curation_id, curator_id, created_at)
+select t.subscriber, t.curation_id, t.member_id, t.created_at
+from (select s.subscriber, c.curation_id, c.member_id, c.created_at,
+             row_number() over (partition by s.subscriber order by c.curation_id desc) as rn
+      from subscribe s
+      join curation c on c.member_id = s.subscribed_member
+      where c.curation_status = 'CURATION_ACTIVE') t
+where t.rn <= 500;
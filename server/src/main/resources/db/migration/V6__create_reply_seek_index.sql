@@ -0,0 +1,2 @@
+-- 댓글 목록 : 큐레이션별 (작성 시각, 댓글 id) 역순 커서 페이지네이션
+create index idx_reply_curation_created on reply (curation_id, created_at, reply_id);
@@ -0,0 +1,5 @@
+-- 큐레이션 카드/상세의 댓글 수 : 댓글 작성/삭제 시 원자적으로 증감 (카드마다 count 쿼리를 하지 않음)
+alter table curation add column reply_count int not null default 0;
+
+update curation c
+set reply_count = (select count(*) from reply r where r.curation_id = c.curation_id);
@@ -0,0 +1,3 @@
+-- 큐레이션 이미지 업로드 상태 : 비동기 업로드 중(PENDING), 완료(READY), 실패(FAILED)
+-- 기존 이미지는 모두 업로드가 끝난 상태
+alter table curation_image add column status varchar(20) not null default 'READY';
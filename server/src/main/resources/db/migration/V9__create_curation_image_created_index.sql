@@ -0,0 +1,2 @@
+-- 이미지 정리 작업 : 유예 기간보다 오래된 이미지 구간(최대 curation_image_id)을 찾을 때 사용
+create index idx_curation_image_created on curation_image (created_at);
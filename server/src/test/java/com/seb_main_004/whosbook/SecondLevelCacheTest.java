@@ -0,0 +1,125 @@
+package com.seb_main_004.whosbook;
+
+import com.seb_main_004.whosbook.book.entity.Book;
+import com.seb_main_004.whosbook.book.repository.BookRepository;
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.category.CategoryRepository;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.repository.MemberRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//Category, Book, Member 조회가 2차 캐시에 적중해 두 번째 요청부터 쿼리가 나가지 않는지 확인
+//쿼리 캐시는 테이블을 변경한 트랜잭션이 끝나야 사용되므로 요청마다 별도 트랜잭션으로 실행
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    private Statistics statistics;
+
+    private long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            Category category = new Category("소설");
+            em.persist(category);
+            categoryId = category.getCategoryId();
+
+            em.persist(new Book("title", "author", "publisher", "thumbnail", "url", "9788937460449"));
+
+            Member member = new Member("curator@email.com", "curator", null);
+            member.setPassword("password");
+            member.setRoles(List.of("USER"));
+            em.persist(member);
+        });
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            em.createQuery("delete from Category").executeUpdate();
+            em.createQuery("delete from Book").executeUpdate();
+            em.createNativeQuery("delete from member_roles").executeUpdate();
+            em.createQuery("delete from Member").executeUpdate();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void categoryFindByIdHitsCacheAfterFirstLoad() {
+        assertThat(statementsOf(() -> categoryRepository.findById(categoryId))).isEqualTo(1);
+        assertThat(statementsOf(() -> categoryRepository.findById(categoryId))).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void bookFindByIsbnHitsQueryCacheAfterFirstLoad() {
+        assertThat(statementsOf(() -> bookRepository.findBookByIsbn("9788937460449"))).isEqualTo(1);
+        assertThat(statementsOf(() -> bookRepository.findBookByIsbn("9788937460449"))).isZero();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void memberFindByEmailHitsCacheUntilMemberIsUpdated() {
+        // 회원 + 권한(roles) 조회
+        assertThat(statementsOf(() -> memberRepository.findByEmail("curator@email.com"))).isEqualTo(2);
+        assertThat(statementsOf(() -> memberRepository.findByEmail("curator@email.com"))).isZero();
+
+        // 회원 수정 시 캐시 항목이 교체되어 변경된 값이 조회됨
+        tx.executeWithoutResult(status -> memberRepository.findByEmail("curator@email.com")
+                .ifPresent(member -> member.setNickname("renamed")));
+
+        Member member = tx.execute(status -> memberRepository.findByEmail("curator@email.com").orElseThrow());
+        assertThat(member.getNickname()).isEqualTo("renamed");
+    }
+
+    private long statementsOf(Supplier<?> query) {
+        long before = statistics.getPrepareStatementCount();
+        tx.execute(status -> query.get());
+        return statistics.getPrepareStatementCount() - before;
+    }
+}
@@ -0,0 +1,84 @@
+package com.seb_main_004.whosbook.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenizerTest {
+
+    private static final String SECRET_KEY = "whosbook-test-secret-key-which-is-long-enough-for-hs256";
+
+    private JwtTokenizer jwtTokenizer;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenizer = new JwtTokenizer(SECRET_KEY, 30, 420, 100, 300);
+    }
+
+    @Test
+    void verifiedTokenIsServedFromCache() {
+        String jws = accessToken(jwtTokenizer.getTokenExpiration(30));
+
+        Claims claims = jwtTokenizer.getVerifiedClaims(jws);
+        assertThat(claims.get("username")).isEqualTo("curator@email.com");
+        assertThat(claims.get("roles")).isEqualTo(List.of("USER"));
+
+        // 두 번째 요청은 서명 검증 없이 캐시된 claims 사용
+        assertThat(jwtTokenizer.getVerifiedClaims(jws)).isSameAs(claims);
+
+        // 기존 방식(시크릿 키 전달)으로 검증한 결과와 동일
+        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey());
+        assertThat(jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody()).isEqualTo(claims);
+    }
+
+    @Test
+    void tamperedTokenIsRejectedAndNotCached() {
+        String jws = accessToken(jwtTokenizer.getTokenExpiration(30));
+        String tampered = jws.substring(0, jws.length() - 2) + (jws.endsWith("AA") ? "BB" : "AA");
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> jwtTokenizer.getVerifiedClaims(tampered))
+                    .isInstanceOf(SignatureException.class);
+        }
+
+        JwtTokenizer otherKeyTokenizer = new JwtTokenizer(SECRET_KEY + "-other", 30, 420, 100, 300);
+        assertThatThrownBy(() -> otherKeyTokenizer.getVerifiedClaims(jws))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void cachedTokenIsNotUsedAfterItExpires() throws InterruptedException {
+        String jws = accessToken(new Date(System.currentTimeMillis() + 1000));
+        jwtTokenizer.getVerifiedClaims(jws);
+
+        Thread.sleep(1500);
+
+        assertThatThrownBy(() -> jwtTokenizer.getVerifiedClaims(jws))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String jws = accessToken(new Date(System.currentTimeMillis() - 1000));
+
+        assertThatThrownBy(() -> jwtTokenizer.getVerifiedClaims(jws))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    private String accessToken(Date expiration) {
+        return jwtTokenizer.generateAccessToken(
+                Map.of("username", "curator@email.com", "roles", List.of("USER")),
+                "curator@email.com",
+                expiration,
+                jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getSecretKey()));
+    }
+}
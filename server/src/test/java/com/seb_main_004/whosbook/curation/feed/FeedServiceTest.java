@@ -0,0 +1,203 @@
+package com.seb_main_004.whosbook.curation.feed;
+
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.dto.CurationListQueryDto;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.ranking.CuratorRankingService;
+import com.seb_main_004.whosbook.member.service.MemberStatsService;
+import com.seb_main_004.whosbook.subscribe.service.SubscribeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//구독 피드 : 작성 시 구독자 타임라인에 추가한 큐레이션과 구독자가 많은 큐레이터의 큐레이션을 최신순으로 합쳐 커서로 응답하는지 확인
+//(구독자가 2명을 넘으면 작성 시 타임라인에 추가하지 않음)
+@DataJpaTest(properties = {"feed.fan-out.max-subscribers=2", "feed.timeline.max-size=3", "feed.timeline.backfill-size=2"})
+@ActiveProfiles("test")
+@Import({FeedService.class, SubscribeService.class, MemberStatsService.class, CuratorRankingService.class,
+        SimpleMeterRegistry.class})
+class FeedServiceTest {
+
+    @Autowired
+    private FeedService feedService;
+
+    @Autowired
+    private SubscribeService subscribeService;
+
+    @Autowired
+    private MemberStatsService memberStatsService;
+
+    @Autowired
+    private FeedEntryRepository feedEntryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager em;
+
+    private Category category;
+
+    private Member viewer;
+
+    private Member curator;
+
+    @BeforeEach
+    void setUp() {
+        category = new Category("소설");
+        em.persist(category);
+
+        viewer = persistMember("viewer");
+        curator = persistMember("curator");
+        em.flush();
+    }
+
+    @Test
+    void fanOutTimelineIsPagedByCursor() {
+        subscribe(viewer, curator);
+        List<Long> curationIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            curationIds.add(createCuration(curator, Curation.Visibility.PUBLIC).getCurationId());
+        }
+        // 비공개 큐레이션은 타임라인에 있어도 응답하지 않음
+        createCuration(curator, Curation.Visibility.SECRET);
+
+        Slice<CurationListQueryDto> first = feedService.getFeed(viewer.getMemberId(), Long.MAX_VALUE, 2);
+        assertThat(ids(first)).containsExactly(curationIds.get(4), curationIds.get(3));
+        assertThat(first.hasNext()).isTrue();
+
+        Slice<CurationListQueryDto> second = feedService.getFeed(viewer.getMemberId(), curationIds.get(3), 2);
+        assertThat(ids(second)).containsExactly(curationIds.get(2), curationIds.get(1));
+
+        Slice<CurationListQueryDto> last = feedService.getFeed(viewer.getMemberId(), curationIds.get(1), 2);
+        assertThat(ids(last)).containsExactly(curationIds.get(0));
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    void curatorsWithManySubscribersAreMergedOnRead() {
+        Member celebrity = persistMember("celebrity");
+        subscribe(viewer, curator);
+        subscribe(viewer, celebrity);
+        subscribe(persistMember("fan1"), celebrity);
+        subscribe(persistMember("fan2"), celebrity);
+
+        long first = createCuration(curator, Curation.Visibility.PUBLIC).getCurationId();
+        long second = createCuration(celebrity, Curation.Visibility.PUBLIC).getCurationId();
+        long third = createCuration(curator, Curation.Visibility.PUBLIC).getCurationId();
+        long fourth = createCuration(celebrity, Curation.Visibility.PUBLIC).getCurationId();
+
+        // 구독자가 3명인 큐레이터의 큐레이션은 타임라인에 추가되지 않음
+        assertThat(feedEntryRepository.count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("feed.fan-out.skipped").count()).isEqualTo(2);
+
+        Slice<CurationListQueryDto> page = feedService.getFeed(viewer.getMemberId(), Long.MAX_VALUE, 3);
+        assertThat(ids(page)).containsExactly(fourth, third, second);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(ids(feedService.getFeed(viewer.getMemberId(), second, 3))).containsExactly(first);
+    }
+
+    @Test
+    void curationsSkippedWhileAboveThresholdStayAfterDroppingBelow() {
+        Member fan = persistMember("fan");
+        subscribe(viewer, curator);
+        subscribe(fan, curator);
+        long before = createCuration(curator, Curation.Visibility.PUBLIC).getCurationId();
+
+        // 구독자 3명 : 작성 시 타임라인에 추가하지 않음
+        subscribe(persistMember("fan2"), curator);
+        long entries = feedEntryRepository.count();
+        long during = createCuration(curator, Curation.Visibility.PUBLIC).getCurationId();
+        assertThat(feedEntryRepository.count()).isEqualTo(entries);
+
+        // 구독자가 다시 2명으로 줄어도 기준을 넘었을 때 작성한 큐레이션은 피드에 남음
+        subscribeService.deleteSubscribe(curator.getMemberId(), fan.getEmail());
+        em.flush();
+        long after = createCuration(curator, Curation.Visibility.PUBLIC).getCurationId();
+
+        assertThat(ids(feedService.getFeed(viewer.getMemberId(), Long.MAX_VALUE, 10)))
+                .containsExactly(after, during, before);
+        assertThat(ids(feedService.getFeed(viewer.getMemberId(), after, 1))).containsExactly(during);
+    }
+
+    @Test
+    void subscribeBackfillsAndUnsubscribeRemovesCurations() {
+        createCuration(curator, Curation.Visibility.PUBLIC);
+        long second = createCuration(curator, Curation.Visibility.PUBLIC).getCurationId();
+        long third = createCuration(curator, Curation.Visibility.PUBLIC).getCurationId();
+
+        // 구독 전 큐레이션은 최근 backfill-size 건만 채워짐
+        subscribe(viewer, curator);
+        assertThat(ids(feedService.getFeed(viewer.getMemberId(), Long.MAX_VALUE, 10))).containsExactly(third, second);
+
+        subscribeService.deleteSubscribe(curator.getMemberId(), viewer.getEmail());
+        em.flush();
+        assertThat(feedService.getFeed(viewer.getMemberId(), Long.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    void trimKeepsLatestEntriesPerMember() {
+        Member other = persistMember("other");
+        subscribe(viewer, curator);
+        subscribe(other, curator);
+        List<Long> curationIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            curationIds.add(createCuration(curator, Curation.Visibility.PUBLIC).getCurationId());
+        }
+
+        feedService.trim();
+
+        assertThat(feedEntryRepository.count()).isEqualTo(6);
+        assertThat(ids(feedService.getFeed(viewer.getMemberId(), Long.MAX_VALUE, 10)))
+                .containsExactly(curationIds.get(4), curationIds.get(3), curationIds.get(2));
+        assertThat(ids(feedService.getFeed(other.getMemberId(), Long.MAX_VALUE, 10)))
+                .containsExactly(curationIds.get(4), curationIds.get(3), curationIds.get(2));
+    }
+
+    private void subscribe(Member subscriber, Member subscribedMember) {
+        subscribeService.createSubscribe(subscribedMember.getMemberId(), subscriber.getEmail());
+        em.flush();
+    }
+
+    private Curation createCuration(Member member, Curation.Visibility visibility) {
+        Curation curation = new Curation();
+        curation.setEmoji("📚");
+        curation.setTitle("title");
+        curation.setContent("content");
+        curation.setVisibility(visibility);
+        curation.setMember(member);
+        curation.setCategory(category);
+        em.persist(curation);
+        em.flush();
+        feedService.onCurationCreated(curation);
+        return curation;
+    }
+
+    private Member persistMember(String nickname) {
+        Member member = new Member(nickname + "@email.com", nickname, null);
+        member.setPassword("password");
+        member.setRoles(List.of("USER"));
+        em.persist(member);
+        memberStatsService.createStats(member);
+        return member;
+    }
+
+    private List<Long> ids(Slice<CurationListQueryDto> curations) {
+        List<Long> ids = new ArrayList<>();
+        curations.forEach(curation -> ids.add(curation.getCurationId()));
+        return ids;
+    }
+}
@@ -0,0 +1,79 @@
+package com.seb_main_004.whosbook.curation.ranking;
+
+import com.seb_main_004.whosbook.curation.repository.CurationRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+//재계산 중에 들어온 좋아요/댓글 변경이 새 보드로 교체된 뒤에도 남아 있는지 확인
+class CurationRankingServiceTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 7, 1, 12, 0);
+
+    private final CurationRepository curationRepository = mock(CurationRepository.class);
+    private final CurationRankingService rankingService = new CurationRankingService(curationRepository);
+
+    @Test
+    void changesDuringRebuildAreReplayedOnNewBoard() {
+        given(curationRepository.findRankedCurations()).willReturn(List.of(
+                new RankedCuration(1L, 1L, 0, 0, CREATED_AT),
+                new RankedCuration(2L, 1L, 5, 0, CREATED_AT)));
+        rankingService.rebuild();
+
+        // DB 조회 이후 ~ 보드 교체 전에 커밋된 변경 : 조회 결과에는 없고 기존 보드에만 반영됨
+        given(curationRepository.findRankedCurations()).willAnswer(invocation -> {
+            rankingService.onLikeCountChanged(1L, 10);
+            rankingService.onReplyCountChanged(1L, 2);
+            return List.of(
+                    new RankedCuration(1L, 1L, 0, 0, CREATED_AT),
+                    new RankedCuration(2L, 1L, 5, 0, CREATED_AT));
+        });
+        rankingService.rebuild();
+
+        assertThat(rankingService.getBestCurationIds(null, 0, 10)).containsExactly(1L, 2L);
+        RankedCuration curation = rankingService.getBestCurationsAfter(null, null, 0, 1).get(0);
+        assertThat(curation.getLikeCount()).isEqualTo(10);
+        assertThat(curation.getReplyCount()).isEqualTo(2);
+
+        // 재계산이 끝난 뒤의 변경은 기록하지 않고 현재 보드에만 반영
+        rankingService.onLikeCountChanged(2L, 30);
+        assertThat(rankingService.getBestCurationIds(null, 0, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void concurrentLikesAreAccumulatedAsDeltas() throws InterruptedException {
+        given(curationRepository.findRankedCurations()).willReturn(List.of(new RankedCuration(1L, 1L, 5, 0, CREATED_AT)));
+        rankingService.rebuild();
+
+        // 서로 다른 트랜잭션에서 같은 좋아요 수(5)를 보고 커밋한 좋아요도 모두 반영
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 100; i++) {
+            executor.execute(() -> rankingService.onLikeCountChanged(1L, 1));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        rankingService.onLikeCountChanged(1L, -1);
+
+        assertThat(rankingService.getBestCurationsAfter(null, null, 0, 1).get(0).getLikeCount()).isEqualTo(104);
+    }
+
+    @Test
+    void replayingChangeAlreadyInSnapshotDoesNotDoubleCount() {
+        // 변경이 커밋된 뒤 DB 조회에 포함되고, 커밋 이후 이벤트는 재계산 중에 도착한 경우
+        given(curationRepository.findRankedCurations()).willAnswer(invocation -> {
+            rankingService.onReplyCountChanged(1L, 3);
+            return List.of(new RankedCuration(1L, 1L, 0, 3, CREATED_AT));
+        });
+        rankingService.rebuild();
+
+        assertThat(rankingService.getBestCurationsAfter(null, null, 0, 1).get(0).getReplyCount()).isEqualTo(3);
+    }
+}
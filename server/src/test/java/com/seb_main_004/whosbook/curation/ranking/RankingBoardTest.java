@@ -0,0 +1,114 @@
+package com.seb_main_004.whosbook.curation.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RankingBoardTest {
+
+    private static final long NOW = 1_700_000_000L;
+    private static final long HOUR = 3600L;
+
+    @Test
+    void newerCurationNeedsFewerReactionsToRankHigher() {
+        RankingBoard board = new RankingBoard();
+        board.put(new RankedCuration(1L, 1L, 100, 0, NOW - 48 * HOUR));
+        board.put(new RankedCuration(2L, 1L, 5, 0, NOW));
+        board.put(new RankedCuration(3L, 2L, 5, 0, NOW - HOUR));
+
+        assertThat(board.getCurationIds(null, 0, 10)).containsExactly(2L, 3L, 1L);
+        assertThat(board.getCurationIds(1L, 0, 10)).containsExactly(2L, 1L);
+        assertThat(board.count(null)).isEqualTo(3);
+        assertThat(board.count(2L)).isEqualTo(1);
+    }
+
+    @Test
+    void updateReordersOnlyChangedCuration() {
+        RankingBoard board = new RankingBoard();
+        board.put(new RankedCuration(1L, 1L, 0, 0, NOW));
+        board.put(new RankedCuration(2L, 1L, 0, 0, NOW));
+
+        // 같은 점수면 최신 글(id 가 큰 글) 먼저
+        assertThat(board.getCurationIds(null, 0, 10)).containsExactly(2L, 1L);
+
+        board.update(1L, curation -> curation.withReplyCount(curation.getReplyCount() + 3));
+        assertThat(board.getCurationIds(null, 0, 10)).containsExactly(1L, 2L);
+        assertThat(board.get(1L).getReplyCount()).isEqualTo(3);
+
+        board.remove(1L);
+        assertThat(board.getCurationIds(null, 0, 10)).containsExactly(2L);
+        assertThat(board.count(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void pagesAreReadFromSortedBoard() {
+        RankingBoard board = new RankingBoard();
+        for (long id = 1; id <= 25; id++) {
+            board.put(new RankedCuration(id, 1L, (int) id, 0, NOW));
+        }
+
+        assertThat(board.getCurationIds(null, 0, 10)).startsWith(25L, 24L).hasSize(10);
+        assertThat(board.getCurationIds(null, 20, 10)).containsExactly(5L, 4L, 3L, 2L, 1L);
+        assertThat(board.getCurationIds(7L, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void cursorSeeksToNextRankWithoutReadingEarlierPages() {
+        RankingBoard board = new RankingBoard();
+        for (long id = 1; id <= 25; id++) {
+            board.put(new RankedCuration(id, 1L, (int) id, 0, NOW));
+        }
+
+        List<RankedCuration> first = board.getCurationsAfter(null, null, 10);
+        assertThat(first).extracting(RankedCuration::getCurationId).startsWith(25L, 24L).hasSize(10);
+
+        RankedCuration last = first.get(first.size() - 1);
+        RankedCuration cursor = RankedCuration.cursor(last.getScore(), last.getCurationId());
+        assertThat(board.getCurationsAfter(null, cursor, 10)).extracting(RankedCuration::getCurationId)
+                .containsExactly(15L, 14L, 13L, 12L, 11L, 10L, 9L, 8L, 7L, 6L);
+
+        // 커서 항목이 그 사이 보드에서 빠져도 같은 위치부터 이어서 읽음
+        board.remove(last.getCurationId());
+        assertThat(board.getCurationsAfter(null, cursor, 3)).extracting(RankedCuration::getCurationId)
+                .containsExactly(15L, 14L, 13L);
+        assertThat(board.getCurationsAfter(7L, null, 10)).isEmpty();
+    }
+
+    @Test
+    void saveKeepsCountsAlreadyOnBoard() {
+        RankingBoard board = new RankingBoard();
+        board.put(new RankedCuration(1L, 1L, 0, 0, NOW));
+        board.update(1L, curation -> curation.withLikeCount(7).withReplyCount(2));
+
+        // 수정된 큐레이션(카테고리 변경)의 엔티티 값에는 아직 반영되지 않은 좋아요 수가 있을 수 있음
+        board.save(new RankedCuration(1L, 2L, 3, 0, NOW));
+
+        assertThat(board.get(1L).getCategoryId()).isEqualTo(2L);
+        assertThat(board.get(1L).getLikeCount()).isEqualTo(7);
+        assertThat(board.get(1L).getReplyCount()).isEqualTo(2);
+        assertThat(board.getCurationIds(1L, 0, 10)).isEmpty();
+        assertThat(board.getCurationIds(2L, 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void concurrentUpdatesOnSameCurationAreNotLost() throws InterruptedException {
+        RankingBoard board = new RankingBoard();
+        board.put(new RankedCuration(1L, 1L, 0, 0, NOW));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> board.update(1L, curation -> curation.withLikeCount(curation.getLikeCount() + 1)));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(board.get(1L).getLikeCount()).isEqualTo(1000);
+        assertThat(board.count(null)).isEqualTo(1);
+        assertThat(board.getCurationIds(null, 0, 10)).isEqualTo(List.of(1L));
+    }
+}
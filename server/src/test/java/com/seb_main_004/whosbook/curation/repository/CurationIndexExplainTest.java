@@ -0,0 +1,241 @@
+package com.seb_main_004.whosbook.curation.repository;
+
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.like.repository.CurationLikeRepository;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.subscribe.repository.SubscribeRepository;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//Flyway 마이그레이션으로 만든 실제 MySQL 스키마에서 목록/조회 쿼리가 인덱스를 타는지 EXPLAIN 으로 확인
+//손으로 쓴 SQL 이 아니라 리포지토리 메서드가 실제로 만든 SQL 을 StatementInspector 로 가로채서 EXPLAIN 함
+//Docker 가 없는 환경에서는 건너뜀
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.seb_main_004.whosbook.curation.repository.CurationIndexExplainTest$CapturingStatementInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CurationIndexExplainTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("whosbook");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.flyway.enabled", () -> true);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CurationRepository curationRepository;
+
+    @Autowired
+    private SubscribeRepository subscribeRepository;
+
+    @Autowired
+    private CurationLikeRepository curationLikeRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.execute("set session cte_max_recursion_depth = 10000");
+
+        jdbcTemplate.update("insert into category (name) " +
+                "with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 8) " +
+                "select concat('category', n) from seq");
+
+        jdbcTemplate.update("insert into member (created_at, email, member_status, nickname, password, updated_at) " +
+                "with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 200) " +
+                "select now(), concat('curator', n, '@email.com'), 'MEMBER_ACTIVE', concat('curator', n), 'password', now() " +
+                "from seq");
+
+        //10건 중 1건은 비공개, 10건 중 1건은 삭제 상태로 섞어서 필터 조건이 의미 있도록 함
+        jdbcTemplate.update("insert into curation (content, created_at, curation_like_count, curation_status, emoji, " +
+                "title, updated_at, visibility, category_id, member_id) " +
+                "with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 5000) " +
+                "select concat('content', n), now(), n % 97, " +
+                "if(n % 10 = 3, '" + Curation.CurationStatus.CURATION_DELETE.name() + "', '" +
+                Curation.CurationStatus.CURATION_ACTIVE.name() + "'), 'book', concat('title', n), now(), " +
+                "if(n % 10 = 7, 'SECRET', 'PUBLIC'), 1 + n % 8, 1 + n % 200 " +
+                "from seq");
+
+        jdbcTemplate.update("insert into subscribe (subscriber, subscribed_member) " +
+                "with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 2000) " +
+                "select 1 + n % 200, 1 + (n * 7) % 200 from seq");
+
+        jdbcTemplate.update("insert into curation_like (curation_id, member_id) " +
+                "with recursive seq (n) as (select 1 union all select n + 1 from seq where n < 5000) " +
+                "select 1 + (n * 13) % 5000, 1 + n % 200 from seq");
+
+        jdbcTemplate.execute("analyze table curation, subscribe, curation_like");
+    }
+
+    @BeforeEach
+    void clearStatements() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    //findCurationListItems, findCurationListItemsWithoutContent : 전체 최신순
+    @Test
+    void newFeedUsesFeedIndex() {
+        curationRepository.findCurationListItems(null, PageRequest.of(0, 20, Sort.by("curationId").descending()));
+        assertUsesIndex("curation", "idx_curation_feed_new", null, null, 20);
+
+        curationRepository.findCurationListItemsWithoutContent(null,
+                PageRequest.of(0, 20, Sort.by("curationId").descending()));
+        assertUsesIndex("curation", "idx_curation_feed_new", null, null, 20);
+    }
+
+    //findCurationListItems, findByCategoryAndCurationStatusAndVisibility : 카테고리별 최신순
+    @Test
+    void categoryFeedUsesCategoryFeedIndex() {
+        curationRepository.findCurationListItems(3L, PageRequest.of(0, 20, Sort.by("curationId").descending()));
+        assertUsesIndex("curation", "idx_curation_category_feed_new", 3L, 3L, 20);
+
+        curationRepository.findByCategoryAndCurationStatusAndVisibility(
+                entityManager.getReference(Category.class, 3L),
+                Curation.CurationStatus.CURATION_ACTIVE,
+                Curation.Visibility.PUBLIC,
+                PageRequest.of(0, 20, Sort.by("curationId").descending()));
+        assertUsesIndex("curation", "idx_curation_category_feed_new",
+                3L, Curation.CurationStatus.CURATION_ACTIVE.name(), Curation.Visibility.PUBLIC.name(), 20);
+    }
+
+    //getBestCurations : 좋아요순
+    @Test
+    void bestFeedUsesBestIndex() {
+        curationRepository.findCurationListItems(null,
+                PageRequest.of(0, 20, Sort.by("curationLikeCount").descending()));
+        assertUsesIndex("curation", "idx_curation_feed_best", null, null, 20);
+
+        curationRepository.findCurationListItems(3L,
+                PageRequest.of(0, 20, Sort.by("curationLikeCount").descending()));
+        assertUsesIndex("curation", "idx_curation_category_feed_best", 3L, 3L, 20);
+    }
+
+    //findCurationListItemsAfter, findBestCurationListItemsAfter : 커서 페이지네이션 (Slice 라서 size + 1 건 조회)
+    @Test
+    void cursorFeedSeeksOnIndex() {
+        curationRepository.findCurationListItemsAfter(null, 2500L, PageRequest.of(0, 20));
+        assertUsesIndex("curation", "idx_curation_feed_new", null, null, 2500L, 21);
+
+        curationRepository.findCurationListItemsWithoutContentAfter(null, 2500L, PageRequest.of(0, 20));
+        assertUsesIndex("curation", "idx_curation_feed_new", null, null, 2500L, 21);
+
+        curationRepository.findBestCurationListItemsAfter(null, 50, 2500L, PageRequest.of(0, 20));
+        assertUsesIndex("curation", "idx_curation_feed_best", null, null, 50, 50, 2500L, 21);
+
+        curationRepository.findBestCurationListItemsWithoutContentAfter(null, 50, 2500L, PageRequest.of(0, 20));
+        assertUsesIndex("curation", "idx_curation_feed_best", null, null, 50, 50, 2500L, 21);
+    }
+
+    //findByMemberAndCurationStatus, findByMemberAndCurationStatusAndVisibility
+    @Test
+    void memberCurationsUseMemberStatusIndex() {
+        Member member = entityManager.getReference(Member.class, 10L);
+
+        curationRepository.findByMemberAndCurationStatus(member, Curation.CurationStatus.CURATION_ACTIVE,
+                PageRequest.of(0, 20));
+        assertUsesIndex("curation", "idx_curation_member_status",
+                10L, Curation.CurationStatus.CURATION_ACTIVE.name(), 20);
+
+        curationRepository.findByMemberAndCurationStatusAndVisibility(member, Curation.CurationStatus.CURATION_ACTIVE,
+                Curation.Visibility.PUBLIC, PageRequest.of(0, 20));
+        assertUsesIndex("curation", "idx_curation_member_status",
+                10L, Curation.CurationStatus.CURATION_ACTIVE.name(), Curation.Visibility.PUBLIC.name(), 20);
+    }
+
+    //findBySubscriberAndSubscribedMember
+    @Test
+    void subscribeLookupUsesSubscriberIndex() {
+        subscribeRepository.findBySubscriberAndSubscribedMember(
+                entityManager.getReference(Member.class, 10L),
+                entityManager.getReference(Member.class, 70L));
+        assertUsesIndex("subscribe", "idx_subscribe_subscriber_member", 10L, 70L);
+    }
+
+    //findByCurationAndMember
+    @Test
+    void likeLookupUsesCurationMemberIndex() {
+        curationLikeRepository.findByCurationAndMember(
+                entityManager.getReference(Curation.class, 131L),
+                entityManager.getReference(Member.class, 11L));
+        assertUsesIndex("curation_like", "uk_curation_like_curation_member", 131L, 11L);
+    }
+
+    //마지막으로 실행된 리포지토리 메서드의 첫 select(페이지 조회의 경우 count 쿼리보다 먼저 실행되는 본문 쿼리)를
+    //바인딩 값을 채워 EXPLAIN 함
+    private void assertUsesIndex(String table, String expectedIndex, Object... args) {
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(s -> s.trim().toLowerCase().startsWith("select"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("실행된 select 문이 없습니다. " + CapturingStatementInspector.STATEMENTS));
+        CapturingStatementInspector.STATEMENTS.clear();
+
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as("바인딩 값 개수가 맞지 않습니다. %s %s", sql, Arrays.toString(args))
+                .isEqualTo(args.length);
+
+        Matcher alias = Pattern.compile("(?:from|join) " + table + " (\\w+)").matcher(sql);
+        assertThat(alias.find()).as("%s 테이블이 없습니다. %s", table, sql).isTrue();
+
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("explain " + sql, args);
+
+        Map<String, Object> row = plan.stream()
+                .filter(r -> alias.group(1).equals(r.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("EXPLAIN 결과에 " + table + " 테이블이 없습니다. " + plan));
+
+        assertThat(row.get("key")).as("%s %s", sql, plan).isEqualTo(expectedIndex);
+        assertThat(plan).as("정렬을 인덱스로 처리해야 함 %s %s", sql, plan)
+                .noneMatch(r -> String.valueOf(r.get("Extra")).contains("Using filesort"));
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
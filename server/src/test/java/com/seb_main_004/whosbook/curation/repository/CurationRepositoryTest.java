@@ -0,0 +1,145 @@
+package com.seb_main_004.whosbook.curation.repository;
+
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.dto.CurationListQueryDto;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.member.entity.Member;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CurationRepositoryTest {
+
+    @Autowired
+    private CurationRepository curationRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    private Statistics statistics;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = em.persist(new Category("소설"));
+        Category otherCategory = em.persist(new Category("에세이"));
+
+        for (int i = 0; i < 5; i++) {
+            Member member = em.persist(member(i));
+            for (int j = 0; j < 4; j++) {
+                em.persist(curation(member, j % 2 == 0 ? category : otherCategory, "title" + i + j));
+            }
+        }
+        em.flush();
+        em.clear();
+
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findCurationListItemsRunsFixedStatementsPerPage() {
+        Page<CurationListQueryDto> page = curationRepository.findCurationListItems(
+                null, PageRequest.of(0, 15, Sort.by("curationId").descending()));
+
+        assertThat(page.getContent()).hasSize(15);
+        assertThat(page.getTotalElements()).isEqualTo(20);
+        assertThat(page.getContent().get(0).getNickname()).isNotNull();
+        assertThat(page.getContent().get(0).getContent()).isNotNull();
+        // 목록 조회 1번 + count 1번, 큐레이터/카테고리 추가 조회 없음
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findCurationListItemsWithoutContentSkipsContent() {
+        Page<CurationListQueryDto> page = curationRepository.findCurationListItemsWithoutContent(
+                category.getCategoryId(), PageRequest.of(0, 5, Sort.by("curationLikeCount").descending()));
+
+        List<CurationListQueryDto> curations = page.getContent();
+        assertThat(curations).hasSize(5);
+        assertThat(page.getTotalElements()).isEqualTo(10);
+        assertThat(curations).allMatch(curation -> curation.getContent() == null);
+        assertThat(curations).allMatch(curation -> curation.getCategoryId() == category.getCategoryId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void findBestCurationListItemsAfterSeeksWithoutCount() {
+        List<Long> seen = new ArrayList<>();
+        int likeCount = Integer.MAX_VALUE;
+        long cursorId = Long.MAX_VALUE;
+        Slice<CurationListQueryDto> slice;
+
+        do {
+            statistics.clear();
+            slice = curationRepository.findBestCurationListItemsAfter(null, likeCount, cursorId, PageRequest.of(0, 6));
+            // count 쿼리 없이 페이지당 1번만 조회
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+            for (CurationListQueryDto curation : slice.getContent()) {
+                seen.add(curation.getCurationId());
+                likeCount = curation.getCurationLikeCount();
+                cursorId = curation.getCurationId();
+            }
+        } while (slice.hasNext());
+
+        assertThat(seen).hasSize(20).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void findCurationListItemsWithoutContentAfterSkipsContent() {
+        Slice<CurationListQueryDto> slice = curationRepository.findCurationListItemsWithoutContentAfter(
+                category.getCategoryId(), Long.MAX_VALUE, PageRequest.of(0, 5));
+
+        assertThat(slice.getContent()).hasSize(5);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.getContent()).allMatch(curation -> curation.getContent() == null);
+        assertThat(slice.getContent()).allMatch(curation -> curation.getCategoryId() == category.getCategoryId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        Slice<CurationListQueryDto> best = curationRepository.findBestCurationListItemsWithoutContentAfter(
+                null, Integer.MAX_VALUE, Long.MAX_VALUE, PageRequest.of(0, 5));
+
+        assertThat(best.getContent()).hasSize(5);
+        assertThat(best.getContent()).allMatch(curation -> curation.getContent() == null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Member member(int index) {
+        Member member = new Member();
+        member.setEmail("curator" + index + "@email.com");
+        member.setNickname("curator" + index);
+        member.setPassword("password");
+        member.setRoles(List.of("USER"));
+        return member;
+    }
+
+    private Curation curation(Member member, Category category, String title) {
+        Curation curation = new Curation();
+        curation.setEmoji("📚");
+        curation.setTitle(title);
+        curation.setContent("큐레이션 본문입니다. " + title);
+        curation.setMember(member);
+        curation.setCategory(category);
+        return curation;
+    }
+}
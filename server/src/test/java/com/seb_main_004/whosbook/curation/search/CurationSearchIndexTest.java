@@ -0,0 +1,108 @@
+package com.seb_main_004.whosbook.curation.search;
+
+import com.seb_main_004.whosbook.book.entity.Book;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurationSearchIndexTest {
+
+    private CurationSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = CurationSearchIndex.open("");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void koreanWordsMatchPartially() throws IOException {
+        index(1L, "해리포터와 마법사의 돌 후기", "<p>어릴 때 읽었던 책을 다시 읽었습니다.</p>",
+                book("해리 포터와 마법사의 돌", "조앤 K. 롤링", "문학수첩"));
+        index(2L, "여름에 읽기 좋은 소설", "<p>바닷가에서 읽은 책</p>", book("여름의 빌라", "백수린", "문학동네"));
+        refresh();
+
+        // 어절 중간("포터"), 책 저자, 출판사로도 검색
+        assertThat(ids("포터")).containsExactly(1L);
+        assertThat(ids("포터 마법사")).containsExactly(1L);
+        assertThat(ids("롤링")).containsExactly(1L);
+        assertThat(ids("문학")).containsExactlyInAnyOrder(1L, 2L);
+        // 검색어의 모든 단어가 일치해야 함
+        assertThat(ids("포터 여름")).isEmpty();
+        // HTML 태그는 색인되지 않음
+        assertThat(ids("p")).isEmpty();
+        assertThat(ids("  ")).isEmpty();
+    }
+
+    @Test
+    void titleMatchRanksAboveContentMatch() throws IOException {
+        index(1L, "올해의 책", "<p>데미안을 다시 읽었습니다.</p>", book("올해의 책", "저자", "출판사"));
+        index(2L, "데미안 읽고 쓴 글", "<p>성장 소설</p>", book("데미안", "헤르만 헤세", "민음사"));
+        refresh();
+
+        assertThat(ids("데미안")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void updatesAndDeletesAreVisibleAfterRefresh() throws IOException {
+        index(1L, "처음 제목", "본문", book("책", "저자", "출판사"));
+        refresh();
+        assertThat(ids("처음")).containsExactly(1L);
+
+        index(1L, "바뀐 제목", "본문", book("책", "저자", "출판사"));
+        // refresh 전에는 이전 스냅샷으로 검색
+        assertThat(ids("처음")).containsExactly(1L);
+        refresh();
+        assertThat(ids("처음")).isEmpty();
+        assertThat(ids("바뀐")).containsExactly(1L);
+        assertThat(index.numDocs()).isEqualTo(1);
+
+        index.delete(1L);
+        refresh();
+        assertThat(ids("바뀐")).isEmpty();
+    }
+
+    @Test
+    void resultsArePaginatedWithTotalHits() throws IOException {
+        for (long id = 1; id <= 25; id++) {
+            index(id, "추천 도서 " + id, "본문", book("책", "저자", "출판사"));
+        }
+        refresh();
+
+        CurationSearchResult firstPage = index.search("추천", 0, 10);
+        CurationSearchResult lastPage = index.search("추천", 20, 10);
+
+        assertThat(firstPage.getCurationIds()).hasSize(10);
+        assertThat(lastPage.getCurationIds()).hasSize(5);
+        assertThat(firstPage.getTotalHits()).isEqualTo(25);
+        assertThat(firstPage.getCurationIds()).doesNotContainAnyElementsOf(lastPage.getCurationIds());
+        assertThat(index.search("추천", CurationSearchIndex.MAX_RESULT_WINDOW, 10).getCurationIds()).isEmpty();
+    }
+
+    private void index(long curationId, String title, String content, Book book) throws IOException {
+        CurationDocument document = new CurationDocument(curationId, title, content);
+        document.addBook(CurationSearchBook.of(curationId, book));
+        index.index(document);
+    }
+
+    private void refresh() throws IOException {
+        index.refresh();
+    }
+
+    private List<Long> ids(String query) throws IOException {
+        return index.search(query, 0, 10).getCurationIds();
+    }
+
+    private Book book(String title, String authors, String publisher) {
+        return new Book(title, authors, publisher, "thumbnail", "url", "isbn");
+    }
+}
@@ -0,0 +1,144 @@
+package com.seb_main_004.whosbook.curation.search;
+
+import com.seb_main_004.whosbook.book.entity.Book;
+import com.seb_main_004.whosbook.book.entity.BookCuration;
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.member.entity.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//DB 기준 재색인 : 공개/게시중 큐레이션만 책 정보와 함께 색인되는지 확인
+//작성/삭제 시의 색인 갱신은 커밋된 경우에만 반영되는지 확인
+@DataJpaTest(properties = "search.index.rebuild-batch-size=2")
+@ActiveProfiles("test")
+@Import({CurationSearchService.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CurationSearchServiceTest {
+
+    @Autowired
+    private CurationSearchService curationSearchService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    private Member curator;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            category = new Category("소설");
+            em.persist(category);
+
+            curator = new Member("curator@email.com", "curator", null);
+            curator.setPassword("password");
+            curator.setRoles(List.of("USER"));
+            em.persist(curator);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            em.createQuery("delete from BookCuration").executeUpdate();
+            em.createQuery("delete from Book").executeUpdate();
+            em.createQuery("delete from Curation").executeUpdate();
+            em.createQuery("delete from Category").executeUpdate();
+            em.createNativeQuery("delete from member_roles").executeUpdate();
+            em.createQuery("delete from Member").executeUpdate();
+        });
+        curationSearchService.rebuild();
+    }
+
+    @Test
+    void rebuildIndexesOnlyPublicActiveCurationsWithBooks() {
+        Curation first = persist("데미안 후기", Curation.Visibility.PUBLIC, false, "데미안", "헤르만 헤세");
+        Curation second = persist("성장 소설 추천", Curation.Visibility.PUBLIC, false, "수레바퀴 아래서", "헤르만 헤세");
+        persist("헤세 비공개 메모", Curation.Visibility.SECRET, false, "싯다르타", "헤르만 헤세");
+        persist("헤세 삭제된 글", Curation.Visibility.PUBLIC, true, "유리알 유희", "헤르만 헤세");
+        Curation third = persist("여름 소설", Curation.Visibility.PUBLIC, false, "여름의 빌라", "백수린");
+
+        // batch 크기(2)보다 많은 큐레이션을 여러 번에 나눠 색인
+        curationSearchService.rebuild();
+
+        assertThat(ids("헤세")).containsExactlyInAnyOrder(first.getCurationId(), second.getCurationId());
+        assertThat(ids("소설")).containsExactlyInAnyOrder(second.getCurationId(), third.getCurationId());
+        assertThat(curationSearchService.search("헤세", 0, 10).getTotalHits()).isEqualTo(2);
+    }
+
+    @Test
+    void incrementalUpdatesAreAppliedOnlyAfterCommit() {
+        Curation curation = persist("데미안 후기", Curation.Visibility.PUBLIC, false, "데미안", "헤르만 헤세");
+        Book book = new Book("데미안", "헤르만 헤세", "민음사", "thumbnail", "url", "isbn-demian");
+
+        // 롤백된 작성은 색인되지 않음
+        tx.executeWithoutResult(status -> {
+            curationSearchService.onCurationSaved(curation, List.of(book));
+            status.setRollbackOnly();
+        });
+        curationSearchService.refresh();
+        assertThat(ids("데미안")).isEmpty();
+
+        tx.executeWithoutResult(status -> curationSearchService.onCurationSaved(curation, List.of(book)));
+        curationSearchService.refresh();
+        assertThat(ids("데미안")).containsExactly(curation.getCurationId());
+
+        // 비공개로 바꾸면 색인에서 제외
+        curation.setVisibility(Curation.Visibility.SECRET);
+        tx.executeWithoutResult(status -> curationSearchService.onCurationSaved(curation, List.of(book)));
+        curationSearchService.refresh();
+        assertThat(ids("데미안")).isEmpty();
+
+        curation.setVisibility(Curation.Visibility.PUBLIC);
+        curationSearchService.onCurationSaved(curation, List.of(book));
+        tx.executeWithoutResult(status -> curationSearchService.onCurationDeleted(curation.getCurationId()));
+        curationSearchService.refresh();
+        assertThat(ids("데미안")).isEmpty();
+    }
+
+    private List<Long> ids(String query) {
+        return curationSearchService.search(query, 0, 10).getCurationIds();
+    }
+
+    private Curation persist(String title, Curation.Visibility visibility, boolean deleted, String bookTitle, String authors) {
+        Curation curation = new Curation();
+        tx.executeWithoutResult(status -> {
+            curation.setEmoji("📚");
+            curation.setTitle(title);
+            curation.setContent("<p>content</p>");
+            curation.setVisibility(visibility);
+            if (deleted) curation.setCurationStatus(Curation.CurationStatus.CURATION_DELETE);
+            curation.setMember(curator);
+            curation.setCategory(category);
+            em.persist(curation);
+
+            Book book = new Book(bookTitle, authors, "출판사", "thumbnail", "url", "isbn-" + bookTitle);
+            em.persist(book);
+            em.persist(new BookCuration(book, curation));
+        });
+        return curation;
+    }
+}
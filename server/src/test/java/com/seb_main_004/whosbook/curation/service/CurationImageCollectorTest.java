@@ -0,0 +1,157 @@
+package com.seb_main_004.whosbook.curation.service;
+
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.entity.CurationImage;
+import com.seb_main_004.whosbook.curation.entity.CurationSaveImage;
+import com.seb_main_004.whosbook.curation.repository.CurationImageRepository;
+import com.seb_main_004.whosbook.curation.repository.CurationSaveImageRepository;
+import com.seb_main_004.whosbook.image.service.StorageService;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
+import com.seb_main_004.whosbook.member.entity.Member;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+//게시 중인 큐레이션에 연결되지 않은 오래된 이미지만 DB 와 스토리지에서 삭제되는지 확인
+//chunk 크기를 작게 설정해 여러 chunk 로 나눠 정리되도록 함
+@DataJpaTest(properties = {"image.gc.chunk-size=2", "image.gc.throttle-ms=0", "image.gc.grace-period-hours=24"})
+@ActiveProfiles("test")
+@Import({CurationImageCollector.class, SimpleMeterRegistry.class})
+class CurationImageCollectorTest {
+
+    @Autowired
+    private CurationImageCollector collector;
+
+    @Autowired
+    private CurationImageRepository curationImageRepository;
+
+    @Autowired
+    private CurationSaveImageRepository curationSaveImageRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager em;
+
+    @MockBean
+    private StorageService storageService;
+
+    private Member member;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member("curator@email.com", "curator", null);
+        member.setPassword("password");
+        member.setRoles(List.of("USER"));
+        em.persist(member);
+        category = new Category("소설");
+        em.persist(category);
+        given(storageService.deleteAll(anyList())).willReturn(List.of());
+    }
+
+    @Test
+    void collectsUnusedImagesAfterGracePeriod() {
+        Curation active = persistCuration(Curation.CurationStatus.CURATION_ACTIVE);
+        Curation deleted = persistCuration(Curation.CurationStatus.CURATION_DELETE);
+
+        CurationImage abandoned = persistImage(48, CurationImage.Status.READY);
+        CurationImage failed = persistImage(30, CurationImage.Status.FAILED);
+        CurationImage recent = persistImage(1, CurationImage.Status.READY);
+        CurationImage used = persistImage(72, CurationImage.Status.READY);
+        CurationImage ofDeleted = persistImage(72, CurationImage.Status.READY);
+        CurationImage sharedWithActive = persistImage(72, CurationImage.Status.READY);
+        link(active, used);
+        link(deleted, ofDeleted);
+        link(deleted, sharedWithActive);
+        link(active, sharedWithActive);
+        em.flush();
+        em.clear();
+        double deletedBefore = meterRegistry.counter("curation.image.gc.deleted").count();
+
+        int collected = collector.collect();
+
+        assertThat(collected).isEqualTo(3);
+        assertThat(curationImageRepository.findAll()).extracting(CurationImage::getCurationImageId)
+                .containsExactlyInAnyOrder(recent.getCurationImageId(), used.getCurationImageId(),
+                        sharedWithActive.getCurationImageId());
+        assertThat(curationSaveImageRepository.findAll()).hasSize(3);
+
+        // 원본과 크기별 이미지를 chunk 단위로 한 번에 삭제 (chunk 크기 2 : 2건 + 1건)
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(storageService, times(2)).deleteAll(keys.capture());
+        List<String> deletedKeys = new ArrayList<>();
+        keys.getAllValues().forEach(deletedKeys::addAll);
+        List<String> expectedKeys = new ArrayList<>();
+        for (CurationImage image : List.of(abandoned, failed, ofDeleted)) {
+            expectedKeys.add(image.getImageKey());
+            expectedKeys.addAll(ImageVariants.keys(image.getImageKey()));
+        }
+        assertThat(deletedKeys).containsExactlyInAnyOrderElementsOf(expectedKeys);
+
+        assertThat(meterRegistry.counter("curation.image.gc.deleted").count() - deletedBefore).isEqualTo(3);
+        assertThat(meterRegistry.get("curation.image.gc.position").gauge().value())
+                .isEqualTo(ofDeleted.getCurationImageId());
+    }
+
+    @Test
+    void storageFailuresAreCounted() {
+        CurationImage abandoned = persistImage(48, CurationImage.Status.PENDING);
+        em.flush();
+        em.clear();
+        given(storageService.deleteAll(anyList())).willReturn(List.of(abandoned.getImageKey()));
+        double failedBefore = meterRegistry.counter("curation.image.gc.storage.failed").count();
+
+        assertThat(collector.collect()).isEqualTo(1);
+
+        assertThat(curationImageRepository.findById(abandoned.getCurationImageId())).isEmpty();
+        // 행은 지워지고 스토리지에서 지우지 못한 객체 수만 남음
+        assertThat(meterRegistry.counter("curation.image.gc.storage.failed").count() - failedBefore).isEqualTo(1);
+    }
+
+    private CurationImage persistImage(int hoursAgo, CurationImage.Status status) {
+        String imageKey = "curationImages/" + member.getMemberId() + "_" + System.nanoTime() + ".png";
+        CurationImage image = new CurationImage(imageKey, "https://bucket/" + imageKey, status);
+        image.setCreatedAt(LocalDateTime.now().minusHours(hoursAgo));
+        em.persist(image);
+        return image;
+    }
+
+    private void link(Curation curation, CurationImage image) {
+        em.persist(new CurationSaveImage(curation, image));
+    }
+
+    private Curation persistCuration(Curation.CurationStatus status) {
+        Curation curation = new Curation();
+        curation.setEmoji("📚");
+        curation.setTitle("title");
+        curation.setContent("content");
+        curation.setMember(member);
+        curation.setCategory(category);
+        curation.setCurationStatus(status);
+        em.persist(curation);
+        return curation;
+    }
+}
@@ -0,0 +1,289 @@
+package com.seb_main_004.whosbook.curation.service;
+
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.dto.CurationImageDto;
+import com.seb_main_004.whosbook.curation.dto.CurationImageResponseDto;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.entity.CurationImage;
+import com.seb_main_004.whosbook.curation.entity.CurationSaveImage;
+import com.seb_main_004.whosbook.curation.repository.CurationImageRepository;
+import com.seb_main_004.whosbook.curation.repository.CurationSaveImageRepository;
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
+import com.seb_main_004.whosbook.image.service.ImageResizer;
+import com.seb_main_004.whosbook.image.service.ImageUploadService;
+import com.seb_main_004.whosbook.image.service.StorageService;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.service.MemberService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+//큐레이션 저장 시 이미지 확인 : 이미지 수와 관계없이 정해진 쿼리 수로 처리하는지,
+//본문에서 빠진 이미지의 스토리지 삭제가 커밋 이후에만 실행되는지,
+//크기별 이미지 URL 은 크기별 이미지까지 올라간 이미지에만 응답하는지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CurationImageService.class, ImageUploadService.class, ImageResizer.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CurationImageServiceTest {
+
+    @Autowired
+    private CurationImageService curationImageService;
+
+    @Autowired
+    private CurationImageRepository curationImageRepository;
+
+    @Autowired
+    private CurationSaveImageRepository curationSaveImageRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private StorageService storageService;
+
+    @MockBean
+    private MemberService memberService;
+
+    private TransactionTemplate tx;
+
+    private Member member;
+
+    private Curation curation;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            member = new Member("curator@email.com", "curator", null);
+            member.setPassword("password");
+            member.setRoles(List.of("USER"));
+            em.persist(member);
+            Category category = new Category("소설");
+            em.persist(category);
+            curation = new Curation();
+            curation.setEmoji("📚");
+            curation.setTitle("title");
+            curation.setContent("content");
+            curation.setMember(member);
+            curation.setCategory(category);
+            em.persist(curation);
+        });
+        given(storageService.deleteAll(anyList())).willReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            em.createQuery("delete from CurationSaveImage").executeUpdate();
+            em.createQuery("delete from CurationImage").executeUpdate();
+            em.createQuery("delete from Curation").executeUpdate();
+            em.createQuery("delete from Category").executeUpdate();
+            em.createNativeQuery("delete from member_roles").executeUpdate();
+            em.createQuery("delete from Member").executeUpdate();
+        });
+    }
+
+    @Test
+    void keepsImagesInContentAndRemovesTheRestInBatch() {
+        List<CurationImage> images = persistImages(6, member.getMemberId());
+        List<CurationImage> kept = images.subList(0, 3);
+        List<CurationImage> removed = images.subList(3, 6);
+        // 원본 URL, 크기별 이미지 URL 모두 본문에 포함된 것으로 봄
+        String content = "<p><img src=\"" + kept.get(0).getPath() + "\"></p>"
+                + "<p><img src=\"" + ImageVariants.key(kept.get(1).getPath(), 640) + "\"></p>"
+                + "<p><img src=\"" + kept.get(2).getPath() + "\"></p>";
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        List<CurationImage> result = tx.execute(status -> {
+            List<CurationImage> verified = curationImageService.verifyCurationSaveImages(
+                    dto(ids(images), content), member.getMemberId());
+            // 커밋 전에는 스토리지에서 지우지 않음
+            verify(storageService, never()).deleteAll(anyList());
+            return verified;
+        });
+
+        // 이미지 조회 1번, 연결고리 삭제 1번, 이미지 삭제 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(result).extracting(CurationImage::getCurationImageId).containsExactlyElementsOf(ids(kept));
+        assertThat(curationImageRepository.findAll()).extracting(CurationImage::getCurationImageId)
+                .containsExactlyInAnyOrderElementsOf(ids(kept));
+        assertThat(curationSaveImageRepository.findAll()).extracting(link -> link.getCurationImage().getCurationImageId())
+                .containsExactlyInAnyOrderElementsOf(ids(kept));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        verify(storageService).deleteAll(keys.capture());
+        assertThat(keys.getValue()).containsExactlyInAnyOrderElementsOf(ImageVariants.withVariants(
+                removed.stream().map(CurationImage::getImageKey).collect(Collectors.toList())));
+    }
+
+    @Test
+    void storageIsUntouchedWhenTransactionRollsBack() {
+        List<CurationImage> images = persistImages(2, member.getMemberId());
+
+        tx.executeWithoutResult(status -> {
+            curationImageService.verifyCurationSaveImages(dto(ids(images), "<p>이미지 없음</p>"), member.getMemberId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(curationImageRepository.findAll()).hasSize(2);
+        assertThat(curationSaveImageRepository.findAll()).hasSize(2);
+        verify(storageService, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void missingOrForeignImagesAreRejected() {
+        List<CurationImage> images = persistImages(1, member.getMemberId());
+        List<CurationImage> foreign = persistImages(1, member.getMemberId() + 1);
+        String content = images.get(0).getPath() + foreign.get(0).getPath();
+
+        assertThatThrownBy(() -> curationImageService.verifyCurationSaveImages(
+                dto(List.of(images.get(0).getCurationImageId(), -1L), content), member.getMemberId()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.IMAGE_NOT_FOUND);
+        assertThatThrownBy(() -> curationImageService.verifyCurationSaveImages(
+                dto(List.of(images.get(0).getCurationImageId(), foreign.get(0).getCurationImageId()), content),
+                member.getMemberId()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.IMAGE_CAN_NOT_SAVE);
+        verify(storageService, never()).deleteAll(anyList());
+    }
+
+    @Test
+    void variantUrlsAreExposedOnlyAfterVariantsAreStored() throws Exception {
+        String imageKey = "curationImages/" + member.getMemberId() + "_100.png";
+        given(memberService.findVerifiedMemberByEmail(member.getEmail())).willReturn(member);
+        given(storageService.makeObjectKey(any(), eq("curationImages"), eq(member.getMemberId()))).willReturn(imageKey);
+        given(storageService.getUrl(imageKey)).willReturn("https://bucket/" + imageKey);
+
+        CurationImage pending = curationImageService.uploadCurationImage(png(), member.getEmail());
+        // 업로드 중에는 아직 없는 크기별 이미지 URL 을 응답하지 않음
+        assertThat(response(pending).getImageVariants()).isEmpty();
+
+        CurationImage uploaded = awaitUploaded(pending.getCurationImageId());
+        assertThat(uploaded.getStatus()).isEqualTo(CurationImage.Status.READY);
+        assertThat(uploaded.isVariantsStored()).isTrue();
+        assertThat(response(uploaded).getImageVariants())
+                .containsEntry("w640", ImageVariants.key("https://bucket/" + imageKey, 640));
+    }
+
+    @Test
+    void imageWithoutVariantsIsReadyWithOriginalUrlOnly() throws Exception {
+        String imageKey = "curationImages/" + member.getMemberId() + "_200.png";
+        given(memberService.findVerifiedMemberByEmail(member.getEmail())).willReturn(member);
+        given(storageService.makeObjectKey(any(), eq("curationImages"), eq(member.getMemberId()))).willReturn(imageKey);
+        given(storageService.getUrl(imageKey)).willReturn("https://bucket/" + imageKey);
+        // 원본은 올라가고 크기별 이미지만 계속 실패
+        given(storageService.store(any(Path.class), eq(ImageVariants.CONTENT_TYPE), contains("_w")))
+                .willThrow(new IllegalStateException("S3 unavailable"));
+
+        CurationImage pending = curationImageService.uploadCurationImage(png(), member.getEmail());
+
+        CurationImage uploaded = awaitUploaded(pending.getCurationImageId());
+        assertThat(uploaded.getStatus()).isEqualTo(CurationImage.Status.READY);
+        assertThat(uploaded.isVariantsStored()).isFalse();
+        assertThat(response(uploaded).getImageUrl()).isEqualTo("https://bucket/" + imageKey);
+        assertThat(response(uploaded).getImageVariants()).isEmpty();
+    }
+
+    //업로드 작업 스레드가 상태를 바꿀 때까지 대기
+    private CurationImage awaitUploaded(long curationImageId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        CurationImage image = curationImageRepository.findById(curationImageId).orElseThrow();
+        while (image.getStatus() == CurationImage.Status.PENDING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            image = curationImageRepository.findById(curationImageId).orElseThrow();
+        }
+        return image;
+    }
+
+    private CurationImageResponseDto response(CurationImage image) {
+        return new CurationImageResponseDto(image.getCurationImageId(), image.getPath(), image.getStatus(),
+                image.isVariantsStored());
+    }
+
+    private MultipartFile png() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new MockMultipartFile("curationImage", "cover.png", "image/png", out.toByteArray());
+    }
+
+    //큐레이션에 연결된 이미지 count 개를 저장
+    private List<CurationImage> persistImages(int count, long ownerId) {
+        List<CurationImage> images = new ArrayList<>();
+        tx.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                String imageKey = "curationImages/" + ownerId + "_" + System.nanoTime() + ".png";
+                CurationImage image = new CurationImage(imageKey, "https://bucket/" + imageKey, CurationImage.Status.READY);
+                em.persist(image);
+                em.persist(new CurationSaveImage(em.getReference(Curation.class, curation.getCurationId()), image));
+                images.add(image);
+            }
+        });
+        return images;
+    }
+
+    private List<Long> ids(List<CurationImage> images) {
+        return images.stream().map(CurationImage::getCurationImageId).collect(Collectors.toList());
+    }
+
+    private CurationImageDto dto(List<Long> imageIds, String content) {
+        return new CurationImageDto() {
+            @Override
+            public List<Long> getImageIds() {
+                return imageIds;
+            }
+
+            @Override
+            public String getContent() {
+                return content;
+            }
+        };
+    }
+}
@@ -0,0 +1,275 @@
+package com.seb_main_004.whosbook.curation.service;
+
+import com.seb_main_004.whosbook.book.BookService;
+import com.seb_main_004.whosbook.book.entity.Book;
+import com.seb_main_004.whosbook.book.entity.BookCuration;
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.category.CategoryService;
+import com.seb_main_004.whosbook.curation.dto.CurationListResponseDto;
+import com.seb_main_004.whosbook.curation.dto.CurationSingleDetailResponseDto;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.entity.CurationImage;
+import com.seb_main_004.whosbook.curation.entity.CurationSaveImage;
+import com.seb_main_004.whosbook.curation.feed.FeedService;
+import com.seb_main_004.whosbook.curation.mapper.CurationMapper;
+import com.seb_main_004.whosbook.curation.ranking.CurationRankingService;
+import com.seb_main_004.whosbook.curation.search.CurationSearchService;
+import com.seb_main_004.whosbook.like.entity.CurationLike;
+import com.seb_main_004.whosbook.like.service.LikeCountBuffer;
+import com.seb_main_004.whosbook.member.cache.MemberPrincipal;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.service.MemberService;
+import com.seb_main_004.whosbook.member.service.MemberStatsService;
+import com.seb_main_004.whosbook.reply.entity.Reply;
+import com.seb_main_004.whosbook.subscribe.entity.Subscribe;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+//큐레이션 상세 조회 : 큐레이션 그래프 2번 + 좋아요·구독 여부 1번으로 응답에 필요한 값을 모두 조회하는지 확인
+//응답 변환은 트랜잭션 밖에서 실행해 지연 로딩이 남아 있지 않은지도 함께 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(CurationService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CurationServiceDetailTest {
+
+    @Autowired
+    private CurationService curationService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private MemberService memberService;
+
+    @MockBean
+    private CurationImageService curationImageService;
+
+    @MockBean
+    private CategoryService categoryService;
+
+    @MockBean
+    private BookService bookService;
+
+    @MockBean
+    private CurationRankingService curationRankingService;
+
+    @MockBean
+    private LikeCountBuffer likeCountBuffer;
+
+    @MockBean
+    private MemberStatsService memberStatsService;
+
+    @MockBean
+    private CurationSearchService curationSearchService;
+
+    @MockBean
+    private FeedService feedService;
+
+    private final CurationMapper mapper = Mappers.getMapper(CurationMapper.class);
+
+    private TransactionTemplate tx;
+
+    private Statistics statistics;
+
+    private Member curator;
+
+    private Member viewer;
+
+    private Curation curation;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            Category category = new Category("소설");
+            em.persist(category);
+
+            curator = member("curator");
+            viewer = member("viewer");
+            Member other = member("other");
+
+            curation = new Curation();
+            curation.setEmoji("📚");
+            curation.setTitle("title");
+            curation.setContent("content");
+            curation.setMember(curator);
+            curation.setCategory(category);
+            em.persist(curation);
+
+            for (int i = 0; i < 2; i++) {
+                Book book = new Book("title" + i, "author", "publisher", "thumbnail", "url", "978000000000" + i);
+                em.persist(book);
+                em.persist(new BookCuration(book, curation));
+
+                CurationImage image = new CurationImage("key" + i, "path" + i);
+                em.persist(image);
+                em.persist(new CurationSaveImage(curation, image));
+            }
+
+            // viewer 는 좋아요 + 구독, other 는 다른 회원을 구독
+            em.persist(new CurationLike(curation, viewer));
+            em.persist(subscribe(viewer, curator));
+            em.persist(subscribe(other, viewer));
+        });
+
+        given(memberService.findVerifiedMemberPrincipalByEmail(anyString())).willAnswer(invocation ->
+                MemberPrincipal.of(invocation.<String>getArgument(0).equals(viewer.getEmail()) ? viewer : curator));
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            em.createQuery("delete from Reply").executeUpdate();
+            em.createQuery("delete from Subscribe").executeUpdate();
+            em.createQuery("delete from CurationLike").executeUpdate();
+            em.createQuery("delete from CurationSaveImage").executeUpdate();
+            em.createQuery("delete from CurationImage").executeUpdate();
+            em.createQuery("delete from BookCuration").executeUpdate();
+            em.createQuery("delete from Book").executeUpdate();
+            em.createQuery("delete from Curation").executeUpdate();
+            em.createQuery("delete from Category").executeUpdate();
+            em.createNativeQuery("delete from member_roles").executeUpdate();
+            em.createQuery("delete from Member").executeUpdate();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void detailIsLoadedWithFixedNumberOfStatements() {
+        // 처음 조회할 때는 큐레이터 권한(roles) 조회가 더해지고, 이후에는 2차 캐시에서 가져옴
+        statementsOf(() -> detail(viewer.getEmail()));
+
+        CurationSingleDetailResponseDto[] response = new CurationSingleDetailResponseDto[1];
+        assertThat(statementsOf(() -> response[0] = detail(viewer.getEmail()))).isEqualTo(3);
+
+        assertThat(response[0].getCurator().getMemberId()).isEqualTo(curator.getMemberId());
+        assertThat(response[0].getCategory()).isEqualTo("소설");
+        assertThat(response[0].getBooks()).extracting(Book::getTitle).containsExactlyInAnyOrder("title0", "title1");
+        assertThat(response[0].getImageIds()).hasSize(2);
+        assertThat(response[0].getIsLiked()).isTrue();
+        assertThat(response[0].getIsSubscribed()).isTrue();
+    }
+
+    @Test
+    void anonymousViewerSkipsViewerStateQuery() {
+        statementsOf(() -> detail("anonymousUser"));
+
+        CurationSingleDetailResponseDto[] response = new CurationSingleDetailResponseDto[1];
+        assertThat(statementsOf(() -> response[0] = detail("anonymousUser"))).isEqualTo(2);
+        assertThat(response[0].getIsLiked()).isFalse();
+        assertThat(response[0].getIsSubscribed()).isFalse();
+    }
+
+    @Test
+    void viewerStateIsFalseWhenNotLikedOrSubscribed() {
+        CurationSingleDetailResponseDto response = detail(curator.getEmail());
+
+        assertThat(response.getIsLiked()).isFalse();
+        assertThat(response.getIsSubscribed()).isFalse();
+    }
+
+    @Test
+    void cardsCarryReplyCountAndLatestReplyForWholePage() {
+        Curation[] withoutReplies = new Curation[1];
+        tx.executeWithoutResult(status -> {
+            withoutReplies[0] = new Curation();
+            withoutReplies[0].setEmoji("📖");
+            withoutReplies[0].setTitle("no replies");
+            withoutReplies[0].setContent("content");
+            withoutReplies[0].setMember(curator);
+            withoutReplies[0].setCategory(curation.getCategory());
+            em.persist(withoutReplies[0]);
+
+            LocalDateTime createdAt = LocalDateTime.of(2023, 7, 1, 12, 0);
+            em.persist(reply(viewer, "first reply", createdAt));
+            em.persist(reply(curator, "x".repeat(200), createdAt.plusMinutes(1)));
+            em.createNativeQuery("update curation set reply_count = 2 where curation_id = ?")
+                    .setParameter(1, curation.getCurationId())
+                    .executeUpdate();
+        });
+
+        // 카드 목록 1번 + 댓글이 있는 카드들의 최신 댓글 1번
+        List<CurationListResponseDto>[] cards = new List[1];
+        assertThat(statementsOf(() -> cards[0] = mapper.curationListQueryDtosToCurationListResponseDtos(
+                curationService.getNewCurationsByCursor(null, 10, null, true).getContent()))).isEqualTo(2);
+
+        assertThat(cards[0]).extracting(CurationListResponseDto::getCurationId)
+                .containsExactly(withoutReplies[0].getCurationId(), curation.getCurationId());
+        assertThat(cards[0].get(0).getReplyCount()).isZero();
+        assertThat(cards[0].get(0).getLatestReply()).isNull();
+        assertThat(cards[0].get(1).getReplyCount()).isEqualTo(2);
+        assertThat(cards[0].get(1).getLatestReply().getNickname()).isEqualTo("curator");
+        assertThat(cards[0].get(1).getLatestReply().getContent()).hasSize(100);
+        assertThat(cards[0].get(1).getLatestReply().getCreatedAt()).isEqualTo(LocalDateTime.of(2023, 7, 1, 21, 1));
+    }
+
+    // 컨트롤러와 같이 서비스 트랜잭션이 끝난 뒤 응답으로 변환
+    private CurationSingleDetailResponseDto detail(String email) {
+        return mapper.curationToCurationSingleDetailResponseDto(curationService.getCuration(curation.getCurationId(), email));
+    }
+
+    private long statementsOf(Supplier<?> query) {
+        long before = statistics.getPrepareStatementCount();
+        query.get();
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    private Reply reply(Member member, String content, LocalDateTime createdAt) {
+        Reply reply = new Reply();
+        reply.setContent(content);
+        reply.setMember(member);
+        reply.setCuration(curation);
+        reply.setCreatedAt(createdAt);
+        reply.setUpdatedAt(createdAt);
+        return reply;
+    }
+
+    private Subscribe subscribe(Member subscriber, Member subscribedMember) {
+        Subscribe subscribe = new Subscribe();
+        subscribe.setSubscriber(subscriber);
+        subscribe.setSubscribedMember(subscribedMember);
+        return subscribe;
+    }
+
+    private Member member(String nickname) {
+        Member member = new Member(nickname + "@email.com", nickname, null);
+        member.setPassword("password");
+        member.setRoles(List.of("USER"));
+        em.persist(member);
+        return member;
+    }
+}
@@ -0,0 +1,102 @@
+package com.seb_main_004.whosbook.image.service;
+
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class ImageResizerTest {
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ImageResizer imageResizer = new ImageResizer(meterRegistry, 1, 10, 0.8f);
+
+    @AfterEach
+    void tearDown() {
+        imageResizer.shutdown();
+    }
+
+    @Test
+    void createsJpegVariantsForEachWidth() throws IOException, InterruptedException {
+        // 큰 원본은 건너뛰며 디코딩해도 비율이 유지되어야 함
+        Path source = png(4000, 3000, BufferedImage.TYPE_INT_ARGB);
+
+        List<ImageResizer.ImageVariant> variants = imageResizer.resize(source);
+
+        assertThat(variants).extracting(ImageResizer.ImageVariant::getWidth).containsExactly(1280, 640, 320);
+        for (ImageResizer.ImageVariant variant : variants) {
+            BufferedImage image = ImageIO.read(variant.getFile().toFile());
+            assertThat(image.getWidth()).isEqualTo(variant.getWidth());
+            assertThat(image.getHeight()).isEqualTo(variant.getWidth() * 3 / 4);
+            assertThat(Files.readAllBytes(variant.getFile())).startsWith((byte) 0xFF, (byte) 0xD8);
+        }
+        assertThat(meterRegistry.timer("image.resize").count()).isEqualTo(1);
+    }
+
+    @Test
+    void smallImageIsNotUpscaled() throws IOException, InterruptedException {
+        Path source = png(200, 100, BufferedImage.TYPE_INT_RGB);
+
+        List<ImageResizer.ImageVariant> variants = imageResizer.resize(source);
+
+        assertThat(variants.stream().map(variant -> read(variant.getFile()).getWidth()).collect(Collectors.toList()))
+                .containsExactly(200, 200, 200);
+    }
+
+    @Test
+    void undecodableImageIsRejected() throws IOException {
+        Path source = Files.write(dir.resolve("broken.png"), "not-an-image".getBytes());
+
+        assertThatThrownBy(() -> imageResizer.resize(source)).isInstanceOf(IllegalArgumentException.class);
+        // 실패해도 임시 파일을 남기지 않음
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files).containsExactly(source);
+        }
+    }
+
+    @Test
+    void variantUrlsAreDerivedFromStoredImageUrl() {
+        String url = "https://whosbook.s3.ap-northeast-2.amazonaws.com/memberImages/3_1690000000000.png";
+
+        assertThat(ImageVariants.urls(url, true)).containsExactly(
+                entry("w320", "https://whosbook.s3.ap-northeast-2.amazonaws.com/memberImages/3_1690000000000_w320.jpg"),
+                entry("w640", "https://whosbook.s3.ap-northeast-2.amazonaws.com/memberImages/3_1690000000000_w640.jpg"),
+                entry("w1280", "https://whosbook.s3.ap-northeast-2.amazonaws.com/memberImages/3_1690000000000_w1280.jpg"));
+        // 업로드 중이거나 크기별 이미지를 만들지 못한 이미지, 이전에 올린 이미지는 원본 URL 만 사용
+        assertThat(ImageVariants.urls(url, false)).isEmpty();
+        // 소셜 로그인 프로필 같은 외부 이미지에는 크기별 이미지가 없음
+        assertThat(ImageVariants.urls("https://k.kakaocdn.net/dn/profile/img_640x640.jpg", true)).isEmpty();
+        assertThat(ImageVariants.urls(null, true)).isEmpty();
+    }
+
+    private Path png(int width, int height, int type) throws IOException {
+        Path file = dir.resolve("source-" + width + ".png");
+        ImageIO.write(new BufferedImage(width, height, type), "png", file.toFile());
+        return file;
+    }
+
+    private BufferedImage read(Path file) {
+        try {
+            return ImageIO.read(file.toFile());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.seb_main_004.whosbook.image.service;
+
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+//비동기 이미지 업로드 : 요청 스레드는 임시 저장 후 바로 반환하고, 작업 스레드가 재시도하며 업로드하는지 확인
+//스토리지는 메모리에 저장하는 S3 대역으로 대신함 (실제 S3 API 는 S3StorageServiceMinioTest)
+class ImageUploadServiceTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private static final byte[] PNG = png(1600, 900);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ImageResizer imageResizer = new ImageResizer(meterRegistry, 1, 10, 0.8f);
+
+    private ImageUploadService imageUploadService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        imageUploadService.shutdown();
+        imageResizer.shutdown();
+    }
+
+    @Test
+    void uploadRetriesUntilStoredAndCleansSpool() throws Exception {
+        InMemoryStorage storage = new InMemoryStorage(2);
+        imageUploadService = uploadService(storage, 1, 10, 3);
+        ResultListener listener = new ResultListener();
+
+        String url = imageUploadService.upload(image("cover.png"), "curationImages/1_100.png", listener);
+
+        assertThat(url).isEqualTo("memory://curationImages/1_100.png");
+        assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.uploaded.get()).isEqualTo(1);
+        assertThat(listener.variantsStored.get()).isEqualTo(1);
+        assertThat(storage.objects.get("curationImages/1_100.png")).isEqualTo(PNG);
+        assertThat(storage.contentTypes.get("curationImages/1_100.png")).isEqualTo("image/png");
+        // 크기별 이미지도 원본 키 옆에 JPEG 로 저장
+        for (int width : ImageVariants.WIDTHS) {
+            String key = ImageVariants.key("curationImages/1_100.png", width);
+            assertThat(storage.contentTypes.get(key)).isEqualTo("image/jpeg");
+            assertThat(ImageIO.read(new ByteArrayInputStream(storage.objects.get(key))).getWidth()).isEqualTo(width);
+        }
+        assertThat(meterRegistry.counter("image.upload.retries").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer("image.upload", "result", "success").count()).isEqualTo(1);
+        assertThat(spoolFiles()).isZero();
+    }
+
+    @Test
+    void uploadFailsAfterMaxAttempts() throws Exception {
+        InMemoryStorage storage = new InMemoryStorage(Integer.MAX_VALUE);
+        imageUploadService = uploadService(storage, 1, 10, 3);
+        ResultListener listener = new ResultListener();
+
+        imageUploadService.upload(image("cover.png"), "curationImages/1_100.png", listener);
+
+        assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.failed.get()).isEqualTo(1);
+        assertThat(storage.attempts.get()).isEqualTo(3);
+        assertThat(meterRegistry.timer("image.upload", "result", "failure").count()).isEqualTo(1);
+        assertThat(spoolFiles()).isZero();
+    }
+
+    @Test
+    void forgedImageIsRejectedBeforeSpooling() throws Exception {
+        imageUploadService = uploadService(new InMemoryStorage(0), 1, 10, 3);
+
+        assertThatThrownBy(() -> imageUploadService.upload(new MockMultipartFile("curationImage", "forged.png",
+                "image/png", "<script>alert(1)</script>".getBytes()), "curationImages/1_100.png", new ResultListener()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.IMAGE_NOT_ACCEPTABLE);
+        assertThat(spoolFiles()).isZero();
+    }
+
+    @Test
+    void undecodableImageIsStoredWithoutVariants() throws Exception {
+        InMemoryStorage storage = new InMemoryStorage(0);
+        imageUploadService = uploadService(storage, 1, 10, 3);
+        ResultListener listener = new ResultListener();
+
+        // 헤더는 정상이지만 픽셀 데이터가 잘린 이미지는 크기별 이미지를 만들 때 실패 : 원본만 올리고 성공 처리
+        imageUploadService.upload(new MockMultipartFile("curationImage", "broken.png", "image/png",
+                Arrays.copyOf(PNG, 40)), "curationImages/1_100.png", listener);
+
+        assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.uploaded.get()).isEqualTo(1);
+        assertThat(listener.variantsStored.get()).isZero();
+        assertThat(storage.objects).containsOnlyKeys("curationImages/1_100.png");
+        assertThat(meterRegistry.counter("image.upload.variant.failures").count()).isEqualTo(1);
+        assertThat(spoolFiles()).isZero();
+    }
+
+    @Test
+    void rejectedResizeIsRetriedInsteadOfFailingImage() throws Exception {
+        // 크기별 이미지 생성 풀이 가득 차 처음 2번은 거절됨 : 이미지 문제가 아니므로 재시도 후 업로드
+        AtomicInteger rejections = new AtomicInteger(2);
+        ImageResizer busyResizer = new ImageResizer(meterRegistry, 1, 10, 0.8f) {
+            @Override
+            public List<ImageVariant> resize(Path source) throws InterruptedException {
+                if (rejections.getAndDecrement() > 0) throw new RejectedExecutionException("resize queue full");
+                return super.resize(source);
+            }
+        };
+        InMemoryStorage storage = new InMemoryStorage(0);
+        imageUploadService = new ImageUploadService(storage, busyResizer, meterRegistry, spoolDir.toString(), 1, 10, 3, 1);
+        ResultListener listener = new ResultListener();
+
+        try {
+            imageUploadService.upload(image("cover.png"), "curationImages/1_100.png", listener);
+
+            assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(listener.uploaded.get()).isEqualTo(1);
+            assertThat(storage.objects).hasSize(1 + ImageVariants.WIDTHS.size());
+            assertThat(meterRegistry.counter("image.upload.retries").count()).isEqualTo(2);
+        } finally {
+            busyResizer.shutdown();
+        }
+    }
+
+    @Test
+    void exhaustedResizeRetriesKeepOriginal() throws Exception {
+        // 생성 풀이 계속 가득 차 있으면 크기별 이미지는 포기하지만 이미 올라간 원본으로 업로드는 성공
+        ImageResizer busyResizer = new ImageResizer(meterRegistry, 1, 10, 0.8f) {
+            @Override
+            public List<ImageVariant> resize(Path source) {
+                throw new RejectedExecutionException("resize queue full");
+            }
+        };
+        InMemoryStorage storage = new InMemoryStorage(0);
+        imageUploadService = new ImageUploadService(storage, busyResizer, meterRegistry, spoolDir.toString(), 1, 10, 3, 1);
+        ResultListener listener = new ResultListener();
+
+        try {
+            imageUploadService.upload(image("cover.png"), "curationImages/1_100.png", listener);
+
+            assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(listener.uploaded.get()).isEqualTo(1);
+            assertThat(listener.failed.get()).isZero();
+            assertThat(listener.variantsStored.get()).isZero();
+            assertThat(storage.objects).containsOnlyKeys("curationImages/1_100.png");
+            assertThat(meterRegistry.counter("image.upload.variant.failures").count()).isEqualTo(1);
+            assertThat(spoolFiles()).isZero();
+        } finally {
+            busyResizer.shutdown();
+        }
+    }
+
+    @Test
+    void deleteRemovesVariants() throws Exception {
+        InMemoryStorage storage = new InMemoryStorage(0);
+        imageUploadService = uploadService(storage, 1, 10, 3);
+        ResultListener listener = new ResultListener();
+        imageUploadService.upload(image("cover.png"), "curationImages/1_100.png", listener);
+        assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(storage.objects).hasSize(1 + ImageVariants.WIDTHS.size());
+
+        imageUploadService.delete("curationImages/1_100.png");
+
+        assertThat(storage.objects).isEmpty();
+    }
+
+    @Test
+    void fullQueueRejectsNewUploads() throws Exception {
+        // 작업 스레드 1개가 첫 업로드에서 멈춰 있는 동안 대기열(1건)이 차면 이후 요청은 거절
+        CountDownLatch release = new CountDownLatch(1);
+        InMemoryStorage storage = new InMemoryStorage(0) {
+            @Override
+            public String store(Path file, String contentType, String imageKey) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.store(file, contentType, imageKey);
+            }
+        };
+        imageUploadService = uploadService(storage, 1, 1, 1);
+        ResultListener listener = new ResultListener(2);
+
+        // 첫 업로드는 대기열을 거치지 않고 바로 작업 스레드가 맡음
+        imageUploadService.upload(image("a.png"), "curationImages/1_1.png", listener);
+        imageUploadService.upload(image("b.png"), "curationImages/1_2.png", listener);
+
+        assertThat(imageUploadService.getQueueDepth()).isEqualTo(1);
+        assertThat(meterRegistry.get("image.upload.queue.depth").gauge().value()).isEqualTo(1);
+        assertThatThrownBy(() -> imageUploadService.upload(image("c.png"), "curationImages/1_3.png", listener))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.IMAGE_UPLOAD_BUSY);
+
+        release.countDown();
+        assertThat(listener.done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(storage.objects).containsKeys("curationImages/1_1.png", "curationImages/1_2.png")
+                .doesNotContainKey("curationImages/1_3.png");
+    }
+
+    private ImageUploadService uploadService(StorageService storage, int workers, int queueCapacity, int maxAttempts) {
+        return new ImageUploadService(storage, imageResizer, meterRegistry, spoolDir.toString(),
+                workers, queueCapacity, maxAttempts, 1);
+    }
+
+    private MultipartFile image(String name) {
+        return new MockMultipartFile("curationImage", name, "image/png", PNG);
+    }
+
+    private static byte[] png(int width, int height) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long spoolFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            return files.count();
+        }
+    }
+
+    private static class ResultListener implements ImageUploadListener {
+        private final AtomicInteger uploaded = new AtomicInteger();
+        private final AtomicInteger variantsStored = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final CountDownLatch done;
+
+        ResultListener() {
+            this(1);
+        }
+
+        ResultListener(int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void onUploaded(String imageKey, boolean variantsStored) {
+            uploaded.incrementAndGet();
+            if (variantsStored) this.variantsStored.incrementAndGet();
+            done.countDown();
+        }
+
+        @Override
+        public void onFailed(String imageKey) {
+            failed.incrementAndGet();
+            done.countDown();
+        }
+    }
+
+    //S3 대역 : 처음 failures 번은 실패하고 이후에는 메모리에 저장
+    private static class InMemoryStorage implements StorageService {
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final int failures;
+
+        InMemoryStorage(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public String store(Path file, String contentType, String imageKey) {
+            if (attempts.incrementAndGet() <= failures) throw new IllegalStateException("S3 unavailable");
+            try {
+                objects.put(imageKey, Files.readAllBytes(file));
+                contentTypes.put(imageKey, contentType);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return getUrl(imageKey);
+        }
+
+        @Override
+        public String getUrl(String imageKey) {
+            return "memory://" + imageKey;
+        }
+
+        @Override
+        public String store(MultipartFile file, String imageKey) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String makeObjectKey(MultipartFile multipartFile, String imagePath, long memberId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void delete(String imageKey) {
+            objects.remove(imageKey);
+        }
+
+        @Override
+        public List<String> deleteAll(List<String> imageKeys) {
+            imageKeys.forEach(objects::remove);
+            return List.of();
+        }
+    }
+}
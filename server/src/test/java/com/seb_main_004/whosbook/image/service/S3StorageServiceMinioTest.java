@@ -0,0 +1,101 @@
+package com.seb_main_004.whosbook.image.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.S3Object;
+import com.seb_main_004.whosbook.image.utils.ImageVariants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//S3 호환 스토리지(MinIO)에 작업 스레드가 임시 파일을 업로드하고, 반환한 URL 의 객체가 실제로 저장되는지 확인
+//Docker 가 없는 환경에서는 건너뜀
+@Testcontainers(disabledWithoutDocker = true)
+class S3StorageServiceMinioTest {
+
+    private static final String BUCKET = "whosbook-test";
+
+    @Container
+    private static final GenericContainer<?> MINIO = new GenericContainer<>("minio/minio:RELEASE.2023-06-29T05-12-28Z")
+            .withEnv("MINIO_ROOT_USER", "minioadmin")
+            .withEnv("MINIO_ROOT_PASSWORD", "minioadmin")
+            .withCommand("server", "/data")
+            .withExposedPorts(9000);
+
+    @TempDir
+    Path spoolDir;
+
+    private AmazonS3Client s3Client;
+
+    private ImageResizer imageResizer;
+
+    private ImageUploadService imageUploadService;
+
+    @BeforeEach
+    void setUp() {
+        String endpoint = "http://" + MINIO.getHost() + ":" + MINIO.getMappedPort(9000);
+        s3Client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, "ap-northeast-2"))
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("minioadmin", "minioadmin")))
+                .withPathStyleAccessEnabled(true)
+                .build();
+        if (!s3Client.doesBucketExistV2(BUCKET)) s3Client.createBucket(BUCKET);
+
+        S3StorageService storageService = new S3StorageService(s3Client);
+        ReflectionTestUtils.setField(storageService, "bucketName", BUCKET);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        imageResizer = new ImageResizer(meterRegistry, 1, 10, 0.8f);
+        imageUploadService = new ImageUploadService(storageService, imageResizer, meterRegistry,
+                spoolDir.toString(), 2, 10, 3, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        imageUploadService.shutdown();
+        imageResizer.shutdown();
+    }
+
+    @Test
+    void uploadedImageIsStoredUnderReturnedUrl() throws Exception {
+        CountDownLatch uploaded = new CountDownLatch(1);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB), "png", png);
+        MockMultipartFile image = new MockMultipartFile("curationImage", "cover.png", "image/png", png.toByteArray());
+
+        String url = imageUploadService.upload(image, "curationImages/1_100.png", new ImageUploadListener() {
+            @Override
+            public void onUploaded(String imageKey, boolean variantsStored) {
+                uploaded.countDown();
+            }
+        });
+
+        assertThat(uploaded.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(url).endsWith("/" + BUCKET + "/curationImages/1_100.png");
+        try (S3Object object = s3Client.getObject(BUCKET, "curationImages/1_100.png")) {
+            assertThat(object.getObjectMetadata().getContentType()).isEqualTo("image/png");
+            assertThat(object.getObjectContent().readAllBytes()).isEqualTo(png.toByteArray());
+        }
+        try (S3Object variant = s3Client.getObject(BUCKET, ImageVariants.key("curationImages/1_100.png", 320))) {
+            assertThat(variant.getObjectMetadata().getContentType()).isEqualTo("image/jpeg");
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.seb_main_004.whosbook.image.utils;
+
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+//파일 앞부분만 읽어 실제 형식과 해상도를 확인하는지, 위변조/압축 폭탄 파일을 거르는지 확인
+class ImageStorageUtilsTest {
+
+    @Test
+    void readsFormatAndSizeFromHeader() throws IOException {
+        assertHeader(image("cover.png", encode(640, 480, "png")), ImageHeader.Format.PNG, 640, 480);
+        assertHeader(image("cover.JPG", encode(300, 200, "jpg")), ImageHeader.Format.JPEG, 300, 200);
+        assertHeader(image("cover.gif", encode(120, 90, "gif")), ImageHeader.Format.GIF, 120, 90);
+    }
+
+    @Test
+    void jpegMetadataSegmentsAreSkippedWithoutReading() throws IOException {
+        // SOI 바로 뒤에 60KB EXIF 세그먼트, 이미지 뒤에 3MB 데이터가 붙은 JPEG
+        byte[] jpeg = withTrailingBytes(withSegment(encode(1024, 768, "jpg"), 0xE1, 60_000), 3 * 1024 * 1024);
+        AtomicLong bytesRead = new AtomicLong();
+        MockMultipartFile image = new MockMultipartFile("curationImage", "photo.jpeg", "image/jpeg", jpeg) {
+            @Override
+            public InputStream getInputStream() {
+                return new CountingInputStream(new ByteArrayInputStream(jpeg), bytesRead);
+            }
+        };
+
+        assertHeader(image, ImageHeader.Format.JPEG, 1024, 768);
+        assertThat(bytesRead.get()).isLessThan(32 * 1024);
+    }
+
+    @Test
+    void forgedContentIsRejected() throws IOException {
+        // 확장자만 이미지인 파일, 다른 형식의 이미지, 헤더가 잘린 이미지
+        assertRejected(image("script.png", "<script>alert(1)</script>".getBytes()), ExceptionCode.IMAGE_NOT_ACCEPTABLE);
+        assertRejected(image("cover.png", encode(10, 10, "jpg")), ExceptionCode.IMAGE_NOT_ACCEPTABLE);
+        assertRejected(image("cover.png", Arrays.copyOf(encode(10, 10, "png"), 20)), ExceptionCode.IMAGE_NOT_ACCEPTABLE);
+        assertRejected(image("cover.exe", encode(10, 10, "png")), ExceptionCode.FILE_EXTENSION_NOT_ACCEPTABLE);
+    }
+
+    @Test
+    void decompressionBombIsRejected() throws IOException {
+        // IHDR 의 크기만 50000x50000 으로 바꾼 PNG (파일은 작지만 디코딩하면 10GB)
+        byte[] png = encode(10, 10, "png");
+        ByteBuffer.wrap(png).putInt(16, 50_000).putInt(20, 50_000);
+        assertRejected(image("bomb.png", png), ExceptionCode.IMAGE_TOO_LARGE);
+
+        byte[] wide = encode(10, 10, "png");
+        ByteBuffer.wrap(wide).putInt(16, ImageStorageUtils.MAX_SIDE + 1).putInt(20, 1);
+        assertRejected(image("wide.png", wide), ExceptionCode.IMAGE_TOO_LARGE);
+    }
+
+    private void assertHeader(MockMultipartFile image, ImageHeader.Format format, int width, int height) {
+        ImageHeader header = ImageStorageUtils.verifyImage(image);
+        assertThat(header.getFormat()).isEqualTo(format);
+        assertThat(header.getWidth()).isEqualTo(width);
+        assertThat(header.getHeight()).isEqualTo(height);
+    }
+
+    private void assertRejected(MockMultipartFile image, ExceptionCode exceptionCode) {
+        assertThatThrownBy(() -> ImageStorageUtils.verifyImage(image))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(exceptionCode);
+    }
+
+    private MockMultipartFile image(String name, byte[] content) {
+        return new MockMultipartFile("curationImage", name, "image/png", content);
+    }
+
+    private byte[] encode(int width, int height, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), format, out);
+        return out.toByteArray();
+    }
+
+    //SOI(2바이트) 뒤에 size 바이트 길이의 APPn 세그먼트를 끼워 넣음
+    private byte[] withSegment(byte[] jpeg, int marker, int size) {
+        ByteBuffer buffer = ByteBuffer.allocate(jpeg.length + size + 2);
+        buffer.put(jpeg, 0, 2);
+        buffer.put((byte) 0xFF).put((byte) marker).putShort((short) size);
+        buffer.put(new byte[size - 2]);
+        buffer.put(jpeg, 2, jpeg.length - 2);
+        return buffer.array();
+    }
+
+    private byte[] withTrailingBytes(byte[] content, int size) {
+        return Arrays.copyOf(content, content.length + size);
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+        private final AtomicLong bytesRead;
+
+        CountingInputStream(InputStream in, AtomicLong bytesRead) {
+            super(in);
+            this.bytesRead = bytesRead;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) bytesRead.incrementAndGet();
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            if (count > 0) bytesRead.addAndGet(count);
+            return count;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.seb_main_004.whosbook.like.service;
+
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.ranking.CurationRankingService;
+import com.seb_main_004.whosbook.curation.repository.CurationRepository;
+import com.seb_main_004.whosbook.curation.service.CurationService;
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
+import com.seb_main_004.whosbook.like.repository.CurationLikeRepository;
+import com.seb_main_004.whosbook.member.cache.MemberPrincipal;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.ranking.CuratorRankingService;
+import com.seb_main_004.whosbook.member.service.MemberService;
+import com.seb_main_004.whosbook.member.service.MemberStatsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+//좋아요/좋아요 취소를 동시에 대량으로 요청해도 좋아요 수가 실제 좋아요 행 수와 정확히 일치하는지 확인
+//버퍼를 사용하는 경우와 요청마다 바로 UPDATE 하는 경우 모두 확인
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:like;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=30000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CurationLikeService.class, LikeCountBuffer.class, MemberStatsService.class, CuratorRankingService.class,
+        SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CurationLikeServiceConcurrencyTest {
+
+    private static final int MEMBER_COUNT = 1000;
+
+    @Autowired
+    private CurationLikeService curationLikeService;
+
+    @Autowired
+    private CurationRepository curationRepository;
+
+    @Autowired
+    private CurationLikeRepository curationLikeRepository;
+
+    @Autowired
+    protected LikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private CurationService curationService;
+
+    @MockBean
+    private MemberService memberService;
+
+    @MockBean
+    private CurationRankingService curationRankingService;
+
+    private Curation curation;
+
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            useSequenceForLikeId();
+
+            Category category = new Category("소설");
+            em.persist(category);
+
+            Member curator = member("curator");
+            em.persist(curator);
+
+            curation = new Curation();
+            curation.setEmoji("📚");
+            curation.setTitle("title");
+            curation.setContent("content");
+            curation.setMember(curator);
+            curation.setCategory(category);
+            em.persist(curation);
+
+            members = new ArrayList<>();
+            for (int i = 0; i < MEMBER_COUNT; i++) {
+                Member member = member("liker" + i);
+                em.persist(member);
+                members.add(member);
+            }
+        });
+
+        Map<String, Member> membersByEmail = members.stream()
+                .collect(Collectors.toMap(Member::getEmail, Function.identity()));
+        Map<Long, Member> membersById = members.stream()
+                .collect(Collectors.toMap(Member::getMemberId, Function.identity()));
+        given(curationService.findVerifiedCurationById(anyLong())).willReturn(curation);
+        given(memberService.findVerifiedMemberPrincipalByEmail(anyString()))
+                .willAnswer(invocation -> MemberPrincipal.of(membersByEmail.get(invocation.<String>getArgument(0))));
+        given(memberService.getMemberReference(any()))
+                .willAnswer(invocation -> membersById.get(invocation.<MemberPrincipal>getArgument(0).getMemberId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            em.createQuery("delete from CurationLike").executeUpdate();
+            em.createQuery("delete from Curation").executeUpdate();
+            em.createQuery("delete from Category").executeUpdate();
+            em.createNativeQuery("delete from member_roles").executeUpdate();
+            em.createQuery("delete from Member").executeUpdate();
+        });
+    }
+
+    @Test
+    void concurrentLikesAreCountedExactlyOnce() throws Exception {
+        // 회원마다 좋아요를 2번씩 동시에 요청 : 두 번째 요청은 이미 좋아요 상태로 응답하거나 유니크 제약에 걸려 거부되어야 함
+        List<Callable<Object>> likes = new ArrayList<>();
+        for (Member member : members) {
+            likes.add(() -> like(member));
+            likes.add(() -> like(member));
+        }
+        runConcurrently(likes);
+
+        // 반영 전에도 조회 값은 버퍼의 증감분을 포함
+        assertThat(curationLikeService.getLikeCount(curation.getCurationId())).isEqualTo(MEMBER_COUNT);
+        // 랭킹에는 저장된 좋아요마다 증감분(+1)만 전달 (동시에 계산한 좋아요 수로 덮어쓰지 않음)
+        verify(curationRankingService, times(MEMBER_COUNT)).onLikeCountChanged(curation.getCurationId(), 1);
+        likeCountBuffer.flush();
+
+        assertThat(curationRepository.findLikeCount(curation.getCurationId())).isEqualTo(MEMBER_COUNT);
+        assertThat(curationLikeRepository.count()).isEqualTo(MEMBER_COUNT);
+
+        // 절반은 좋아요 취소를 2번씩 동시에 요청
+        List<Callable<Object>> unlikes = new ArrayList<>();
+        for (Member member : members.subList(0, MEMBER_COUNT / 2)) {
+            unlikes.add(() -> { curationLikeService.delete(member.getEmail(), curation.getCurationId()); return null; });
+            unlikes.add(() -> { curationLikeService.delete(member.getEmail(), curation.getCurationId()); return null; });
+        }
+        runConcurrently(unlikes);
+        likeCountBuffer.flush();
+
+        assertThat(curationRepository.findLikeCount(curation.getCurationId())).isEqualTo(MEMBER_COUNT / 2);
+        assertThat(curationLikeRepository.count()).isEqualTo(MEMBER_COUNT / 2);
+    }
+
+    //H2 의 MySQL 모드는 동시 INSERT 시 IDENTITY 값을 되감아 같은 id 를 발급하는 경우가 있음 (2.1.214)
+    //PK 위반이 중복 좋아요로 처리되어 좋아요 한 건이 빠지므로, 좋아요 id 만 시퀀스 기본값으로 발급 (Hibernate 는 default 로 INSERT)
+    private void useSequenceForLikeId() {
+        em.createNativeQuery("create sequence if not exists curation_like_id_seq").executeUpdate();
+        em.createNativeQuery("alter table curation_like alter column like_id drop identity").executeUpdate();
+        em.createNativeQuery("alter table curation_like alter column like_id set default next value for curation_like_id_seq")
+                .executeUpdate();
+    }
+
+    private Object like(Member member) {
+        try {
+            return curationLikeService.postLike(member.getEmail(), curation.getCurationId());
+        } catch (BusinessLogicException e) {
+            assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.LIKE_ALREADY_EXISTS);
+            return null;
+        }
+    }
+
+    private void runConcurrently(List<Callable<Object>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            for (Future<Object> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private Member member(String nickname) {
+        Member member = new Member();
+        member.setEmail(nickname + "@email.com");
+        member.setNickname(nickname);
+        member.setPassword("password");
+        member.setRoles(List.of("USER"));
+        return member;
+    }
+}
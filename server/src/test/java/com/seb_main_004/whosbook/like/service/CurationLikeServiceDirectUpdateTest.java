@@ -0,0 +1,19 @@
+package com.seb_main_004.whosbook.like.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//버퍼를 끄고 요청마다 원자적 UPDATE 로 반영하는 경우
+@TestPropertySource(properties = {
+        "like.buffer.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:like-direct;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=30000"
+})
+class CurationLikeServiceDirectUpdateTest extends CurationLikeServiceConcurrencyTest {
+
+    @Test
+    void bufferIsDisabled() {
+        assertThat(likeCountBuffer.isEnabled()).isFalse();
+    }
+}
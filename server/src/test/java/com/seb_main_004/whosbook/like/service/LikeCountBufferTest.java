@@ -0,0 +1,184 @@
+package com.seb_main_004.whosbook.like.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LikeCountBufferTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private LikeCountBuffer buffer;
+
+    private static final String CURATION_FLUSH = "update curation ";
+
+    //curation 에 batchUpdate 로 반영된 증감분을 큐레이션별로 누적
+    private final ConcurrentHashMap<Long, LongAdder> flushed = new ConcurrentHashMap<>();
+    private final AtomicInteger batches = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        given(jdbcTemplate.batchUpdate(argThat(sql -> sql.startsWith(CURATION_FLUSH)), anyList())).willAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            batchArgs.forEach(args -> flushed.computeIfAbsent((Long) args[1], id -> new LongAdder()).add((Long) args[0]));
+            batches.incrementAndGet();
+            return new int[batchArgs.size()];
+        });
+
+        meterRegistry = new SimpleMeterRegistry();
+        buffer = new LikeCountBuffer(jdbcTemplate, TransactionOperations.withoutTransaction(), meterRegistry, true);
+    }
+
+    @Test
+    void flushWritesAggregatedDeltasInOneBatch() {
+        for (int i = 0; i < 100; i++) buffer.add(1L, 1);
+        buffer.add(2L, 1);
+        buffer.add(2L, -1);
+        buffer.add(3L, -1);
+
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(100);
+        assertThat(meterRegistry.get("like.buffer.size").gauge().value()).isEqualTo(3);
+
+        buffer.flush();
+
+        // 증감분이 0 인 큐레이션은 UPDATE 하지 않음
+        assertThat(batches.get()).isEqualTo(1);
+        assertThat(flushed.keySet()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(flushed.get(1L).sum()).isEqualTo(100);
+        assertThat(buffer.getPendingDelta(1L)).isZero();
+        assertThat(meterRegistry.get("like.buffer.flush").timer().count()).isEqualTo(1);
+        // 작성자 통계(member_stats)도 같은 증감분으로 한 번에 반영
+        verify(jdbcTemplate).batchUpdate(argThat(sql -> sql.startsWith("update member_stats ")), anyList());
+
+        // 쌓인 증감분이 없으면 DB 에 접근하지 않음
+        buffer.flush();
+        assertThat(batches.get()).isEqualTo(1);
+    }
+
+    @Test
+    void failedFlushIsRetriedOnNextInterval() {
+        willThrow(new RuntimeException("db down"))
+                .willAnswer(invocation -> new int[1])
+                .given(jdbcTemplate).batchUpdate(argThat(sql -> sql.startsWith(CURATION_FLUSH)), anyList());
+        buffer.add(1L, 5);
+
+        buffer.flush();
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(5);
+        assertThat(meterRegistry.get("like.buffer.flush.failures").counter().count()).isEqualTo(1);
+
+        buffer.flush();
+        assertThat(buffer.getPendingDelta(1L)).isZero();
+        verify(jdbcTemplate, times(2)).batchUpdate(argThat(sql -> sql.startsWith(CURATION_FLUSH)), anyList());
+    }
+
+    @Test
+    void readersSeeEachDeltaExactlyOnceWhileFlushing() throws Exception {
+        // batchUpdate 는 staged 에 쓰고, 커밋 시점에 committed 로 옮기는 트랜잭션
+        Map<Long, Long> committed = new ConcurrentHashMap<>();
+        Map<Long, Long> staged = new ConcurrentHashMap<>();
+        CountDownLatch inTransaction = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        ExecutorService readers = Executors.newSingleThreadExecutor();
+        AtomicReference<Future<Long>> readDuringCommit = new AtomicReference<>();
+        AtomicBoolean readBlocked = new AtomicBoolean();
+
+        JdbcTemplate stagingJdbcTemplate = mock(JdbcTemplate.class);
+        given(stagingJdbcTemplate.batchUpdate(argThat(sql -> sql.startsWith(CURATION_FLUSH)), anyList())).willAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            batchArgs.forEach(args -> staged.merge((Long) args[1], (Long) args[0], Long::sum));
+            inTransaction.countDown();
+            resume.await();
+            return new int[batchArgs.size()];
+        });
+        TransactionOperations transaction = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                T result = action.doInTransaction(null);
+                staged.forEach((id, delta) -> committed.merge(id, delta, Long::sum));
+                // 커밋된 직후, 반영 중인 증감분을 비우기 전에 들어온 조회는 비울 때까지 기다려야 함
+                Future<Long> read = readers.submit(() -> buffer.getLikeCount(1L, () -> committed.getOrDefault(1L, 0L).intValue()));
+                readDuringCommit.set(read);
+                try {
+                    read.get(200, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    readBlocked.set(true);
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new IllegalStateException(e);
+                }
+                return result;
+            }
+        };
+        buffer = new LikeCountBuffer(stagingJdbcTemplate, transaction, meterRegistry, true);
+        buffer.add(1L, 100);
+
+        ExecutorService flusher = Executors.newSingleThreadExecutor();
+        Future<?> flush = flusher.submit(() -> buffer.flush());
+        assertThat(inTransaction.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 반영 중(커밋 전) : 누적 맵은 비었지만 반영 중인 증감분으로 조회됨
+        assertThat(buffer.getPendingDelta(1L)).isEqualTo(100);
+        assertThat(buffer.getLikeCount(1L, () -> committed.getOrDefault(1L, 0L).intValue())).isEqualTo(100);
+
+        resume.countDown();
+        flush.get(5, TimeUnit.SECONDS);
+
+        // 커밋 직후의 조회는 반영 중인 증감분을 비운 뒤에 읽어서 두 번 더하지 않음
+        assertThat(readBlocked).isTrue();
+        assertThat(readDuringCommit.get().get(5, TimeUnit.SECONDS)).isEqualTo(100);
+        assertThat(buffer.getLikeCount(1L, () -> committed.getOrDefault(1L, 0L).intValue())).isEqualTo(100);
+        assertThat(buffer.getPendingDelta(1L)).isZero();
+        flusher.shutdown();
+        readers.shutdown();
+    }
+
+    @Test
+    void concurrentAddsAreNotLostWhileFlushing() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 20000; i++) {
+            long curationId = i % 10;
+            executor.execute(() -> buffer.add(curationId, 1));
+        }
+
+        // 누적이 진행되는 동안 계속 반영
+        while (!executor.isTerminated()) {
+            buffer.flush();
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MILLISECONDS);
+        }
+        buffer.drain();
+
+        long total = flushed.values().stream().mapToLong(LongAdder::sum).sum();
+        assertThat(total).isEqualTo(20000);
+        for (long curationId = 0; curationId < 10; curationId++) {
+            assertThat(flushed.get(curationId).sum()).isEqualTo(2000);
+        }
+    }
+}
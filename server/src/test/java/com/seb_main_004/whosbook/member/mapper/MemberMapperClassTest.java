@@ -0,0 +1,212 @@
+package com.seb_main_004.whosbook.member.mapper;
+
+import com.seb_main_004.whosbook.auth.utils.CustomAuthorityUtils;
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.image.service.ImageUploadService;
+import com.seb_main_004.whosbook.image.service.StorageService;
+import com.seb_main_004.whosbook.member.cache.MemberPrincipalCache;
+import com.seb_main_004.whosbook.member.dto.MemberResponseDto;
+import com.seb_main_004.whosbook.member.dto.OtherMemberResponseDto;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.ranking.CuratorRankingService;
+import com.seb_main_004.whosbook.member.repository.MemberRepository;
+import com.seb_main_004.whosbook.member.repository.MemberStatsRepository;
+import com.seb_main_004.whosbook.member.service.MemberService;
+import com.seb_main_004.whosbook.member.service.MemberStatsReconciler;
+import com.seb_main_004.whosbook.member.service.MemberStatsService;
+import com.seb_main_004.whosbook.subscribe.entity.Subscribe;
+import com.seb_main_004.whosbook.subscribe.repository.SubscribeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+//프로필 응답의 구독자 수/큐레이션 수를 컬렉션 로딩 없이 member_stats 조회 1번으로 가져오는지 확인
+//구독한 큐레이터 목록은 회원 수와 관계없이 일정한 쿼리 수로 조회되는지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+class MemberMapperClassTest {
+
+    private static final int SUBSCRIBER_COUNT = 30;
+    private static final int CURATION_COUNT = 20;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private SubscribeRepository subscribeRepository;
+
+    @Autowired
+    private MemberStatsRepository memberStatsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private MemberMapperClass memberMapper;
+
+    private MemberService memberService;
+
+    private Category category;
+
+    private long curatorId;
+
+    @BeforeEach
+    void setUp() {
+        memberService = new MemberService(memberRepository, mock(PasswordEncoder.class),
+                mock(CustomAuthorityUtils.class), subscribeRepository, mock(StorageService.class),
+                mock(ImageUploadService.class), new MemberPrincipalCache(new SimpleMeterRegistry(), 30, 100),
+                new MemberStatsService(memberStatsRepository, mock(CuratorRankingService.class)),
+                mock(CuratorRankingService.class));
+        memberMapper = new MemberMapperClass(memberService);
+
+        category = new Category("소설");
+        em.persist(category);
+
+        Member curator = member("curator");
+        em.persist(curator);
+        curatorId = curator.getMemberId();
+
+        for (int i = 0; i < SUBSCRIBER_COUNT; i++) {
+            Member subscriber = member("subscriber" + i);
+            em.persist(subscriber);
+
+            Subscribe subscribe = new Subscribe();
+            subscribe.setSubscriber(subscriber);
+            subscribe.setSubscribedMember(curator);
+            em.persist(subscribe);
+        }
+
+        // 삭제된 큐레이션은 집계하지 않음
+        for (int i = 0; i < CURATION_COUNT + 5; i++) {
+            persistCuration(curator, i < CURATION_COUNT);
+        }
+
+        em.flush();
+        reconcileStats();
+        em.clear();
+    }
+
+    @Test
+    void memberResponseCountsWithoutLoadingCollections() {
+        Member curator = em.find(Member.class, curatorId);
+        Statistics statistics = statistics();
+
+        MemberResponseDto response = memberMapper.memberToMemberResponseDto(curator);
+
+        assertThat(response.getMySubscriber()).isEqualTo(SUBSCRIBER_COUNT);
+        assertThat(response.getMyCuration()).isEqualTo(CURATION_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(Hibernate.isInitialized(curator.getSubscribers())).isFalse();
+        assertThat(Hibernate.isInitialized(curator.getCurations())).isFalse();
+    }
+
+    @Test
+    void otherMemberResponseCountsWithoutLoadingCollections() {
+        Member curator = em.find(Member.class, curatorId);
+        Statistics statistics = statistics();
+
+        OtherMemberResponseDto response = memberMapper.memberToOtherMemberResponseDto(curator, true);
+
+        assertThat(response.getMySubscriber()).isEqualTo(SUBSCRIBER_COUNT);
+        assertThat(response.getMyCuration()).isEqualTo(CURATION_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(Hibernate.isInitialized(curator.getSubscribers())).isFalse();
+    }
+
+    @Test
+    void subscribedMembersPageIsMappedWithConstantStatements() {
+        // subscriber0 은 curator 외에 큐레이터 19명을 추가로 구독 (그 중 1명은 탈퇴)
+        Member viewer = memberRepository.findByEmail("subscriber0@email.com").orElseThrow();
+        for (int i = 0; i < 19; i++) {
+            Member other = member("other" + i);
+            if (i == 18) other.setMemberStatus(Member.MemberStatus.MEMBER_DELETE);
+            em.persist(other);
+            persistCuration(other, true);
+            persistCuration(other, true);
+
+            Subscribe subscribe = new Subscribe();
+            subscribe.setSubscriber(viewer);
+            subscribe.setSubscribedMember(other);
+            em.persist(subscribe);
+        }
+        em.flush();
+        reconcileStats();
+        em.clear();
+        entityManagerFactory.getCache().evictAll();
+        memberService.findVerifiedMemberPrincipalByEmail(viewer.getEmail());
+
+        Statistics statistics = statistics();
+        Page<Member> page = memberService.findMyMembers(0, 20, viewer.getEmail());
+        List<MemberResponseDto> responses = memberMapper.subscribingMembersToMemberResponseDtos(page.getContent());
+
+        // 목록 1 + 권한(roles) 배치 조회 1 + member_stats 조회 1 (전체 건수가 페이지보다 작아 count 쿼리는 생략)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(page.getTotalElements()).isEqualTo(19);
+        assertThat(responses).hasSize(19);
+
+        MemberResponseDto curatorResponse = responses.stream()
+                .filter(response -> response.getMemberId() == curatorId).findFirst().orElseThrow();
+        assertThat(curatorResponse.getMySubscriber()).isEqualTo(SUBSCRIBER_COUNT);
+        assertThat(curatorResponse.getMyCuration()).isEqualTo(CURATION_COUNT);
+        assertThat(responses).filteredOn(response -> response.getMemberId() != curatorId)
+                .allSatisfy(response -> {
+                    assertThat(response.getMySubscriber()).isEqualTo(1);
+                    assertThat(response.getMyCuration()).isEqualTo(2);
+                });
+    }
+
+    private void persistCuration(Member member, boolean active) {
+        Curation curation = new Curation();
+        curation.setEmoji("📚");
+        curation.setTitle("title");
+        curation.setContent("content");
+        curation.setMember(member);
+        curation.setCategory(category);
+        if (!active) curation.setCurationStatus(Curation.CurationStatus.CURATION_DELETE);
+        em.persist(curation);
+    }
+
+    //테스트 데이터를 직접 저장했으므로 원본 테이블 기준으로 통계를 계산
+    private void reconcileStats() {
+        new MemberStatsReconciler(jdbcTemplate, transactionTemplate, 1000).reconcile();
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private Member member(String nickname) {
+        Member member = new Member(nickname + "@email.com", nickname, null);
+        member.setPassword("password");
+        member.setRoles(List.of("USER"));
+        return member;
+    }
+}
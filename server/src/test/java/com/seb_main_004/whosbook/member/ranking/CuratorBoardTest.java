@@ -0,0 +1,127 @@
+package com.seb_main_004.whosbook.member.ranking;
+
+import com.seb_main_004.whosbook.member.entity.Member;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CuratorBoardTest {
+
+    @Test
+    void pagesAreServedInSubscriberOrder() {
+        // 구독자 수 : 1번 30명, 2번 10명, 3번 10명, 4번 0명
+        CuratorBoard board = new CuratorBoard(10, List.of(
+                curator(1L, 30), curator(3L, 10), curator(2L, 10), curator(4L, 0)), 4);
+
+        // 같은 구독자 수면 최근 가입한 회원(id 가 큰 회원) 먼저
+        assertThat(memberIds(board.page(0, 10).orElseThrow())).containsExactly(1L, 3L, 2L, 4L);
+        assertThat(memberIds(board.page(2, 2).orElseThrow())).containsExactly(2L, 4L);
+        assertThat(board.page(10, 10).orElseThrow()).isEmpty();
+
+        board.changeSubscriberCount(member(4L), 31);
+        assertThat(memberIds(board.page(0, 2).orElseThrow())).containsExactly(4L, 1L);
+        assertThat(board.get(4L).getSubscriberCount()).isEqualTo(31);
+    }
+
+    @Test
+    void memberOutsideBoardEntersWhenPassingBoundary() {
+        // 상위 3명만 보드에 올리고, 4번째(구독자 5명)가 보드 밖 상한
+        CuratorBoard board = new CuratorBoard(3, List.of(
+                curator(1L, 40), curator(2L, 30), curator(3L, 20), curator(4L, 5)), 100);
+
+        // 상한보다 뒤인 회원의 변경은 무시
+        board.changeSubscriberCount(member(50L), 3);
+        assertThat(board.get(50L)).isNull();
+
+        // 상한을 넘어선 회원은 진입하고, 밀려난 회원이 새 상한이 됨
+        board.changeSubscriberCount(member(60L), 25);
+        assertThat(memberIds(board.page(0, 3).orElseThrow())).containsExactly(1L, 2L, 60L);
+        assertThat(board.get(3L)).isNull();
+        assertThat(board.size()).isEqualTo(3);
+
+        board.changeSubscriberCount(member(70L), 19);
+        assertThat(memberIds(board.page(0, 3).orElseThrow())).containsExactly(1L, 2L, 60L);
+        assertThat(board.get(70L)).isNull();
+    }
+
+    @Test
+    void pageBeyondGuaranteedRangeIsNotServed() {
+        CuratorBoard board = new CuratorBoard(3, List.of(
+                curator(1L, 40), curator(2L, 30), curator(3L, 20), curator(4L, 15)), 100);
+
+        // 보드 밖 회원이 더 있으므로 보드 크기를 넘는 페이지는 DB 에서 조회해야 함
+        assertThat(board.page(0, 3)).isPresent();
+        assertThat(board.page(2, 2)).isEmpty();
+
+        // 구독자가 줄어 상한 뒤로 밀린 회원은 더 이상 순위가 보장되지 않음 (보드 밖 회원이 더 앞설 수 있음)
+        board.changeSubscriberCount(member(2L), 10);
+        assertThat(memberIds(board.page(0, 2).orElseThrow())).containsExactly(1L, 3L);
+        assertThat(board.page(0, 3)).isEmpty();
+    }
+
+    @Test
+    void joinLeaveAndProfileUpdatesAreReflected() {
+        CuratorBoard board = new CuratorBoard(10, List.of(curator(1L, 3), curator(2L, 0)), 2);
+
+        board.changeTotal(1);
+        board.join(member(3L));
+        assertThat(memberIds(board.page(0, 10).orElseThrow())).containsExactly(1L, 3L, 2L);
+        assertThat(board.total()).isEqualTo(3);
+
+        // 이미 보드에 있는 회원의 가입을 다시 반영해도 구독자 수가 초기화되지 않음
+        board.changeSubscriberCount(member(3L), 5);
+        board.join(member(3L));
+        assertThat(board.get(3L).getSubscriberCount()).isEqualTo(5);
+        assertThat(board.size()).isEqualTo(3);
+
+        Member renamed = member(1L);
+        renamed.setNickname("renamed");
+        board.updateProfile(renamed);
+        assertThat(board.get(1L).getNickname()).isEqualTo("renamed");
+        assertThat(board.get(1L).getSubscriberCount()).isEqualTo(3);
+
+        board.changeTotal(-1);
+        board.leave(1L);
+        assertThat(memberIds(board.page(0, 10).orElseThrow())).containsExactly(3L, 2L);
+        assertThat(board.total()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentSubscriptionsKeepOneEntryPerMember() throws InterruptedException {
+        CuratorBoard board = new CuratorBoard(10, List.of(curator(1L, 1000), curator(2L, 0)), 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            long subscriberCount = 1000 + i;
+            executor.execute(() -> board.changeSubscriberCount(member(1L), subscriberCount));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // 정렬된 집합과 회원별 항목이 같은 값을 가리키고, 교체 전 항목이 남지 않음
+        List<RankedCurator> page = board.page(0, 10).orElseThrow();
+        assertThat(memberIds(page)).containsExactly(1L, 2L);
+        assertThat(page.get(0).getSubscriberCount()).isEqualTo(board.get(1L).getSubscriberCount());
+    }
+
+    private RankedCurator curator(long memberId, long subscriberCount) {
+        return RankedCurator.of(member(memberId), subscriberCount);
+    }
+
+    private Member member(long memberId) {
+        Member member = new Member(memberId + "@email.com", "curator" + memberId, null);
+        member.setMemberId(memberId);
+        return member;
+    }
+
+    private List<Long> memberIds(List<RankedCurator> curators) {
+        return curators.stream().map(RankedCurator::getMemberId).collect(Collectors.toCollection(ArrayList::new));
+    }
+}
@@ -0,0 +1,83 @@
+package com.seb_main_004.whosbook.member.ranking;
+
+import com.seb_main_004.whosbook.member.dto.BestCuratorDto;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.repository.MemberStatsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+//재계산 중에 들어온 구독/가입/탈퇴 변경이 새 보드로 교체된 뒤에도 남아 있는지 확인
+class CuratorRankingServiceTest {
+
+    private final MemberStatsRepository memberStatsRepository = mock(MemberStatsRepository.class);
+    private final CuratorRankingService rankingService =
+            new CuratorRankingService(memberStatsRepository, new SimpleMeterRegistry(), 10);
+
+    @Test
+    void changesDuringRebuildAreReplayedOnNewBoard() {
+        given(memberStatsRepository.findRankedCurators(any(Pageable.class)))
+                .willReturn(List.of(curator(1L, 10), curator(2L, 5)));
+        given(memberStatsRepository.countActiveCurators()).willReturn(2L);
+        rankingService.rebuild();
+
+        // 목록 조회 이후 ~ 보드 교체 전에 커밋된 구독 : 조회 결과에는 없고 기존 보드에만 반영됨
+        given(memberStatsRepository.findRankedCurators(any(Pageable.class))).willAnswer(invocation -> {
+            rankingService.onSubscriberCountChanged(member(2L), 20);
+            return List.of(curator(1L, 10), curator(2L, 5));
+        });
+        rankingService.rebuild();
+
+        Page<BestCuratorDto> page = rankingService.getBestCurators(0, 10);
+        assertThat(page.getContent()).extracting(BestCuratorDto::getMemberId).containsExactly(2L, 1L);
+        assertThat(page.getContent().get(0).getMySubscriber()).isEqualTo(20);
+
+        // 재계산이 끝난 뒤의 변경은 기록하지 않고 현재 보드에만 반영
+        rankingService.onSubscriberCountChanged(member(1L), 30);
+        assertThat(rankingService.getBestCurators(0, 10).getContent())
+                .extracting(BestCuratorDto::getMemberId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void replayingJoinAlreadyInSnapshotDoesNotDoubleCount() {
+        given(memberStatsRepository.findRankedCurators(any(Pageable.class)))
+                .willReturn(List.of(curator(1L, 10)));
+        given(memberStatsRepository.countActiveCurators()).willReturn(1L);
+        rankingService.rebuild();
+
+        // 가입과 구독이 커밋된 뒤 DB 조회에 포함되고, 커밋 이후 이벤트는 재계산 중에 도착한 경우
+        given(memberStatsRepository.findRankedCurators(any(Pageable.class))).willAnswer(invocation -> {
+            rankingService.onMemberCreated(member(2L));
+            rankingService.onSubscriberCountChanged(member(2L), 3);
+            return List.of(curator(1L, 10), curator(2L, 3));
+        });
+        given(memberStatsRepository.countActiveCurators()).willReturn(2L);
+        rankingService.rebuild();
+
+        Page<BestCuratorDto> page = rankingService.getBestCurators(0, 10);
+        assertThat(page.getContent()).extracting(BestCuratorDto::getMySubscriber).containsExactly(10, 3);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+
+        // 재계산 이후의 가입은 전체 수에 더함
+        rankingService.onMemberCreated(member(3L));
+        assertThat(rankingService.getBestCurators(0, 10).getTotalElements()).isEqualTo(3);
+    }
+
+    private RankedCurator curator(long memberId, long subscriberCount) {
+        return RankedCurator.of(member(memberId), subscriberCount);
+    }
+
+    private Member member(long memberId) {
+        Member member = new Member(memberId + "@email.com", "curator" + memberId, null);
+        member.setMemberId(memberId);
+        return member;
+    }
+}
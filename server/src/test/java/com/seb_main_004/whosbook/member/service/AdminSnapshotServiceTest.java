@@ -0,0 +1,155 @@
+package com.seb_main_004.whosbook.member.service;
+
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
+import com.seb_main_004.whosbook.member.dto.AdminMemberDto;
+import com.seb_main_004.whosbook.member.dto.AdminResponseDto;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.entity.MemberStats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+//관리자 페이지 통계 스냅샷 : 집계 값과 상위 회원 목록(top-size 건)이 맞는지, 다음 계산 전까지 같은 스냅샷으로 응답하는지 확인
+//집계는 별도 스레드에서 실행되므로 테스트 데이터는 커밋한 뒤 조회
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:admin;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "admin.snapshot.top-size=3"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({AdminSnapshotService.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminSnapshotServiceTest {
+
+    private static final String ADMIN_EMAIL = "admin@email.com";
+
+    @Autowired
+    private AdminSnapshotService adminSnapshotService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        members = new ArrayList<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Category category = new Category("소설");
+            em.persist(category);
+
+            for (int i = 0; i < 6; i++) {
+                Member member = member("member" + i);
+                em.persist(member);
+                em.persist(new MemberStats(member.getMemberId()));
+                members.add(member);
+            }
+            for (int i = 0; i < 2; i++) {
+                Curation curation = new Curation();
+                curation.setEmoji("📚");
+                curation.setTitle("title");
+                curation.setContent("content");
+                curation.setMember(members.get(0));
+                curation.setCategory(category);
+                em.persist(curation);
+            }
+        });
+
+        // 구독자 수 : member2 가 가장 많음 / 큐레이션 수 : member1 > member3 > member4 = member5, member0 은 0건
+        stats(members.get(0), 1, 0);
+        stats(members.get(1), 2, 5);
+        stats(members.get(2), 9, 0);
+        stats(members.get(3), 0, 4);
+        stats(members.get(4), 0, 1);
+        stats(members.get(5), 0, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            em.createQuery("delete from Curation").executeUpdate();
+            em.createQuery("delete from Category").executeUpdate();
+            em.createQuery("delete from MemberStats").executeUpdate();
+            em.createNativeQuery("delete from member_roles").executeUpdate();
+            em.createQuery("delete from Member").executeUpdate();
+        });
+    }
+
+    @Test
+    void snapshotHoldsAggregatesAndBoundedTopMembers() {
+        adminSnapshotService.refresh();
+        AdminResponseDto snapshot = adminSnapshotService.getSnapshot(ADMIN_EMAIL);
+
+        assertThat(snapshot.getTotalMembers()).isEqualTo(6);
+        assertThat(snapshot.getTotalCurations()).isEqualTo(2);
+        assertThat(snapshot.getMostSubsripedMember().getMemberId()).isEqualTo(members.get(2).getMemberId());
+        assertThat(snapshot.getMostSubsripedMember().getSubscriberCount()).isEqualTo(9);
+
+        // top-size(3) 건만, 같은 큐레이션 수면 최근 가입한 회원 먼저
+        assertThat(snapshot.getMostCurationMembers()).extracting(AdminMemberDto::getMemberId)
+                .containsExactly(members.get(1).getMemberId(), members.get(3).getMemberId(),
+                        members.get(5).getMemberId());
+        assertThat(snapshot.getGeneratedAt()).isNotNull();
+    }
+
+    @Test
+    void snapshotIsServedUntilNextRefresh() {
+        AdminResponseDto first = adminSnapshotService.getSnapshot(ADMIN_EMAIL);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> em.persist(member("late")));
+        assertThat(adminSnapshotService.getSnapshot(ADMIN_EMAIL)).isSameAs(first);
+
+        adminSnapshotService.refresh();
+        AdminResponseDto refreshed = adminSnapshotService.getSnapshot(ADMIN_EMAIL);
+        assertThat(refreshed.getTotalMembers()).isEqualTo(first.getTotalMembers() + 1);
+        assertThat(refreshed.getGeneratedAt()).isAfterOrEqualTo(first.getGeneratedAt());
+    }
+
+    @Test
+    void nonAdminIsRejected() {
+        assertThatThrownBy(() -> adminSnapshotService.getSnapshot(members.get(0).getEmail()))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting(e -> ((BusinessLogicException) e).getExceptionCode())
+                .isEqualTo(ExceptionCode.MEMBER_NO_HAVE_AUTHORIZATION);
+    }
+
+    private void stats(Member member, long subscriberCount, long curationCount) {
+        jdbcTemplate.update("update member_stats set subscriber_count = ?, curation_count = ? where member_id = ?",
+                subscriberCount, curationCount, member.getMemberId());
+    }
+
+    private Member member(String nickname) {
+        Member member = new Member();
+        member.setEmail(nickname + "@email.com");
+        member.setNickname(nickname);
+        member.setPassword("password");
+        member.setRoles(List.of("USER"));
+        return member;
+    }
+}
@@ -0,0 +1,164 @@
+package com.seb_main_004.whosbook.member.service;
+
+import com.seb_main_004.whosbook.auth.utils.CustomAuthorityUtils;
+import com.seb_main_004.whosbook.image.service.ImageUploadService;
+import com.seb_main_004.whosbook.image.service.StorageService;
+import com.seb_main_004.whosbook.member.cache.MemberPrincipalCache;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.ranking.CuratorRankingService;
+import com.seb_main_004.whosbook.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+//회원 가입/수정 시 프로필 이미지 업로드는 회원 행이 저장된 트랜잭션 안에서 예약되어야 함
+//(커밋 이후 대기열에 들어가므로 업로드 실패 시 clearImage 가 되돌릴 회원 행이 항상 있음)
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MemberService.class, MemberStatsService.class, MemberPrincipalCache.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberServiceCreateTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private CustomAuthorityUtils authorityUtils;
+
+    @MockBean
+    private StorageService storageService;
+
+    @MockBean
+    private ImageUploadService imageUploadService;
+
+    @MockBean
+    private CuratorRankingService curatorRankingService;
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            em.createQuery("delete from MemberStats").executeUpdate();
+            em.createNativeQuery("delete from member_roles").executeUpdate();
+            em.createQuery("delete from Member").executeUpdate();
+        });
+    }
+
+    @Test
+    void imageUploadIsScheduledAfterMemberIsSavedInSameTransaction() {
+        given(passwordEncoder.encode(anyString())).willReturn("encrypted");
+        given(authorityUtils.createRoles(anyString())).willReturn(List.of("USER"));
+        given(storageService.makeObjectKey(any(), eq("memberImages"), anyLong()))
+                .willAnswer(invocation -> "memberImages/" + invocation.getArgument(2) + "_profile.png");
+
+        AtomicBoolean savedBeforeUpload = new AtomicBoolean();
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        given(imageUploadService.upload(any(), anyString(), any())).willAnswer(invocation -> {
+            inTransaction.set(TransactionSynchronizationManager.isSynchronizationActive());
+            savedBeforeUpload.set(memberRepository.findByEmail("member@email.com").isPresent());
+            return "https://bucket/" + invocation.getArgument(1);
+        });
+
+        Member member = new Member("member@email.com", "member", null);
+        member.setPassword("password");
+        MockMultipartFile image = new MockMultipartFile("image", "profile.png", "image/png", new byte[]{1});
+        Member saved = memberService.createMember(member, image);
+
+        assertThat(inTransaction).isTrue();
+        assertThat(savedBeforeUpload).isTrue();
+        // 저장된 회원 id 로 이미지 키를 만들고, 이미지 URL 도 함께 커밋됨
+        Member found = memberRepository.findById(saved.getMemberId()).orElseThrow();
+        assertThat(found.getImageKey()).isEqualTo("memberImages/" + saved.getMemberId() + "_profile.png");
+        assertThat(found.getImageUrl()).isEqualTo("https://bucket/" + found.getImageKey());
+    }
+
+    @Test
+    void socialSignUpBuildsImageKeyFromSavedMemberId() {
+        given(authorityUtils.createRoles(anyString())).willReturn(List.of("USER"));
+        given(storageService.makeObjectKey(any(), eq("memberImages"), anyLong()))
+                .willAnswer(invocation -> "memberImages/" + invocation.getArgument(2) + "_profile.png");
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        given(imageUploadService.upload(any(), anyString(), any())).willAnswer(invocation -> {
+            inTransaction.set(TransactionSynchronizationManager.isSynchronizationActive());
+            return "https://bucket/" + invocation.getArgument(1);
+        });
+
+        Member member = new Member("social@email.com", "social", null);
+        member.setPassword("");
+        MockMultipartFile image = new MockMultipartFile("image", "profile.png", "image/png", new byte[]{1});
+        Member saved = memberService.createGoogleMember02(member, image);
+
+        assertThat(inTransaction).isTrue();
+        // 저장 전 id(0)가 아닌 저장된 회원 id 로 이미지 키를 만듦
+        Member found = memberRepository.findById(saved.getMemberId()).orElseThrow();
+        assertThat(saved.getMemberId()).isPositive();
+        assertThat(found.getImageKey()).isEqualTo("memberImages/" + saved.getMemberId() + "_profile.png");
+        assertThat(found.getImageUrl()).isEqualTo("https://bucket/" + found.getImageKey());
+    }
+
+    @Test
+    void updateMemberSchedulesUploadInTransactionAndDeletesOldImageAfterCommit() {
+        Member member = new Member("member@email.com", "member", null);
+        member.setPassword("password");
+        member.setRoles(List.of("USER"));
+        member.setImageKey("memberImages/old_profile.png");
+        member.setImageUrl("https://bucket/memberImages/old_profile.png");
+        long memberId = memberRepository.save(member).getMemberId();
+
+        given(storageService.makeObjectKey(any(), eq("memberImages"), anyLong()))
+                .willAnswer(invocation -> "memberImages/" + invocation.getArgument(2) + "_new.png");
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        given(imageUploadService.upload(any(), anyString(), any())).willAnswer(invocation -> {
+            inTransaction.set(TransactionSynchronizationManager.isSynchronizationActive());
+            return "https://bucket/" + invocation.getArgument(1);
+        });
+
+        Member patch = new Member();
+        patch.setNickname("renamed");
+        MockMultipartFile image = new MockMultipartFile("image", "new.png", "image/png", new byte[]{1});
+        memberService.updateMember(patch, false, image, "member@email.com");
+
+        // 업로드는 트랜잭션 안에서 예약되어 커밋 이후 대기열에 들어가고, 기존 이미지도 커밋 이후에 삭제
+        assertThat(inTransaction).isTrue();
+        verify(imageUploadService).deleteAllAfterCommit(List.of("memberImages/old_profile.png"));
+        Member found = memberRepository.findById(memberId).orElseThrow();
+        assertThat(found.getNickname()).isEqualTo("renamed");
+        assertThat(found.getImageKey()).isEqualTo("memberImages/" + memberId + "_new.png");
+        assertThat(found.getImageUrl()).isEqualTo("https://bucket/" + found.getImageKey());
+    }
+}
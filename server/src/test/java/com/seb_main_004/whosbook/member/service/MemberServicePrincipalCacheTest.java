@@ -0,0 +1,133 @@
+package com.seb_main_004.whosbook.member.service;
+
+import com.seb_main_004.whosbook.auth.utils.CustomAuthorityUtils;
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
+import com.seb_main_004.whosbook.image.service.ImageUploadService;
+import com.seb_main_004.whosbook.image.service.StorageService;
+import com.seb_main_004.whosbook.member.cache.MemberPrincipal;
+import com.seb_main_004.whosbook.member.cache.MemberPrincipalCache;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.ranking.CuratorRankingService;
+import com.seb_main_004.whosbook.member.repository.MemberRepository;
+import com.seb_main_004.whosbook.subscribe.repository.SubscribeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MemberServicePrincipalCacheTest {
+
+    private static final String EMAIL = "curator@email.com";
+
+    private MemberRepository memberRepository;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = new Member(EMAIL, "curator", null);
+        member.setMemberId(1L);
+        member.setRoles(List.of("USER"));
+
+        memberRepository = mock(MemberRepository.class);
+        given(memberRepository.findByEmail(EMAIL)).willAnswer(invocation -> Optional.of(member));
+        given(memberRepository.findByEmail("unknown@email.com")).willReturn(Optional.empty());
+        given(memberRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromSharedCache() {
+        MemberService memberService = memberService(30);
+
+        MemberPrincipal principal = memberService.findVerifiedMemberPrincipalByEmail(EMAIL);
+        memberService.findVerifiedMemberPrincipalByEmail(EMAIL);
+        memberService.findVerifiedMemberPrincipalByEmail(EMAIL);
+
+        verify(memberRepository, times(1)).findByEmail(EMAIL);
+        assertThat(principal.getMemberId()).isEqualTo(1L);
+        assertThat(principal.getNickname()).isEqualTo("curator");
+        assertThat(principal.getRoles()).containsExactly("USER");
+    }
+
+    @Test
+    void lookupsWithinOneRequestAreMemoizedEvenWhenSharedCacheExpires() {
+        // TTL 0 : 공유 캐시에 남지 않으므로 요청 범위 캐시만 동작
+        MemberService memberService = memberService(0);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        memberService.findVerifiedMemberPrincipalByEmail(EMAIL);
+        memberService.findVerifiedMemberPrincipalByEmail(EMAIL);
+        verify(memberRepository, times(1)).findByEmail(EMAIL);
+
+        // 다음 요청에서는 다시 조회
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        memberService.findVerifiedMemberPrincipalByEmail(EMAIL);
+        verify(memberRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void updateMemberEvictsCachedPrincipal() {
+        MemberService memberService = memberService(30);
+        memberService.findVerifiedMemberPrincipalByEmail(EMAIL);
+
+        Member patch = new Member();
+        patch.setNickname("renamed");
+        MultipartFile image = mock(MultipartFile.class);
+        memberService.updateMember(patch, false, image, EMAIL);
+
+        assertThat(memberService.findVerifiedMemberPrincipalByEmail(EMAIL).getNickname()).isEqualTo("renamed");
+    }
+
+    @Test
+    void deleteMemberEvictsCachedPrincipal() {
+        MemberService memberService = memberService(30);
+        memberService.findVerifiedMemberPrincipalByEmail(EMAIL);
+
+        memberService.deleteMember(EMAIL);
+
+        assertThatThrownBy(() -> memberService.findVerifiedMemberPrincipalByEmail(EMAIL))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.MEMBER_HAS_BEEN_DELETED);
+    }
+
+    @Test
+    void unknownMemberIsNotCached() {
+        MemberService memberService = memberService(30);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> memberService.findVerifiedMemberPrincipalByEmail("unknown@email.com"))
+                    .isInstanceOf(BusinessLogicException.class)
+                    .extracting("exceptionCode").isEqualTo(ExceptionCode.MEMBER_NOT_FOUND);
+        }
+        verify(memberRepository, times(2)).findByEmail(anyString());
+    }
+
+    private MemberService memberService(long ttlSeconds) {
+        MemberPrincipalCache cache = new MemberPrincipalCache(new SimpleMeterRegistry(), ttlSeconds, 100);
+        return new MemberService(memberRepository, mock(PasswordEncoder.class), mock(CustomAuthorityUtils.class),
+                mock(SubscribeRepository.class), mock(StorageService.class), mock(ImageUploadService.class), cache,
+                mock(MemberStatsService.class), mock(CuratorRankingService.class));
+    }
+}
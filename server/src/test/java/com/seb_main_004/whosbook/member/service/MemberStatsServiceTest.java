@@ -0,0 +1,188 @@
+package com.seb_main_004.whosbook.member.service;
+
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.feed.FeedService;
+import com.seb_main_004.whosbook.curation.repository.CurationRepository;
+import com.seb_main_004.whosbook.member.dto.AdminMemberDto;
+import com.seb_main_004.whosbook.member.dto.BestCuratorDto;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.entity.MemberStats;
+import com.seb_main_004.whosbook.member.ranking.CuratorRankingService;
+import com.seb_main_004.whosbook.member.repository.MemberStatsRepository;
+import com.seb_main_004.whosbook.subscribe.service.SubscribeService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//구독/큐레이션/좋아요 증감으로 갱신한 member_stats 가 원본 테이블 기준으로 다시 계산한 값과 같은지 확인
+//값이 어긋나거나 통계 행이 없는 경우 보정 작업이 바로잡는지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({MemberStatsService.class, SubscribeService.class, FeedService.class, CuratorRankingService.class,
+        SimpleMeterRegistry.class})
+class MemberStatsServiceTest {
+
+    @Autowired
+    private MemberStatsService memberStatsService;
+
+    @Autowired
+    private SubscribeService subscribeService;
+
+    @Autowired
+    private MemberStatsRepository memberStatsRepository;
+
+    @Autowired
+    private CurationRepository curationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    private MemberStatsReconciler reconciler;
+
+    private Category category;
+
+    private Member curator;
+
+    private List<Member> subscribers;
+
+    @BeforeEach
+    void setUp() {
+        // 구간 단위 보정이 회원 수보다 작은 단위로 나눠 실행되도록 chunk 크기를 작게 설정
+        reconciler = new MemberStatsReconciler(jdbcTemplate, transactionTemplate, 2);
+
+        category = new Category("소설");
+        em.persist(category);
+
+        curator = persistMember("curator");
+        subscribers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            subscribers.add(persistMember("subscriber" + i));
+        }
+        em.flush();
+    }
+
+    @Test
+    void incrementalUpdatesMatchRecomputedStats() {
+        // 구독 5건, 구독 취소 1건
+        for (Member subscriber : subscribers) {
+            subscribeService.createSubscribe(curator.getMemberId(), subscriber.getEmail());
+        }
+        subscribeService.deleteSubscribe(curator.getMemberId(), subscribers.get(0).getEmail());
+
+        // 큐레이션 3건 작성, 좋아요 4건 (그 중 1건은 삭제되는 큐레이션에)
+        List<Curation> curations = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            curations.add(persistCuration(curator));
+            memberStatsService.onCurationCreated(curator.getMemberId());
+        }
+        likeCuration(curations.get(0), 3);
+        likeCuration(curations.get(1), 1);
+
+        // 좋아요 1개가 달린 큐레이션 삭제
+        curations.get(1).setCurationStatus(Curation.CurationStatus.CURATION_DELETE);
+        memberStatsService.onCurationDeleted(curator.getMemberId(),
+                curationRepository.findLikeCount(curations.get(1).getCurationId()));
+        em.flush();
+
+        MemberStats incremental = stats(curator);
+        assertThat(incremental.getSubscriberCount()).isEqualTo(4);
+        assertThat(incremental.getCurationCount()).isEqualTo(2);
+        assertThat(incremental.getLikeReceivedCount()).isEqualTo(3);
+
+        reconciler.reconcile();
+        MemberStats recomputed = stats(curator);
+        assertThat(recomputed.getSubscriberCount()).isEqualTo(incremental.getSubscriberCount());
+        assertThat(recomputed.getCurationCount()).isEqualTo(incremental.getCurationCount());
+        assertThat(recomputed.getLikeReceivedCount()).isEqualTo(incremental.getLikeReceivedCount());
+    }
+
+    @Test
+    void reconcilerFixesDriftAndMissingRows() {
+        for (Member subscriber : subscribers.subList(0, 2)) {
+            subscribeService.createSubscribe(curator.getMemberId(), subscriber.getEmail());
+        }
+        persistCuration(curator);
+        em.flush();
+
+        // 증감이 유실된 상태 + 통계 행이 없는 회원
+        jdbcTemplate.update("update member_stats set subscriber_count = 100, curation_count = 0 where member_id = ?",
+                curator.getMemberId());
+        jdbcTemplate.update("delete from member_stats where member_id = ?", subscribers.get(4).getMemberId());
+
+        reconciler.reconcile();
+
+        MemberStats stats = stats(curator);
+        assertThat(stats.getSubscriberCount()).isEqualTo(2);
+        assertThat(stats.getCurationCount()).isEqualTo(1);
+        assertThat(memberStatsRepository.existsById(subscribers.get(4).getMemberId())).isTrue();
+    }
+
+    @Test
+    void bestCuratorsAreOrderedBySubscriberCount() {
+        subscribeService.createSubscribe(curator.getMemberId(), subscribers.get(0).getEmail());
+        subscribeService.createSubscribe(curator.getMemberId(), subscribers.get(1).getEmail());
+        subscribeService.createSubscribe(subscribers.get(2).getMemberId(), subscribers.get(0).getEmail());
+        em.clear();
+
+        List<BestCuratorDto> bestCurators = memberStatsRepository.findBestCurators(PageRequest.of(0, 2)).getContent();
+
+        assertThat(bestCurators).extracting(BestCuratorDto::getMemberId)
+                .containsExactly(curator.getMemberId(), subscribers.get(2).getMemberId());
+        assertThat(bestCurators).extracting(BestCuratorDto::getMySubscriber).containsExactly(2, 1);
+        assertThat(memberStatsRepository.findTopSubscribedMembers(PageRequest.of(0, 1)))
+                .extracting(AdminMemberDto::getMemberId).containsExactly(curator.getMemberId());
+    }
+
+    //좋아요 수 버퍼를 사용하지 않는 경우와 같이 큐레이션 좋아요 수와 작성자 통계를 함께 반영
+    private void likeCuration(Curation curation, int likes) {
+        for (int i = 0; i < likes; i++) {
+            curationRepository.increaseLikeCount(curation.getCurationId());
+            memberStatsService.onLikeCountChanged(curation.getCurationId(), 1);
+        }
+    }
+
+    private MemberStats stats(Member member) {
+        em.clear();
+        return memberStatsRepository.findById(member.getMemberId()).orElseThrow();
+    }
+
+    private Member persistMember(String nickname) {
+        Member member = new Member(nickname + "@email.com", nickname, null);
+        member.setPassword("password");
+        member.setRoles(List.of("USER"));
+        em.persist(member);
+        memberStatsService.createStats(member);
+        return member;
+    }
+
+    private Curation persistCuration(Member member) {
+        Curation curation = new Curation();
+        curation.setEmoji("📚");
+        curation.setTitle("title");
+        curation.setContent("content");
+        curation.setMember(member);
+        curation.setCategory(category);
+        em.persist(curation);
+        return curation;
+    }
+}
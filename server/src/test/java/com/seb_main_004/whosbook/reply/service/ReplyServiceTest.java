@@ -0,0 +1,161 @@
+package com.seb_main_004.whosbook.reply.service;
+
+import com.seb_main_004.whosbook.curation.category.Category;
+import com.seb_main_004.whosbook.curation.entity.Curation;
+import com.seb_main_004.whosbook.curation.ranking.CurationRankingService;
+import com.seb_main_004.whosbook.exception.BusinessLogicException;
+import com.seb_main_004.whosbook.exception.ExceptionCode;
+import com.seb_main_004.whosbook.member.entity.Member;
+import com.seb_main_004.whosbook.member.service.MemberService;
+import com.seb_main_004.whosbook.reply.dto.ReplyListQueryDto;
+import com.seb_main_004.whosbook.reply.dto.ReplyPostDto;
+import com.seb_main_004.whosbook.reply.entity.Reply;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+//댓글 목록 : 작성자를 조인한 프로젝션 한 번으로 조회하는지, (작성 시각, 댓글 id) 커서로 빠짐없이 이어지는지 확인
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ReplyService.class)
+class ReplyServiceTest {
+
+    @Autowired
+    private ReplyService replyService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private MemberService memberService;
+
+    @MockBean
+    private CurationRankingService curationRankingService;
+
+    private Statistics statistics;
+
+    private Curation curation;
+
+    private List<Long> replyIds;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Category category = new Category("소설");
+        em.persist(category);
+        Member curator = persistMember("curator");
+
+        curation = new Curation();
+        curation.setEmoji("📚");
+        curation.setTitle("title");
+        curation.setContent("content");
+        curation.setMember(curator);
+        curation.setCategory(category);
+        em.persist(curation);
+
+        // 작성자가 모두 다른 댓글 5건, 그 중 3건은 작성 시각이 같음
+        LocalDateTime base = LocalDateTime.of(2023, 7, 1, 12, 0);
+        replyIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            replyIds.add(persistReply(persistMember("member" + i), base.plusMinutes(Math.min(i, 2))).getReplyId());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void repliesAreListedWithAuthorsInOneQuery() {
+        statistics.clear();
+
+        Page<ReplyListQueryDto> page = replyService.getReplyList(0, 10, curation.getCurationId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(ReplyListQueryDto::getReplyId)
+                .containsExactly(replyIds.get(4), replyIds.get(3), replyIds.get(2), replyIds.get(1), replyIds.get(0));
+        assertThat(page.getContent().get(0).getNickname()).isEqualTo("member4");
+        assertThat(page.getContent().get(0).getCreatedAt()).isEqualTo(LocalDateTime.of(2023, 7, 1, 21, 2));
+    }
+
+    @Test
+    void cursorContinuesAcrossRepliesWithSameCreatedAt() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            Slice<ReplyListQueryDto> slice = replyService.getReplyListByCursor(curation.getCurationId(), cursor, 2);
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+            slice.forEach(reply -> seen.add(reply.getReplyId()));
+            cursor = replyService.getNextCursor(slice);
+        } while (cursor != null);
+
+        assertThat(seen).containsExactly(
+                replyIds.get(4), replyIds.get(3), replyIds.get(2), replyIds.get(1), replyIds.get(0));
+    }
+
+    @Test
+    void replyCountFollowsCreateAndDelete() {
+        Member writer = persistMember("writer");
+        given(memberService.getMemberReference(any())).willReturn(writer);
+
+        ReplyPostDto postDto = new ReplyPostDto();
+        postDto.setContent("new reply");
+        Reply first = replyService.createReply(postDto, writer.getEmail(), curation);
+        replyService.createReply(postDto, writer.getEmail(), curation);
+        replyService.deleteReply(first.getReplyId(), writer.getEmail());
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(Curation.class, curation.getCurationId()).getReplyCount()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownCurationIsNotFound() {
+        assertThatThrownBy(() -> replyService.getReplyListByCursor(Long.MAX_VALUE - 1, null, 10))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode").isEqualTo(ExceptionCode.CURATION_NOT_FOUND);
+    }
+
+    private Reply persistReply(Member member, LocalDateTime createdAt) {
+        Reply reply = new Reply();
+        reply.setContent("reply");
+        reply.setMember(member);
+        reply.setCuration(curation);
+        reply.setCreatedAt(createdAt);
+        reply.setUpdatedAt(createdAt);
+        em.persist(reply);
+        return reply;
+    }
+
+    private Member persistMember(String nickname) {
+        Member member = new Member(nickname + "@email.com", nickname, null);
+        member.setPassword("password");
+        member.setRoles(List.of("USER"));
+        em.persist(member);
+        return member;
+    }
+}